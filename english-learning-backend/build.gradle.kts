@@ -9,7 +9,7 @@ version = "0.0.1-SNAPSHOT"
 
 java {
     toolchain {
-        languageVersion = JavaLanguageVersion.of(17)
+        languageVersion = JavaLanguageVersion.of(21)
     }
 }
 
@@ -23,20 +23,83 @@ repositories {
     mavenCentral()
 }
 
+val jmh: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+val loadTest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations {
+    named("jmhImplementation") {
+        extendsFrom(configurations.implementation.get())
+    }
+    named("jmhRuntimeOnly") {
+        extendsFrom(configurations.runtimeOnly.get())
+    }
+    named("loadTestImplementation") {
+        extendsFrom(configurations.implementation.get())
+    }
+    named("loadTestRuntimeOnly") {
+        extendsFrom(configurations.runtimeOnly.get())
+    }
+}
+
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.flywaydb:flyway-core")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile")
     implementation("org.flywaydb:flyway-mysql")
     compileOnly("org.projectlombok:lombok")
     developmentOnly("org.springframework.boot:spring-boot-devtools")
     runtimeOnly("com.mysql:mysql-connector-j")
+    runtimeOnly("org.hibernate.orm:hibernate-micrometer")
+    runtimeOnly("io.micrometer:micrometer-registry-prometheus")
     annotationProcessor("org.projectlombok:lombok")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testRuntimeOnly("com.h2database:h2")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
+    "jmhImplementation"("org.openjdk.jmh:jmh-core:1.37")
+    "jmhAnnotationProcessor"("org.openjdk.jmh:jmh-generator-annprocess:1.37")
+    "jmhRuntimeOnly"("com.h2database:h2")
+    "loadTestImplementation"("org.hdrhistogram:HdrHistogram:2.2.2")
+    "loadTestRuntimeOnly"("com.h2database:h2")
 }
 
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+tasks.register<JavaExec>("jmh") {
+    description = "Runs the JMH benchmarks and writes results to build/reports/jmh/results.json."
+    group = "verification"
+    classpath = jmh.runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    val results = layout.buildDirectory.file("reports/jmh/results.json")
+    outputs.file(results)
+    outputs.upToDateWhen { false }
+    doFirst {
+        results.get().asFile.parentFile.mkdirs()
+    }
+    args("-rf", "json", "-rff", results.get().asFile.absolutePath)
+    providers.gradleProperty("jmhArgs").orNull?.let { args(it.split(" ")) }
+}
+
+tasks.register<JavaExec>("loadTest") {
+    description = "Boots the app on H2 with the Flyway migrations, drives a Zipf request mix and fails on latency budget misses."
+    group = "verification"
+    classpath = loadTest.runtimeClasspath
+    mainClass = "com.example.englishlearningbackend.loadtest.LoadTest"
+    val results = layout.buildDirectory.file("reports/loadtest/results.json")
+    outputs.file(results)
+    outputs.upToDateWhen { false }
+    args("--report=" + results.get().asFile.absolutePath)
+    providers.gradleProperty("loadTestArgs").orNull?.let { args(it.split(" ")) }
+}
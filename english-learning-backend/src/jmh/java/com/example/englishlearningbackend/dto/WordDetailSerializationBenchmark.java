@@ -0,0 +1,65 @@
+package com.example.englishlearningbackend.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes the word detail response body with an {@link ObjectMapper} configured like the one
+ * Spring MVC uses, in each encoding the controller can negotiate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WordDetailSerializationBenchmark {
+
+    @Param({"10", "1000"})
+    int childrenPerWord;
+
+    @Param({"json", "cbor", "smile"})
+    String format;
+
+    private ObjectWriter writer;
+    private WordDetailDto detail;
+
+    @Setup
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            default -> Jackson2ObjectMapperBuilder.json();
+        };
+        writer = builder.build().writerFor(WordDetailDto.class);
+        List<MeaningDto> meanings = new ArrayList<>();
+        List<SentenceDto> sentences = new ArrayList<>();
+        for (int i = 0; i < childrenPerWord; i++) {
+            meanings.add(new MeaningDto((long) i, "(~에) 잠시 들르다 " + i));
+            sentences.add(new SentenceDto((long) i, "Can you stop by the store on your way home? " + i,
+                    "집에 오는 길에 가게에 들러줄래요? " + i));
+        }
+        detail = new WordDetailDto(1L, "Stop by", true, meanings, sentences);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return writer.writeValueAsBytes(detail);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.englishlearningbackend.index;
+
+import com.example.englishlearningbackend.dto.WordSummaryDto;
+import com.example.englishlearningbackend.dto.WordSuggestionDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups against the in-memory structures that serve suggest, search, fuzzy, quiz and news tagging
+ * requests, built from a synthetic vocabulary of the given size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IndexLookupBenchmark {
+    private static final String[] PARTICLES = {"by", "in", "out", "up", "over", "off", "across", "through"};
+
+    @Param({"10000", "100000"})
+    int words;
+
+    private String[] vocabulary;
+    private WordPrefixIndex prefixIndex;
+    private InvertedIndex invertedIndex;
+    private BkTree bkTree;
+    private QuizPool quizPool;
+    private AhoCorasick tagger;
+    private PhrasalVerbMatcher phrasalVerbs;
+    private String article;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        vocabulary = new String[words];
+        List<WordSummaryDto> summaries = new ArrayList<>(words);
+        prefixIndex = new WordPrefixIndex();
+        invertedIndex = new InvertedIndex();
+        bkTree = new BkTree();
+        QuizPool.Builder quiz = QuizPool.builder();
+        AhoCorasick.Builder tags = AhoCorasick.builder();
+        PhrasalVerbMatcher.Builder phrasals = PhrasalVerbMatcher.builder(3);
+        for (int i = 0; i < words; i++) {
+            boolean phrasal = i % 3 == 0;
+            String word = randomToken(random) + (phrasal ? " " + PARTICLES[i % PARTICLES.length] : "");
+            vocabulary[i] = word;
+            summaries.add(new WordSummaryDto((long) i, word, phrasal));
+            invertedIndex.put(i, "Can you " + word + " the " + randomToken(random) + " before " + randomToken(random) + "?");
+            bkTree.add(i, word);
+            tags.add(i, word);
+            if (phrasal) {
+                phrasals.add(i, word);
+            }
+            quiz.word(i, word, phrasal)
+                    .meaning(i, "뜻 " + randomToken(random))
+                    .sentence(i, i);
+        }
+        prefixIndex.rebuild(summaries);
+        quizPool = quiz.build();
+        tagger = tags.build();
+        phrasalVerbs = phrasals.build();
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            text.append(i % 4 == 0 ? vocabulary[random.nextInt(words)] : randomToken(random)).append(i % 20 == 19 ? ". " : " ");
+        }
+        article = text.toString();
+    }
+
+    @Benchmark
+    public List<WordSuggestionDto> prefixSuggest() {
+        String word = randomWord();
+        return prefixIndex.suggest(word.substring(0, Math.min(3, word.length())), 10);
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit> fullTextSearch() {
+        return invertedIndex.search(randomWord(), 20);
+    }
+
+    @Benchmark
+    public List<BkTree.Match> fuzzyLookup() {
+        String word = randomWord();
+        return bkTree.search(word.substring(1), 2, 5);
+    }
+
+    @Benchmark
+    public List<String> quizDistractors() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return quizPool.distractorMeanings(quizPool.randomWord(null, random), 3, random);
+    }
+
+    @Benchmark
+    public List<AhoCorasick.Match> articleTagging() {
+        return tagger.findAll(article);
+    }
+
+    @Benchmark
+    public List<AhoCorasick.Match> articlePhrasalVerbs() {
+        return phrasalVerbs.findAll(article);
+    }
+
+    private String randomWord() {
+        return vocabulary[ThreadLocalRandom.current().nextInt(words)];
+    }
+
+    private static String randomToken(Random random) {
+        char[] chars = new char[4 + random.nextInt(7)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.EnglishLearningBackendApplication;
+import com.example.englishlearningbackend.dto.WordDetailDto;
+import com.example.englishlearningbackend.dto.WordPageDto;
+import com.example.englishlearningbackend.dto.WordSummaryDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Word detail lookups against an embedded H2 in MySQL mode, standing in for the production
+ * database. {@code cached} goes through {@link WordService} as the controller does, with the cache
+ * pre-filled so it measures the hit path; {@code uncached} hits the three detail queries every time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WordLookupBenchmark {
+
+    @Param("5000")
+    int words;
+
+    @Param({"5", "50"})
+    int childrenPerWord;
+
+    private ConfigurableApplicationContext context;
+    private WordService wordService;
+    private WordDetailLoader wordDetailLoader;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        Path dataDir = Files.createTempDirectory("word-lookup-benchmark");
+        context = new SpringApplicationBuilder(EnglishLearningBackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:word-lookup;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.flyway.enabled=false",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--search.index.path=" + dataDir.resolve("search-index.bin"),
+                        "--snapshot.path=" + dataDir.resolve("dictionary-snapshot.bin"),
+                        "--snapshot.warm-start=false");
+        context.getBean(ImportService.class).importJsonLines(new ByteArrayInputStream(records()));
+        wordService = context.getBean(WordService.class);
+        wordDetailLoader = context.getBean(WordDetailLoader.class);
+        warmCache(context.getBean(WordDetailCache.class));
+    }
+
+    private void warmCache(WordDetailCache cache) {
+        WordPageDto page = wordService.getWords(0, WordService.MAX_PAGE_SIZE);
+        while (!page.items().isEmpty()) {
+            wordDetailLoader.loadAll(page.items().stream().map(WordSummaryDto::id).toList()).values().forEach(cache::put);
+            if (page.nextCursor() == null) {
+                break;
+            }
+            page = wordService.getWords(page.nextCursor(), WordService.MAX_PAGE_SIZE);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<WordDetailDto> cached() {
+        return wordService.getWordWithDetails(randomWord());
+    }
+
+    @Benchmark
+    public Optional<WordDetailDto> uncached() {
+        return wordDetailLoader.load(randomWord());
+    }
+
+    private String randomWord() {
+        return "word " + ThreadLocalRandom.current().nextInt(words);
+    }
+
+    private byte[] records() {
+        StringBuilder json = new StringBuilder();
+        for (int w = 0; w < words; w++) {
+            json.append("{\"word\":\"word ").append(w).append("\",\"phrasalVerb\":").append(w % 3 == 0)
+                    .append(",\"meanings\":[");
+            for (int m = 0; m < childrenPerWord; m++) {
+                json.append(m == 0 ? "" : ",").append("\"meaning ").append(w).append('-').append(m).append('"');
+            }
+            json.append("],\"sentences\":[");
+            for (int s = 0; s < childrenPerWord; s++) {
+                json.append(s == 0 ? "" : ",").append("{\"sentence\":\"Sentence ").append(w).append('-').append(s)
+                        .append(" uses the word.\",\"translatedSentence\":\"번역 ").append(w).append('-').append(s)
+                        .append("\"}");
+            }
+            json.append("]}\n");
+        }
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.englishlearningbackend.loadtest;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.ResourceProvider;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Runs the production migrations against H2 in MySQL mode. The few scripts whose MySQL-only syntax
+ * H2 cannot parse (multi-table DELETE, SHA2 generated columns, trigger bodies) are swapped for the
+ * same-named H2 versions under {@code db/h2}; every other script is applied as shipped.
+ */
+@Configuration(proxyBeanMethods = false)
+public class H2MigrationOverrides {
+    private static final String MIGRATIONS = "db/migration";
+    private static final String OVERRIDES = "db/h2";
+
+    @Bean
+    public FlywayConfigurationCustomizer h2MigrationResources() {
+        return configuration -> configuration.resourceProvider(new OverridingResourceProvider(scan(MIGRATIONS), scan(OVERRIDES)));
+    }
+
+    private static Map<String, Resource> scan(String location) {
+        try {
+            Map<String, Resource> resources = new TreeMap<>();
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources("classpath*:" + location + "/*.sql")) {
+                resources.put(resource.getFilename(), resource);
+            }
+            return resources;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record OverridingResourceProvider(Map<String, Resource> migrations, Map<String, Resource> overrides)
+            implements ResourceProvider {
+
+        @Override
+        public LoadableResource getResource(String name) {
+            String filename = name.substring(name.lastIndexOf('/') + 1);
+            return migrations.containsKey(filename) ? load(filename) : null;
+        }
+
+        @Override
+        public Collection<LoadableResource> getResources(String prefix, String[] suffixes) {
+            return migrations.keySet().stream()
+                    .filter(filename -> filename.startsWith(prefix) && Arrays.stream(suffixes).anyMatch(filename::endsWith))
+                    .map(this::load)
+                    .toList();
+        }
+
+        private LoadableResource load(String filename) {
+            return new SpringResource(MIGRATIONS + "/" + filename, overrides.getOrDefault(filename, migrations.get(filename)));
+        }
+    }
+
+    private static class SpringResource extends LoadableResource {
+        private final String path;
+        private final Resource resource;
+
+        SpringResource(String path, Resource resource) {
+            this.path = path;
+            this.resource = resource;
+        }
+
+        @Override
+        public Reader read() {
+            try {
+                return new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new FlywayException("Unable to read " + resource.getDescription(), e);
+            }
+        }
+
+        @Override
+        public String getAbsolutePath() {
+            return path;
+        }
+
+        @Override
+        public String getAbsolutePathOnDisk() {
+            return resource.getDescription();
+        }
+
+        @Override
+        public String getFilename() {
+            return resource.getFilename();
+        }
+
+        @Override
+        public String getRelativePath() {
+            return path;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.englishlearningbackend.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends a Zipf-distributed mix of word detail and word page requests from a fixed number of
+ * workers, each on its own virtual thread with its own histograms, merged when the run ends.
+ */
+public class LoadDriver {
+    public enum Endpoint {
+        WORD_DETAIL("/words/{word}"),
+        WORD_PAGE("/words");
+
+        private final String path;
+
+        Endpoint(String path) {
+            this.path = path;
+        }
+
+        public String path() {
+            return path;
+        }
+    }
+
+    public record Result(long requests, long errors, Duration elapsed, Histogram latencyMicros) {
+    }
+
+    private final HttpClient client;
+    private final LoadTestOptions options;
+    private final URI[] detailUris;
+    private final int pages;
+    private final URI base;
+    private final ZipfSampler wordRanks;
+    private final ZipfSampler pageRanks;
+
+    public LoadDriver(HttpClient client, URI base, SyntheticDictionary dictionary, LoadTestOptions options) {
+        this.client = client;
+        this.base = base;
+        this.options = options;
+        this.detailUris = new URI[dictionary.size()];
+        for (int rank = 0; rank < detailUris.length; rank++) {
+            String word = URLEncoder.encode(dictionary.wordAtRank(rank), StandardCharsets.UTF_8).replace("+", "%20");
+            detailUris[rank] = base.resolve("/words/" + word);
+        }
+        this.pages = (dictionary.size() + options.pageSize() - 1) / options.pageSize();
+        this.wordRanks = new ZipfSampler(detailUris.length, options.zipfExponent());
+        this.pageRanks = new ZipfSampler(pages, options.zipfExponent());
+    }
+
+    public Map<Endpoint, Result> run(Duration duration, long seed) {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        long period = options.rate() > 0 ? (long) (options.workers() * 1e9 / options.rate()) : 0;
+        List<Worker> workers = new ArrayList<>(options.workers());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.workers(); i++) {
+                Worker worker = new Worker(new SplittableRandom(seed + i), start + period * i / options.workers(), deadline, period);
+                workers.add(worker);
+                executor.execute(worker);
+            }
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        Map<Endpoint, Result> results = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            Histogram merged = new Histogram(3);
+            long requests = 0;
+            long errors = 0;
+            for (Worker worker : workers) {
+                merged.add(worker.latencies[endpoint.ordinal()]);
+                requests += worker.requests[endpoint.ordinal()];
+                errors += worker.errors[endpoint.ordinal()];
+            }
+            results.put(endpoint, new Result(requests, errors, elapsed, merged));
+        }
+        return results;
+    }
+
+    private class Worker implements Runnable {
+        private final SplittableRandom random;
+        private final long firstStart;
+        private final long deadline;
+        private final long period;
+        private final Histogram[] latencies = {new Histogram(3), new Histogram(3)};
+        private final long[] requests = new long[2];
+        private final long[] errors = new long[2];
+
+        Worker(SplittableRandom random, long firstStart, long deadline, long period) {
+            this.random = random;
+            this.firstStart = firstStart;
+            this.deadline = deadline;
+            this.period = period;
+        }
+
+        @Override
+        public void run() {
+            long intended = firstStart;
+            while (true) {
+                long now = System.nanoTime();
+                if (period == 0) {
+                    intended = now;
+                } else if (intended > now) {
+                    LockSupport.parkNanos(intended - now);
+                }
+                if (intended >= deadline) {
+                    return;
+                }
+                Endpoint endpoint = random.nextDouble() < options.detailRatio() ? Endpoint.WORD_DETAIL : Endpoint.WORD_PAGE;
+                URI uri = endpoint == Endpoint.WORD_DETAIL
+                        ? detailUris[wordRanks.sample(random)]
+                        : base.resolve("/words?limit=" + options.pageSize() + "&after=" + (long) pageRanks.sample(random) * options.pageSize());
+                boolean ok = send(uri);
+                latencies[endpoint.ordinal()].recordValue(Math.max(1, (System.nanoTime() - intended) / 1000));
+                requests[endpoint.ordinal()]++;
+                if (!ok) {
+                    errors[endpoint.ordinal()]++;
+                }
+                intended += period;
+            }
+        }
+
+        private boolean send(URI uri) {
+            try {
+                HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.discarding());
+                return response.statusCode() == 200;
+            } catch (IOException e) {
+                return false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
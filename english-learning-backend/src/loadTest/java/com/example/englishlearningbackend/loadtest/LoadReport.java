@@ -0,0 +1,72 @@
+package com.example.englishlearningbackend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Throughput and latency percentiles per endpoint, checked against the configured budgets.
+ */
+public record LoadReport(LoadTestOptions options, List<Row> endpoints, List<String> violations) {
+
+    public record Row(String endpoint, long requests, long errors, double throughput,
+                      double p50Millis, double p99Millis, double p999Millis, double maxMillis) {
+    }
+
+    public static LoadReport of(LoadTestOptions options, Map<LoadDriver.Endpoint, LoadDriver.Result> results) {
+        List<Row> rows = new ArrayList<>();
+        List<String> violations = new ArrayList<>();
+        results.forEach((endpoint, result) -> {
+            if (result.requests() == 0) {
+                return;
+            }
+            Row row = new Row(endpoint.path(), result.requests(), result.errors(),
+                    result.requests() * 1e9 / result.elapsed().toNanos(),
+                    percentile(result, 50), percentile(result, 99), percentile(result, 99.9),
+                    result.latencyMicros().getMaxValue() / 1000.0);
+            rows.add(row);
+            check(violations, row, "p50", row.p50Millis(), options.budgetP50());
+            check(violations, row, "p99", row.p99Millis(), options.budgetP99());
+            check(violations, row, "p99.9", row.p999Millis(), options.budgetP999());
+            double errorRate = (double) row.errors() / row.requests();
+            if (errorRate > options.maxErrorRate()) {
+                violations.add(String.format("%s error rate %.4f exceeds %.4f", row.endpoint(), errorRate, options.maxErrorRate()));
+            }
+        });
+        return new LoadReport(options, rows, violations);
+    }
+
+    private static double percentile(LoadDriver.Result result, double percentile) {
+        return result.latencyMicros().getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static void check(List<String> violations, Row row, String name, double millis, Duration budget) {
+        if (millis > budget.toNanos() / 1e6) {
+            violations.add(String.format("%s %s %.2f ms exceeds budget %d ms", row.endpoint(), name, millis, budget.toMillis()));
+        }
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%-16s %10s %8s %10s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Row row : endpoints) {
+            out.printf("%-16s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f%n", row.endpoint(), row.requests(), row.errors(),
+                    row.throughput(), row.p50Millis(), row.p99Millis(), row.p999Millis(), row.maxMillis());
+        }
+        violations.forEach(v -> out.println("BUDGET EXCEEDED: " + v));
+    }
+
+    public void write(ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(options.report().toAbsolutePath().getParent());
+        objectMapper.copy()
+                .disable(SerializationFeature.WRITE_DURATIONS_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(options.report().toFile(), this);
+    }
+}
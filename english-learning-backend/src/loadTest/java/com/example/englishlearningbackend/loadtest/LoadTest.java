@@ -0,0 +1,68 @@
+package com.example.englishlearningbackend.loadtest;
+
+import com.example.englishlearningbackend.EnglishLearningBackendApplication;
+import com.example.englishlearningbackend.dto.ImportResultDto;
+import com.example.englishlearningbackend.service.ImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Headless load test: boots the app on an in-memory H2 in MySQL mode with the Flyway migrations
+ * applied, imports a synthetic dictionary, warms up, measures, and exits with status 1 when a
+ * latency budget or the error budget is exceeded. Run it with {@code gradle loadTest
+ * -PloadTestArgs="--words=50000 --duration=60s --budget-p99=30ms"}.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        LoadReport report;
+        Path dataDir = Files.createTempDirectory("load-test");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EnglishLearningBackendApplication.class, H2MigrationOverrides.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:load-test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=none",
+                        "--logging.level.root=WARN",
+                        "--search.index.path=" + dataDir.resolve("search-index.bin"),
+                        "--snapshot.path=" + dataDir.resolve("dictionary-snapshot.bin"),
+                        "--study-events.spill-path=" + dataDir.resolve("study-events"),
+                        "--snapshot.warm-start=false")) {
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            SyntheticDictionary dictionary = new SyntheticDictionary(options.words(), options.meaningsPerWord(),
+                    options.sentencesPerWord(), options.seed());
+            ImportResultDto imported = context.getBean(ImportService.class).importJsonLines(dictionary.records(objectMapper));
+            System.out.printf("Imported %d words, %d meanings, %d sentences in %d ms%n",
+                    imported.words(), imported.meanings(), imported.sentences(), imported.elapsedMillis());
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            LoadDriver driver = new LoadDriver(client, URI.create("http://localhost:" + port), dictionary, options);
+            System.out.printf("Warming up for %s with %d workers%n", options.warmup(), options.workers());
+            driver.run(options.warmup(), options.seed());
+            System.out.printf("Measuring for %s%n", options.duration());
+            report = LoadReport.of(options, driver.run(options.duration(), options.seed() + options.workers()));
+            report.print(System.out);
+            report.write(objectMapper);
+            System.out.println("Report written to " + options.report().toAbsolutePath());
+        }
+        System.exit(report.violations().isEmpty() ? 0 : 1);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.englishlearningbackend.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command-line options, given as {@code --name=value}. A {@code rate} of 0 runs closed-loop, each
+ * worker sending its next request as soon as the previous one returns; a positive rate paces
+ * requests and measures latency from their scheduled start, so queueing delay is not hidden.
+ */
+public record LoadTestOptions(int words,
+                              int meaningsPerWord,
+                              int sentencesPerWord,
+                              long seed,
+                              double zipfExponent,
+                              int workers,
+                              double rate,
+                              Duration warmup,
+                              Duration duration,
+                              double detailRatio,
+                              int pageSize,
+                              Duration budgetP50,
+                              Duration budgetP99,
+                              Duration budgetP999,
+                              double maxErrorRate,
+                              Path report) {
+
+    private static final Map<String, String> DEFAULTS = Map.ofEntries(
+            Map.entry("words", "20000"),
+            Map.entry("meanings-per-word", "3"),
+            Map.entry("sentences-per-word", "3"),
+            Map.entry("seed", "42"),
+            Map.entry("zipf-exponent", "1.0"),
+            Map.entry("workers", "32"),
+            Map.entry("rate", "0"),
+            Map.entry("warmup", "10s"),
+            Map.entry("duration", "30s"),
+            Map.entry("detail-ratio", "0.9"),
+            Map.entry("page-size", "100"),
+            Map.entry("budget-p50", "5ms"),
+            Map.entry("budget-p99", "50ms"),
+            Map.entry("budget-p999", "200ms"),
+            Map.entry("max-error-rate", "0"),
+            Map.entry("report", "build/reports/loadtest/results.json"));
+    private static final Set<String> NAMES = DEFAULTS.keySet();
+
+    public static LoadTestOptions parse(String... args) {
+        Map<String, String> values = new HashMap<>(DEFAULTS);
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            String name = arg.startsWith("--") && eq > 2 ? arg.substring(2, eq) : null;
+            if (name == null || !NAMES.contains(name)) {
+                throw new IllegalArgumentException("Unknown option " + arg + "; expected --name=value with name in " + NAMES);
+            }
+            values.put(name, arg.substring(eq + 1));
+        }
+        LoadTestOptions options = new LoadTestOptions(
+                Integer.parseInt(values.get("words")),
+                Integer.parseInt(values.get("meanings-per-word")),
+                Integer.parseInt(values.get("sentences-per-word")),
+                Long.parseLong(values.get("seed")),
+                Double.parseDouble(values.get("zipf-exponent")),
+                Integer.parseInt(values.get("workers")),
+                Double.parseDouble(values.get("rate")),
+                DurationStyle.detectAndParse(values.get("warmup")),
+                DurationStyle.detectAndParse(values.get("duration")),
+                Double.parseDouble(values.get("detail-ratio")),
+                Integer.parseInt(values.get("page-size")),
+                DurationStyle.detectAndParse(values.get("budget-p50")),
+                DurationStyle.detectAndParse(values.get("budget-p99")),
+                DurationStyle.detectAndParse(values.get("budget-p999")),
+                Double.parseDouble(values.get("max-error-rate")),
+                Path.of(values.get("report")));
+        if (options.words() < 1 || options.workers() < 1 || options.pageSize() < 1 || options.duration().isZero()) {
+            throw new IllegalArgumentException("words, workers, page-size and duration must be positive");
+        }
+        return options;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.englishlearningbackend.loadtest;
+
+import com.example.englishlearningbackend.dto.ImportRecordDto;
+import com.example.englishlearningbackend.dto.ImportSentenceDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * A reproducible dictionary of random words, every third one a phrasal verb, with unique meanings
+ * and sentences. Popularity ranks are a seeded shuffle of the words, so the hot set is spread over
+ * the id range rather than clustered at the start of the table.
+ */
+public class SyntheticDictionary {
+    private static final String[] PARTICLES = {"by", "in", "out", "up", "over", "off", "across", "through"};
+
+    private final List<String> words;
+    private final int[] byRank;
+    private final int meaningsPerWord;
+    private final int sentencesPerWord;
+    private final long seed;
+
+    public SyntheticDictionary(int size, int meaningsPerWord, int sentencesPerWord, long seed) {
+        this.meaningsPerWord = meaningsPerWord;
+        this.sentencesPerWord = sentencesPerWord;
+        this.seed = seed;
+        Random random = new Random(seed);
+        Set<String> seen = new HashSet<>();
+        words = new ArrayList<>(size);
+        while (words.size() < size) {
+            String word = token(random) + (words.size() % 3 == 0 ? " " + PARTICLES[random.nextInt(PARTICLES.length)] : "");
+            if (seen.add(word)) {
+                words.add(word);
+            }
+        }
+        byRank = new int[size];
+        for (int i = 0; i < size; i++) {
+            int j = random.nextInt(i + 1);
+            byRank[i] = byRank[j];
+            byRank[j] = i;
+        }
+    }
+
+    public int size() {
+        return words.size();
+    }
+
+    public String wordAtRank(int rank) {
+        return words.get(byRank[rank]);
+    }
+
+    /**
+     * The dictionary as the NDJSON accepted by {@code ImportService}, produced one record at a time.
+     */
+    public InputStream records(ObjectMapper objectMapper) {
+        Random random = new Random(seed + 1);
+        return new SequenceInputStream(new Enumeration<>() {
+            private int next;
+
+            @Override
+            public boolean hasMoreElements() {
+                return next < words.size();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                try {
+                    byte[] json = objectMapper.writeValueAsBytes(record(words.get(next++), random));
+                    byte[] line = new byte[json.length + 1];
+                    System.arraycopy(json, 0, line, 0, json.length);
+                    line[json.length] = '\n';
+                    return new ByteArrayInputStream(line);
+                } catch (JsonProcessingException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+    }
+
+    private ImportRecordDto record(String word, Random random) {
+        List<String> meanings = new ArrayList<>(meaningsPerWord);
+        for (int m = 0; m < meaningsPerWord; m++) {
+            meanings.add("뜻 " + m + " " + word);
+        }
+        List<ImportSentenceDto> sentences = new ArrayList<>(sentencesPerWord);
+        for (int s = 0; s < sentencesPerWord; s++) {
+            sentences.add(new ImportSentenceDto("Can you " + word + " the " + token(random) + " before " + token(random) + "? (" + s + ")",
+                    "번역 " + s + " " + word));
+        }
+        return new ImportRecordDto(word, word.indexOf(' ') > 0, meanings, sentences);
+    }
+
+    private static String token(Random random) {
+        char[] chars = new char[4 + random.nextInt(7)];
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = (char) ('a' + random.nextInt(26));
+        }
+        return new String(chars);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.englishlearningbackend.loadtest;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Draws ranks {@code 0..n-1} with probability proportional to {@code 1 / (rank + 1)^exponent},
+ * by binary search over the precomputed cumulative distribution.
+ */
+public class ZipfSampler {
+    private final double[] cdf;
+
+    public ZipfSampler(int n, double exponent) {
+        cdf = new double[n];
+        double sum = 0;
+        for (int rank = 0; rank < n; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cdf[rank] = sum;
+        }
+        for (int rank = 0; rank < n; rank++) {
+            cdf[rank] /= sum;
+        }
+    }
+
+    public int sample(RandomGenerator random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cdf.length - 1);
+    }
+}
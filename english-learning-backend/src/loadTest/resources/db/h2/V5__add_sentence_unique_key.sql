@@ -0,0 +1,11 @@
+-- H2 version of the production script: H2 has neither multi-table DELETE nor SHA2/UNHEX, so the
+-- hash column is added first and duplicates are removed by comparing it.
+ALTER TABLE sentence
+    ADD COLUMN sentence_hash BINARY(32) GENERATED ALWAYS AS (HASH('SHA-256', sentence));
+
+DELETE FROM sentence s1
+WHERE EXISTS (SELECT 1 FROM sentence s2
+              WHERE s2.word_id = s1.word_id AND s2.sentence_hash = s1.sentence_hash AND s2.id < s1.id);
+
+ALTER TABLE sentence
+    ADD CONSTRAINT uk_sentence_word_hash UNIQUE (word_id, sentence_hash);
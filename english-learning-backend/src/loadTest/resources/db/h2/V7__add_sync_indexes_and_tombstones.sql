@@ -0,0 +1,13 @@
+-- H2 version of the production script. H2 triggers must be Java classes, so the tombstone triggers
+-- are left out; the load test never deletes content.
+CREATE INDEX idx_word_updated_at_id ON word (updated_at, id);
+CREATE INDEX idx_meaning_updated_at_id ON meaning (updated_at, id);
+CREATE INDEX idx_sentence_updated_at_id ON sentence (updated_at, id);
+
+CREATE TABLE sync_tombstone (
+                                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                entity_type VARCHAR(16) NOT NULL,
+                                entity_id BIGINT NOT NULL,
+                                deleted_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                                INDEX idx_sync_tombstone_deleted_at (deleted_at)
+);
@@ -0,0 +1,45 @@
+package com.example.englishlearningbackend.config;
+
+import com.example.englishlearningbackend.limiter.AdaptiveConcurrencyLimiter;
+import com.example.englishlearningbackend.limiter.ConcurrencyLimitingInterceptor;
+import com.example.englishlearningbackend.limiter.DatabaseLimited;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.util.function.SingletonSupplier;
+
+@Configuration
+@ConditionalOnProperty(prefix = "db.limiter", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DatabaseLimiterConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter databaseLimiter(DatabaseLimiterProperties properties) {
+        return new AdaptiveConcurrencyLimiter(properties.initialLimit(), properties.minLimit(), properties.maxLimit(),
+                properties.maxQueue(), properties.latencyThreshold(), properties.backoffRatio());
+    }
+
+    /**
+     * Ordered just ahead of the transaction advisor, which runs at the lowest precedence, so that
+     * {@link DatabaseLimited} callers wait before their transaction takes a connection.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor databaseLimiterAdvisor(ObjectProvider<AdaptiveConcurrencyLimiter> limiter,
+                                                 ObjectProvider<DatabaseLimiterProperties> properties) {
+        SingletonSupplier<ConcurrencyLimitingInterceptor> interceptor = SingletonSupplier.of(() ->
+                new ConcurrencyLimitingInterceptor(limiter.getObject(), properties.getObject().queueTimeout()));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(DatabaseLimited.class),
+                (MethodInterceptor) invocation -> interceptor.obtain().invoke(invocation));
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return advisor;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.englishlearningbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "db.limiter")
+public record DatabaseLimiterProperties(@DefaultValue("true") boolean enabled,
+                                        @DefaultValue("8") int initialLimit,
+                                        @DefaultValue("2") int minLimit,
+                                        @DefaultValue("20") int maxLimit,
+                                        @DefaultValue("200") int maxQueue,
+                                        @DefaultValue("500ms") Duration queueTimeout,
+                                        @DefaultValue("100ms") Duration latencyThreshold,
+                                        @DefaultValue("0.9") double backoffRatio) {
+}
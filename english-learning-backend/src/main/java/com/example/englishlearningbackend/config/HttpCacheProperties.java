@@ -0,0 +1,20 @@
+package com.example.englishlearningbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.http.CacheControl;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "http.cache")
+public record HttpCacheProperties(@DefaultValue("5m") Duration wordDetailMaxAge,
+                                  @DefaultValue("1m") Duration wordListMaxAge) {
+
+    public CacheControl wordDetail() {
+        return CacheControl.maxAge(wordDetailMaxAge).cachePublic();
+    }
+
+    public CacheControl wordList() {
+        return CacheControl.maxAge(wordListMaxAge).cachePublic();
+    }
+}
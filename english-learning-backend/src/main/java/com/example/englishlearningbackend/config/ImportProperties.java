@@ -0,0 +1,8 @@
+package com.example.englishlearningbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "import")
+public record ImportProperties(@DefaultValue("1000") int batchSize, String file) {
+}
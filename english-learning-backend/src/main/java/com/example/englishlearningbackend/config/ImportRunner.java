@@ -0,0 +1,35 @@
+package com.example.englishlearningbackend.config;
+
+import com.example.englishlearningbackend.service.ImportService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Component
+@ConditionalOnProperty(prefix = "import", name = "file")
+public class ImportRunner implements ApplicationRunner {
+    private final ImportService importService;
+    private final ImportProperties properties;
+
+    public ImportRunner(ImportService importService, ImportProperties properties) {
+        this.importService = importService;
+        this.properties = properties;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path file = Path.of(properties.file());
+        try (InputStream in = Files.newInputStream(file)) {
+            if (file.getFileName().toString().endsWith(".csv")) {
+                importService.importCsv(in);
+            } else {
+                importService.importJsonLines(in);
+            }
+        }
+    }
+}
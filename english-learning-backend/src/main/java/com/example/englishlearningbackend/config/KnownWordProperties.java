@@ -0,0 +1,12 @@
+package com.example.englishlearningbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "known-words.cache")
+public record KnownWordProperties(@DefaultValue("100000") long maxLearners,
+                                  @DefaultValue("10000") long maxContents,
+                                  @DefaultValue("10m") Duration learnerTtl) {
+}
@@ -0,0 +1,77 @@
+package com.example.englishlearningbackend.config;
+
+import com.example.englishlearningbackend.limiter.AdaptiveConcurrencyLimiter;
+import com.example.englishlearningbackend.metrics.RepositoryRowCountInterceptor;
+import com.example.englishlearningbackend.routing.ReplicaLagMonitor;
+import com.example.englishlearningbackend.service.StudyEventService;
+import com.example.englishlearningbackend.service.WordDetailCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder wordDetailCacheMetrics(WordDetailCache wordDetailCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, wordDetailCache.getNativeCache(), "word-detail");
+    }
+
+    @Bean
+    public MeterBinder databaseLimiterMetrics(ObjectProvider<AdaptiveConcurrencyLimiter> limiter) {
+        return registry -> limiter.ifAvailable(l -> {
+            Gauge.builder("db.limiter.limit", l, AdaptiveConcurrencyLimiter::getLimit).register(registry);
+            Gauge.builder("db.limiter.in.flight", l, AdaptiveConcurrencyLimiter::getInFlight).register(registry);
+            Gauge.builder("db.limiter.waiting", l, AdaptiveConcurrencyLimiter::getWaiting).register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder replicaLagMetrics(ObjectProvider<ReplicaLagMonitor> monitor) {
+        return registry -> monitor.ifAvailable(m -> {
+            TimeGauge.builder("db.replica.lag", m, TimeUnit.MILLISECONDS, ReplicaLagMonitor::getLagMillis).register(registry);
+            Gauge.builder("db.replica.usable", m, r -> r.isReplicaUsable() ? 1 : 0).register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder studyEventMetrics(StudyEventService studyEvents) {
+        return registry -> {
+            Gauge.builder("study.events.buffered", studyEvents, StudyEventService::getBuffered).register(registry);
+            Gauge.builder("study.events.spill.size", studyEvents, StudyEventService::getSpillBytes)
+                    .baseUnit(BaseUnits.BYTES)
+                    .register(registry);
+            FunctionCounter.builder("study.events.rejected", studyEvents, StudyEventService::getRejected).register(registry);
+            FunctionCounter.builder("study.events.quarantined", studyEvents, StudyEventService::getQuarantined).register(registry);
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor repositoryRowMetrics(ObjectProvider<MeterRegistry> registry) {
+        SingletonSupplier<MeterRegistry> meterRegistry = SingletonSupplier.of(registry::getObject);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof Repository<?, ?>)) {
+                    return bean;
+                }
+                ProxyFactory factory = new ProxyFactory(bean);
+                factory.addAdvice(new RepositoryRowCountInterceptor(meterRegistry, beanName));
+                return factory.getProxy();
+            }
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.englishlearningbackend.config;
+
+import com.example.englishlearningbackend.routing.ReadWriteRoutingDataSource;
+import com.example.englishlearningbackend.routing.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Objects;
+
+/**
+ * Replaces the single auto-configured pool with a primary pool ({@code spring.datasource}) and a
+ * replica pool ({@code db.replica}), exposed to JPA, JDBC and Flyway as one routing data source.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "db.replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("db.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties primary, ReadReplicaProperties properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primary.determineDriverClassName())
+                .url(Objects.requireNonNull(properties.url(), "db.replica.url is required"))
+                .username(Objects.requireNonNullElse(properties.username(), primary.determineUsername()))
+                .password(Objects.requireNonNullElse(properties.password(), primary.determinePassword()))
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "stop")
+    public ReplicaLagMonitor replicaLagMonitor(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                               ReadReplicaProperties properties) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(primaryDataSource, replicaDataSource, properties.maxLag());
+        monitor.start(properties.heartbeatInterval());
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        return new LazyConnectionDataSourceProxy(
+                new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor, meterRegistry));
+    }
+}
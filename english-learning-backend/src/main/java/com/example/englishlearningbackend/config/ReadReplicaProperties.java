@@ -0,0 +1,15 @@
+package com.example.englishlearningbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "db.replica")
+public record ReadReplicaProperties(boolean enabled,
+                                    String url,
+                                    String username,
+                                    String password,
+                                    @DefaultValue("5s") Duration maxLag,
+                                    @DefaultValue("1s") Duration heartbeatInterval) {
+}
@@ -0,0 +1,11 @@
+package com.example.englishlearningbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "reviews.queue")
+public record ReviewProperties(@DefaultValue("50000") long maxLearners,
+                               @DefaultValue("30m") Duration idleTimeout) {
+}
@@ -0,0 +1,10 @@
+package com.example.englishlearningbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+@ConfigurationProperties(prefix = "search.index")
+public record SearchIndexProperties(@DefaultValue("data/search-index.bin") Path path) {
+}
@@ -0,0 +1,12 @@
+package com.example.englishlearningbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Similarities are estimated Jaccard similarities of character 5-gram shingles.
+ */
+@ConfigurationProperties(prefix = "sentences.similarity")
+public record SimilarSentenceProperties(@DefaultValue("0.9") double duplicateThreshold,
+                                        @DefaultValue("0.5") double minSimilarity) {
+}
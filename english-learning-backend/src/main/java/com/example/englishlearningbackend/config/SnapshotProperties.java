@@ -0,0 +1,11 @@
+package com.example.englishlearningbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+@ConfigurationProperties(prefix = "snapshot")
+public record SnapshotProperties(@DefaultValue("data/dictionary-snapshot.bin") Path path,
+                                 @DefaultValue("true") boolean warmStart) {
+}
@@ -0,0 +1,18 @@
+package com.example.englishlearningbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "study-events")
+public record StudyEventProperties(@DefaultValue("65536") int queueCapacity,
+                                   @DefaultValue("1000") int batchSize,
+                                   @DefaultValue("200ms") Duration flushInterval,
+                                   @DefaultValue("data/study-events") Path spillPath,
+                                   @DefaultValue("16MB") DataSize segmentSize,
+                                   @DefaultValue("1GB") DataSize maxSpillSize,
+                                   @DefaultValue("100000") int maxLearners) {
+}
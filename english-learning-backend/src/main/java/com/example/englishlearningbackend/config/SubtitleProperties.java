@@ -0,0 +1,8 @@
+package com.example.englishlearningbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "subtitles.cue-index")
+public record SubtitleProperties(@DefaultValue("1000") long maximumSize) {
+}
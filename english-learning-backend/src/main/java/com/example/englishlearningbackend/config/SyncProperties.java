@@ -0,0 +1,11 @@
+package com.example.englishlearningbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "sync")
+public record SyncProperties(@DefaultValue("5s") Duration safetyLag,
+                             @DefaultValue("90d") Duration tombstoneRetention) {
+}
@@ -0,0 +1,11 @@
+package com.example.englishlearningbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "vocabulary.tagger")
+public record VocabularyTaggerProperties(@DefaultValue("1m") Duration refreshInterval,
+                                         @DefaultValue("3") int phrasalVerbMaxGap) {
+}
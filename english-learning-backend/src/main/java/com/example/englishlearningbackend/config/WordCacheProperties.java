@@ -0,0 +1,12 @@
+package com.example.englishlearningbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "words.cache")
+public record WordCacheProperties(@DefaultValue("10000") long maximumSize,
+                                  @DefaultValue("1h") Duration ttl,
+                                  @DefaultValue("1m") Duration negativeTtl) {
+}
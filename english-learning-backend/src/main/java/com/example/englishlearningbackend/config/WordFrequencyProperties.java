@@ -0,0 +1,10 @@
+package com.example.englishlearningbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "word-frequency")
+public record WordFrequencyProperties(@DefaultValue("131072") int sketchWidth,
+                                      @DefaultValue("4") int sketchDepth,
+                                      @DefaultValue("1000") int topK) {
+}
@@ -0,0 +1,28 @@
+package com.example.englishlearningbackend.controller;
+
+import com.example.englishlearningbackend.dto.ImportResultDto;
+import com.example.englishlearningbackend.service.ImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/imports")
+public class ImportController {
+    private final ImportService importService;
+
+    public ImportController(ImportService importService) {
+        this.importService = importService;
+    }
+
+    @PostMapping(consumes = {WordController.APPLICATION_NDJSON_VALUE, "application/jsonl"})
+    public ImportResultDto importJsonLines(HttpServletRequest request) throws IOException {
+        return importService.importJsonLines(request.getInputStream());
+    }
+
+    @PostMapping(consumes = "text/csv")
+    public ImportResultDto importCsv(HttpServletRequest request) throws IOException {
+        return importService.importCsv(request.getInputStream());
+    }
+}
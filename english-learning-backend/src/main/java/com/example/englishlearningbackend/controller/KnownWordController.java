@@ -0,0 +1,100 @@
+package com.example.englishlearningbackend.controller;
+
+import com.example.englishlearningbackend.dto.ContentType;
+import com.example.englishlearningbackend.dto.KnownWordsRequestDto;
+import com.example.englishlearningbackend.dto.WordCoverageDto;
+import com.example.englishlearningbackend.dto.WordSummaryDto;
+import com.example.englishlearningbackend.metrics.LookupMissCounter;
+import com.example.englishlearningbackend.service.KnownWordService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@RestController
+@RequestMapping("/known-words")
+public class KnownWordController {
+    private final KnownWordService knownWordService;
+    private final LookupMissCounter lookupMissCounter;
+
+    public KnownWordController(KnownWordService knownWordService, LookupMissCounter lookupMissCounter) {
+        this.knownWordService = knownWordService;
+        this.lookupMissCounter = lookupMissCounter;
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, Long>> count(@RequestHeader(ReviewController.LEARNER_HEADER) String learnerId) {
+        try {
+            return ResponseEntity.ok(Map.of("known", knownWordService.knownCount(learnerId)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping
+    public ResponseEntity<Map<String, Long>> markKnown(@RequestHeader(ReviewController.LEARNER_HEADER) String learnerId,
+                                                       @RequestBody KnownWordsRequestDto request) {
+        try {
+            return ResponseEntity.ok(Map.of("known", knownWordService.markKnown(learnerId, request.wordIds())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping("/forget")
+    public ResponseEntity<Map<String, Long>> forget(@RequestHeader(ReviewController.LEARNER_HEADER) String learnerId,
+                                                    @RequestBody KnownWordsRequestDto request) {
+        try {
+            return ResponseEntity.ok(Map.of("known", knownWordService.forget(learnerId, request.wordIds())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{type}/{contentId}/coverage")
+    public ResponseEntity<WordCoverageDto> coverage(@RequestHeader(ReviewController.LEARNER_HEADER) String learnerId,
+                                                    @PathVariable String type,
+                                                    @PathVariable String contentId) {
+        return found(() -> knownWordService.coverage(ContentType.fromPath(type), contentId, List.of(learnerId))
+                .map(List::getFirst));
+    }
+
+    @PostMapping("/{type}/{contentId}/coverage")
+    public ResponseEntity<List<WordCoverageDto>> coverage(@PathVariable String type,
+                                                          @PathVariable String contentId,
+                                                          @RequestBody List<String> learnerIds) {
+        return found(() -> knownWordService.coverage(ContentType.fromPath(type), contentId, learnerIds));
+    }
+
+    @GetMapping("/{type}/{contentId}/known")
+    public ResponseEntity<List<WordSummaryDto>> knownWords(@RequestHeader(ReviewController.LEARNER_HEADER) String learnerId,
+                                                           @PathVariable String type,
+                                                           @PathVariable String contentId,
+                                                           @RequestParam(defaultValue = "" + KnownWordService.DEFAULT_LIMIT) int limit) {
+        return found(() -> knownWordService.knownWords(learnerId, ContentType.fromPath(type), contentId, limit));
+    }
+
+    @GetMapping("/{type}/{contentId}/new")
+    public ResponseEntity<List<WordSummaryDto>> newWords(@RequestHeader(ReviewController.LEARNER_HEADER) String learnerId,
+                                                         @PathVariable String type,
+                                                         @PathVariable String contentId,
+                                                         @RequestParam(defaultValue = "" + KnownWordService.DEFAULT_LIMIT) int limit) {
+        return found(() -> knownWordService.newWords(learnerId, ContentType.fromPath(type), contentId, limit));
+    }
+
+    private <T> ResponseEntity<T> found(Supplier<Optional<T>> lookup) {
+        try {
+            return lookup.get()
+                    .map(ResponseEntity::ok)
+                    .orElseGet(() -> {
+                        lookupMissCounter.increment("content_words", "unknown_content");
+                        return ResponseEntity.notFound().build();
+                    });
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.englishlearningbackend.controller;
+
+import com.example.englishlearningbackend.dto.NewsArticleDto;
+import com.example.englishlearningbackend.dto.NewsArticleRequestDto;
+import com.example.englishlearningbackend.dto.NewsIngestResultDto;
+import com.example.englishlearningbackend.metrics.LookupMissCounter;
+import com.example.englishlearningbackend.service.NewsService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/news")
+public class NewsController {
+    private final NewsService newsService;
+    private final LookupMissCounter lookupMissCounter;
+
+    public NewsController(NewsService newsService, LookupMissCounter lookupMissCounter) {
+        this.newsService = newsService;
+        this.lookupMissCounter = lookupMissCounter;
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<NewsIngestResultDto> ingest(@RequestBody NewsArticleRequestDto article) {
+        try {
+            return ResponseEntity.ok(newsService.ingest(article));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @PostMapping(consumes = {WordController.APPLICATION_NDJSON_VALUE, "application/jsonl"})
+    public ResponseEntity<NewsIngestResultDto> ingestJsonLines(HttpServletRequest request) throws IOException {
+        try {
+            return ResponseEntity.ok(newsService.ingestJsonLines(request.getInputStream()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<NewsArticleDto> getArticle(@PathVariable long id) {
+        return newsService.getArticle(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> {
+                    lookupMissCounter.increment("news_article", "unknown_article");
+                    return ResponseEntity.notFound().build();
+                });
+    }
+}
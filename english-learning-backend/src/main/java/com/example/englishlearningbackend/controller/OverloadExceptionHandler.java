@@ -0,0 +1,19 @@
+package com.example.englishlearningbackend.controller;
+
+import com.example.englishlearningbackend.limiter.LimitExceededException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice
+public class OverloadExceptionHandler {
+
+    @ExceptionHandler(LimitExceededException.class)
+    public ResponseEntity<Void> handleLimitExceeded() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.englishlearningbackend.controller;
+
+import com.example.englishlearningbackend.dto.QuizQuestionDto;
+import com.example.englishlearningbackend.dto.QuizType;
+import com.example.englishlearningbackend.service.QuizService;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/quiz")
+public class QuizController {
+    private final QuizService quizService;
+
+    public QuizController(QuizService quizService) {
+        this.quizService = quizService;
+    }
+
+    @GetMapping
+    public List<QuizQuestionDto> getQuiz(@RequestParam(defaultValue = "MEANING") QuizType type,
+                                         @RequestParam(defaultValue = "" + QuizService.DEFAULT_COUNT) int count,
+                                         @RequestParam(defaultValue = "" + QuizService.DEFAULT_CHOICES) int choices,
+                                         @RequestParam(required = false) Boolean phrasalVerb,
+                                         @RequestParam(required = false) Integer maxRank) {
+        return quizService.generate(type, count, choices, phrasalVerb, maxRank);
+    }
+}
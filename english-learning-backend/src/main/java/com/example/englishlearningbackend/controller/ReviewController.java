@@ -0,0 +1,54 @@
+package com.example.englishlearningbackend.controller;
+
+import com.example.englishlearningbackend.dto.ReviewCardDto;
+import com.example.englishlearningbackend.dto.ReviewEnrollRequestDto;
+import com.example.englishlearningbackend.dto.ReviewGradeRequestDto;
+import com.example.englishlearningbackend.metrics.LookupMissCounter;
+import com.example.englishlearningbackend.service.ReviewService;
+import com.example.englishlearningbackend.service.Sm2Scheduler;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/reviews")
+public class ReviewController {
+    public static final String LEARNER_HEADER = "X-Learner-Id";
+
+    private final ReviewService reviewService;
+    private final LookupMissCounter lookupMissCounter;
+
+    public ReviewController(ReviewService reviewService, LookupMissCounter lookupMissCounter) {
+        this.reviewService = reviewService;
+        this.lookupMissCounter = lookupMissCounter;
+    }
+
+    @PostMapping
+    public Map<String, Integer> enroll(@RequestHeader(LEARNER_HEADER) String learnerId,
+                                       @RequestBody ReviewEnrollRequestDto request) {
+        return Map.of("enrolled", reviewService.enroll(learnerId, request.wordIds()));
+    }
+
+    @GetMapping("/due")
+    public List<ReviewCardDto> getDueCards(@RequestHeader(LEARNER_HEADER) String learnerId,
+                                           @RequestParam(defaultValue = "" + ReviewService.DEFAULT_LIMIT) int limit) {
+        return reviewService.getDueCards(learnerId, limit);
+    }
+
+    @PostMapping("/{id}/grade")
+    public ResponseEntity<ReviewCardDto> grade(@RequestHeader(LEARNER_HEADER) String learnerId,
+                                               @PathVariable long id,
+                                               @RequestBody ReviewGradeRequestDto request) {
+        if (request.grade() < Sm2Scheduler.MIN_GRADE || request.grade() > Sm2Scheduler.MAX_GRADE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return reviewService.grade(learnerId, id, request.grade())
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> {
+                    lookupMissCounter.increment("review_card", "unknown_card");
+                    return ResponseEntity.notFound().build();
+                });
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.englishlearningbackend.controller;
+
+import com.example.englishlearningbackend.dto.SearchHitDto;
+import com.example.englishlearningbackend.service.SearchService;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/search")
+public class SearchController {
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping
+    public List<SearchHitDto> search(@RequestParam("q") String query,
+                                     @RequestParam(defaultValue = "" + SearchService.DEFAULT_LIMIT) int limit) {
+        return searchService.search(query, limit);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.englishlearningbackend.controller;
+
+import com.example.englishlearningbackend.dto.SearchHitDto;
+import com.example.englishlearningbackend.metrics.LookupMissCounter;
+import com.example.englishlearningbackend.service.SimilarSentenceService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/sentences")
+public class SentenceController {
+    private final SimilarSentenceService similarSentenceService;
+    private final LookupMissCounter lookupMissCounter;
+
+    public SentenceController(SimilarSentenceService similarSentenceService, LookupMissCounter lookupMissCounter) {
+        this.similarSentenceService = similarSentenceService;
+        this.lookupMissCounter = lookupMissCounter;
+    }
+
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<SearchHitDto>> similar(@PathVariable long id,
+                                                      @RequestParam(defaultValue = "" + SimilarSentenceService.DEFAULT_LIMIT) int limit) {
+        return similarSentenceService.similar(id, limit)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> {
+                    lookupMissCounter.increment("similar_sentences", "unknown_sentence");
+                    return ResponseEntity.notFound().build();
+                });
+    }
+}
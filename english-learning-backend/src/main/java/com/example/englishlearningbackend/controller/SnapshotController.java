@@ -0,0 +1,58 @@
+package com.example.englishlearningbackend.controller;
+
+import com.example.englishlearningbackend.dto.SnapshotInfoDto;
+import com.example.englishlearningbackend.metrics.LookupMissCounter;
+import com.example.englishlearningbackend.service.SnapshotService;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/snapshots")
+public class SnapshotController {
+    private final SnapshotService snapshotService;
+    private final LookupMissCounter lookupMissCounter;
+
+    public SnapshotController(SnapshotService snapshotService, LookupMissCounter lookupMissCounter) {
+        this.snapshotService = snapshotService;
+        this.lookupMissCounter = lookupMissCounter;
+    }
+
+    @PostMapping
+    public SnapshotInfoDto generate() throws IOException {
+        return snapshotService.generate();
+    }
+
+    @GetMapping("/latest/info")
+    public ResponseEntity<SnapshotInfoDto> latestInfo() throws IOException {
+        return snapshotService.latest()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> {
+                    lookupMissCounter.increment("snapshot", "no_snapshot");
+                    return ResponseEntity.notFound().build();
+                });
+    }
+
+    @GetMapping("/latest")
+    public ResponseEntity<Resource> latest() throws IOException {
+        Optional<SnapshotInfoDto> info = snapshotService.latest();
+        if (info.isEmpty()) {
+            lookupMissCounter.increment("snapshot", "no_snapshot");
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .eTag(Long.toString(info.get().version()))
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("dictionary-" + info.get().version() + ".bin.gz").build().toString())
+                .body(new FileSystemResource(snapshotService.compressedPath()));
+    }
+}
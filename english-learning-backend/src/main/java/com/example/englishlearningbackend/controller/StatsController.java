@@ -0,0 +1,36 @@
+package com.example.englishlearningbackend.controller;
+
+import com.example.englishlearningbackend.dto.StudyStatsDto;
+import com.example.englishlearningbackend.dto.WordFrequencyDto;
+import com.example.englishlearningbackend.service.StudyEventService;
+import com.example.englishlearningbackend.service.WordFrequencyService;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/stats")
+public class StatsController {
+    private final StudyEventService studyEventService;
+    private final WordFrequencyService wordFrequencyService;
+
+    public StatsController(StudyEventService studyEventService, WordFrequencyService wordFrequencyService) {
+        this.studyEventService = studyEventService;
+        this.wordFrequencyService = wordFrequencyService;
+    }
+
+    @GetMapping("/words/frequent")
+    public List<WordFrequencyDto> frequentWords(@RequestParam(defaultValue = "" + WordFrequencyService.DEFAULT_LIMIT) int limit) {
+        return wordFrequencyService.frequent(limit);
+    }
+
+    @GetMapping("/words/{wordId}")
+    public StudyStatsDto wordStats(@PathVariable long wordId) {
+        return studyEventService.wordStats(wordId);
+    }
+
+    @GetMapping("/learner")
+    public StudyStatsDto learnerStats(@RequestHeader(ReviewController.LEARNER_HEADER) String learnerId) {
+        return studyEventService.learnerStats(learnerId);
+    }
+}
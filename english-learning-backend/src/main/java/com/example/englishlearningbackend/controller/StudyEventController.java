@@ -0,0 +1,29 @@
+package com.example.englishlearningbackend.controller;
+
+import com.example.englishlearningbackend.dto.StudyEventRequestDto;
+import com.example.englishlearningbackend.service.StudyEventService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/study-events")
+public class StudyEventController {
+    private final StudyEventService studyEventService;
+
+    public StudyEventController(StudyEventService studyEventService) {
+        this.studyEventService = studyEventService;
+    }
+
+    @PostMapping
+    public ResponseEntity<Map<String, Integer>> record(@RequestHeader(ReviewController.LEARNER_HEADER) String learnerId,
+                                                       @RequestBody List<StudyEventRequestDto> events) {
+        try {
+            return ResponseEntity.accepted().body(Map.of("accepted", studyEventService.record(learnerId, events)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.englishlearningbackend.controller;
+
+import com.example.englishlearningbackend.dto.SubtitleIngestResultDto;
+import com.example.englishlearningbackend.dto.VideoCueDto;
+import com.example.englishlearningbackend.dto.VideoMomentDto;
+import com.example.englishlearningbackend.metrics.LookupMissCounter;
+import com.example.englishlearningbackend.service.SubtitleService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@RestController
+@RequestMapping("/videos")
+public class SubtitleController {
+    private final SubtitleService subtitleService;
+    private final LookupMissCounter lookupMissCounter;
+
+    public SubtitleController(SubtitleService subtitleService, LookupMissCounter lookupMissCounter) {
+        this.subtitleService = subtitleService;
+        this.lookupMissCounter = lookupMissCounter;
+    }
+
+    @PostMapping(value = "/{youtubeId}/subtitles", consumes = {"text/vtt", "application/x-subrip", MediaType.TEXT_PLAIN_VALUE})
+    public ResponseEntity<SubtitleIngestResultDto> ingest(@PathVariable String youtubeId,
+                                                          @RequestParam(required = false) String title,
+                                                          HttpServletRequest request) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8))) {
+            return ResponseEntity.ok(subtitleService.ingest(youtubeId, title, reader));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/{youtubeId}/cues/active")
+    public ResponseEntity<List<VideoCueDto>> activeCues(@PathVariable String youtubeId, @RequestParam double t) {
+        if (!(t >= 0)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return subtitleService.activeCues(youtubeId, Math.round(t * 1000))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> {
+                    lookupMissCounter.increment("video", "unknown_video");
+                    return ResponseEntity.notFound().build();
+                });
+    }
+
+    @GetMapping("/moments")
+    public ResponseEntity<List<VideoMomentDto>> moments(@RequestParam String word,
+                                                        @RequestParam(defaultValue = "" + SubtitleService.DEFAULT_LIMIT) int limit) {
+        return subtitleService.moments(word, limit)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> {
+                    lookupMissCounter.increment("video_moments", "unknown_word");
+                    return ResponseEntity.notFound().build();
+                });
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.englishlearningbackend.controller;
+
+import com.example.englishlearningbackend.dto.SyncResponseDto;
+import com.example.englishlearningbackend.service.SyncService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/sync")
+public class SyncController {
+    private final SyncService syncService;
+
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    @GetMapping
+    public ResponseEntity<SyncResponseDto> sync(@RequestParam(required = false) String since,
+                                                @RequestParam(defaultValue = "" + SyncService.DEFAULT_LIMIT) int limit) {
+        try {
+            return syncService.changesSince(since, limit)
+                    .map(ResponseEntity::ok)
+                    .orElse(ResponseEntity.status(HttpStatus.GONE).build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -1,31 +1,133 @@
 package com.example.englishlearningbackend.controller;
 
-import com.example.englishlearningbackend.entity.Word;
+import com.example.englishlearningbackend.config.HttpCacheProperties;
+import com.example.englishlearningbackend.dto.FuzzyLookupDto;
+import com.example.englishlearningbackend.dto.FuzzyMatchDto;
+import com.example.englishlearningbackend.dto.WordDetailDto;
+import com.example.englishlearningbackend.dto.WordMatchDto;
+import com.example.englishlearningbackend.dto.WordPageDto;
+import com.example.englishlearningbackend.dto.WordSort;
+import com.example.englishlearningbackend.dto.WordSuggestionDto;
+import com.example.englishlearningbackend.metrics.LookupMissCounter;
+import com.example.englishlearningbackend.service.FuzzyWordService;
+import com.example.englishlearningbackend.service.WordMatchService;
 import com.example.englishlearningbackend.service.WordService;
+import com.example.englishlearningbackend.service.WordSuggestService;
+import com.example.englishlearningbackend.util.ETags;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Optional;
 
 @RestController
 @RequestMapping("/words")
 public class WordController {
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
     private final WordService wordService;
+    private final WordSuggestService wordSuggestService;
+    private final FuzzyWordService fuzzyWordService;
+    private final WordMatchService wordMatchService;
+    private final HttpCacheProperties httpCacheProperties;
+    private final LookupMissCounter lookupMissCounter;
+    private final ObjectWriter lineWriter;
 
-    public WordController(WordService wordService) {
+    public WordController(WordService wordService,
+                          WordSuggestService wordSuggestService,
+                          FuzzyWordService fuzzyWordService,
+                          WordMatchService wordMatchService,
+                          HttpCacheProperties httpCacheProperties,
+                          LookupMissCounter lookupMissCounter,
+                          ObjectMapper objectMapper) {
         this.wordService = wordService;
+        this.wordSuggestService = wordSuggestService;
+        this.fuzzyWordService = fuzzyWordService;
+        this.wordMatchService = wordMatchService;
+        this.httpCacheProperties = httpCacheProperties;
+        this.lookupMissCounter = lookupMissCounter;
+        this.lineWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE, APPLICATION_SMILE_VALUE})
+    public ResponseEntity<WordPageDto> getAllWords(@RequestParam(defaultValue = "0") long after,
+                                                   @RequestParam(defaultValue = "" + WordService.DEFAULT_PAGE_SIZE) int limit,
+                                                   @RequestParam(defaultValue = "ID") WordSort sort) {
+        WordPageDto page = wordService.getWords(after, limit, sort);
+        return ResponseEntity.ok()
+                .eTag(ETags.of(page))
+                .varyBy(HttpHeaders.ACCEPT)
+                .cacheControl(httpCacheProperties.wordList())
+                .body(page);
+    }
+
+    @GetMapping(produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllWords(@RequestParam(defaultValue = "0") long after) {
+        StreamingResponseBody body = outputStream -> {
+            OutputStream out = new BufferedOutputStream(outputStream, 64 * 1024);
+            wordService.streamWords(after, word -> {
+                try {
+                    lineWriter.writeValue(out, word);
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
+    }
+
+    @GetMapping("/suggest")
+    public List<WordSuggestionDto> suggest(@RequestParam String prefix,
+                                           @RequestParam(defaultValue = "" + WordSuggestService.DEFAULT_LIMIT) int limit) {
+        return wordSuggestService.suggest(prefix, limit);
     }
 
-    @GetMapping
-    public List<Word> getAllWords() {
-        return wordService.getAllWords();
+    @PostMapping(value = "/match", consumes = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<List<WordMatchDto>> match(@RequestBody String text) {
+        try {
+            return ResponseEntity.ok(wordMatchService.match(text));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     @GetMapping("/{word}")
-    public ResponseEntity<Word> getWordWithDetails(@PathVariable String word) {
-        return wordService.getWordWithDetails(word)
-                .map(ResponseEntity::ok)
-                .orElse(ResponseEntity.notFound().build());
+    public ResponseEntity<?> getWordWithDetails(@PathVariable String word,
+                                                @RequestParam(defaultValue = "false") boolean fuzzy,
+                                                @RequestParam(defaultValue = "" + FuzzyWordService.DEFAULT_MAX_DISTANCE) int maxDistance,
+                                                @RequestParam(defaultValue = "" + FuzzyWordService.DEFAULT_LIMIT) int limit) {
+        Optional<WordDetailDto> detail = wordService.getWordWithDetails(word);
+        if (detail.isPresent()) {
+            return ResponseEntity.ok()
+                    .eTag(ETags.of(detail.get()))
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .cacheControl(httpCacheProperties.wordDetail())
+                    .body(detail.get());
+        }
+        if (!fuzzy) {
+            lookupMissCounter.increment("word", "unknown_word");
+            return ResponseEntity.notFound().build();
+        }
+        List<FuzzyMatchDto> matches = fuzzyWordService.findClosest(word, maxDistance, limit);
+        if (matches.isEmpty()) {
+            lookupMissCounter.increment("word", "no_fuzzy_match");
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(new FuzzyLookupDto(word, matches));
     }
 }
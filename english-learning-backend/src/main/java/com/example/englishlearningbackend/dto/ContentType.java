@@ -0,0 +1,24 @@
+package com.example.englishlearningbackend.dto;
+
+import java.util.Arrays;
+
+/**
+ * Content whose vocabulary is tracked as a word set, named as in the {@code /known-words} paths.
+ */
+public enum ContentType {
+    NEWS("news"),
+    VIDEO("videos");
+
+    private final String path;
+
+    ContentType(String path) {
+        this.path = path;
+    }
+
+    public static ContentType fromPath(String path) {
+        return Arrays.stream(values())
+                .filter(type -> type.path.equals(path))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown content type " + path));
+    }
+}
@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.dto;
+
+public record FuzzyMatchDto(Long id, String word, int distance) {
+}
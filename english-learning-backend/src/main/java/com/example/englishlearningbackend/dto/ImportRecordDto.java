@@ -0,0 +1,9 @@
+package com.example.englishlearningbackend.dto;
+
+import java.util.List;
+
+public record ImportRecordDto(String word,
+                              Boolean phrasalVerb,
+                              List<String> meanings,
+                              List<ImportSentenceDto> sentences) {
+}
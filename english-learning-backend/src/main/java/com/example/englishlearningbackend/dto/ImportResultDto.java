@@ -0,0 +1,12 @@
+package com.example.englishlearningbackend.dto;
+
+import java.util.List;
+
+/**
+ * {@code meaningConflicts} lists at most {@link #MAX_REPORTED_CONFLICTS} of the
+ * {@code conflictingMeanings} meanings that were kept on the word already owning them.
+ */
+public record ImportResultDto(long records, long words, long meanings, long sentences, long skippedSentences,
+                              long conflictingMeanings, List<MeaningConflictDto> meaningConflicts, long elapsedMillis) {
+    public static final int MAX_REPORTED_CONFLICTS = 100;
+}
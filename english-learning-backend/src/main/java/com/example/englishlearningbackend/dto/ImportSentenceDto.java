@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.dto;
+
+public record ImportSentenceDto(String sentence, String translatedSentence) {
+}
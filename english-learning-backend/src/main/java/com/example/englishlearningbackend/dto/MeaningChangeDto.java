@@ -0,0 +1,6 @@
+package com.example.englishlearningbackend.dto;
+
+import java.time.LocalDateTime;
+
+public record MeaningChangeDto(Long id, Long wordId, String meaning, LocalDateTime updatedAt) {
+}
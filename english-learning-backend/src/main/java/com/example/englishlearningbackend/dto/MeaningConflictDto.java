@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.dto;
+
+public record MeaningConflictDto(String meaning, String word, long existingWordId) {
+}
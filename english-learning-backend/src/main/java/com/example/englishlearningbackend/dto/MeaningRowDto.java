@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.dto;
+
+public record MeaningRowDto(Long wordId, Long id, String meaning) {
+}
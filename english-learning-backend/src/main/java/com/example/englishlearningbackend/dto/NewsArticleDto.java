@@ -0,0 +1,8 @@
+package com.example.englishlearningbackend.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record NewsArticleDto(Long id, String title, String source, LocalDateTime publishedAt,
+                             List<NewsSentenceDto> sentences) {
+}
@@ -0,0 +1,6 @@
+package com.example.englishlearningbackend.dto;
+
+import java.time.LocalDateTime;
+
+public record NewsArticleRequestDto(String title, String source, LocalDateTime publishedAt, String body) {
+}
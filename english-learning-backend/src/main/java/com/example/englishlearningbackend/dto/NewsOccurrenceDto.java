@@ -0,0 +1,7 @@
+package com.example.englishlearningbackend.dto;
+
+/**
+ * Offsets are relative to the containing sentence, end-exclusive.
+ */
+public record NewsOccurrenceDto(Long wordId, String word, int start, int end) {
+}
@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.dto;
+
+public record NewsOccurrenceRowDto(int sentencePosition, Long wordId, String word, int startOffset, int endOffset) {
+}
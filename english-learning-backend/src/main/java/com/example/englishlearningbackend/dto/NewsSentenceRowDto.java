@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.dto;
+
+public record NewsSentenceRowDto(int position, int startOffset, String sentence) {
+}
@@ -0,0 +1,10 @@
+package com.example.englishlearningbackend.dto;
+
+import java.util.List;
+
+public record QuizQuestionDto(QuizType type,
+                              Long wordId,
+                              String prompt,
+                              List<String> choices,
+                              int answerIndex) {
+}
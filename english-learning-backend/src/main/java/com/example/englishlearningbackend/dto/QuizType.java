@@ -0,0 +1,6 @@
+package com.example.englishlearningbackend.dto;
+
+public enum QuizType {
+    MEANING,
+    CLOZE
+}
@@ -0,0 +1,12 @@
+package com.example.englishlearningbackend.dto;
+
+import java.time.LocalDateTime;
+
+public record ReviewCardDto(Long id,
+                            Long wordId,
+                            String word,
+                            int repetitions,
+                            int intervalDays,
+                            double easeFactor,
+                            LocalDateTime dueAt) {
+}
@@ -0,0 +1,6 @@
+package com.example.englishlearningbackend.dto;
+
+import java.time.LocalDateTime;
+
+public record ReviewDueDto(Long cardId, Long wordId, LocalDateTime dueAt) {
+}
@@ -0,0 +1,6 @@
+package com.example.englishlearningbackend.dto;
+
+import java.util.List;
+
+public record ReviewEnrollRequestDto(List<Long> wordIds) {
+}
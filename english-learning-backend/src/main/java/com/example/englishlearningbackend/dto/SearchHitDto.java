@@ -0,0 +1,14 @@
+package com.example.englishlearningbackend.dto;
+
+public record SearchHitDto(String type,
+                           Long id,
+                           Long wordId,
+                           String word,
+                           String text,
+                           String translatedText,
+                           double score) {
+
+    public SearchHitDto withScore(double score) {
+        return new SearchHitDto(type, id, wordId, word, text, translatedText, score);
+    }
+}
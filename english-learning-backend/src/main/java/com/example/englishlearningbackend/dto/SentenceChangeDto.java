@@ -0,0 +1,10 @@
+package com.example.englishlearningbackend.dto;
+
+import java.time.LocalDateTime;
+
+public record SentenceChangeDto(Long id,
+                                Long wordId,
+                                String sentence,
+                                String translatedSentence,
+                                LocalDateTime updatedAt) {
+}
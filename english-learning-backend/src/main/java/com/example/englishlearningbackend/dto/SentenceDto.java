@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.dto;
+
+public record SentenceDto(Long id, String sentence, String translatedSentence) {
+}
@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.dto;
+
+public record SentenceRefDto(Long wordId, Long id) {
+}
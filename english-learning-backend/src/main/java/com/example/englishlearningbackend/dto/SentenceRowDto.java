@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.dto;
+
+public record SentenceRowDto(Long wordId, Long id, String sentence, String translatedSentence) {
+}
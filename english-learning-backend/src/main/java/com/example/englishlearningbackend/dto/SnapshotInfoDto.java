@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.dto;
+
+public record SnapshotInfoDto(long version, long words, long bytes, long compressedBytes) {
+}
@@ -0,0 +1,6 @@
+package com.example.englishlearningbackend.dto;
+
+import java.time.Instant;
+
+public record StudyEventRequestDto(StudyEventType type, Long wordId, Long sentenceId, Instant occurredAt) {
+}
@@ -0,0 +1,8 @@
+package com.example.englishlearningbackend.dto;
+
+public enum StudyEventType {
+    WORD_VIEWED,
+    SENTENCE_PRACTICED,
+    ANSWER_CORRECT,
+    ANSWER_WRONG
+}
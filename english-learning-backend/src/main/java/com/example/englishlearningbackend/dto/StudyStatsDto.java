@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.dto;
+
+public record StudyStatsDto(long wordViewed, long sentencePracticed, long answerCorrect, long answerWrong) {
+}
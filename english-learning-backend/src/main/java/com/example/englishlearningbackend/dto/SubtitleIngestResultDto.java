@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.dto;
+
+public record SubtitleIngestResultDto(String youtubeId, long cues, long wordLinks, long elapsedMillis) {
+}
@@ -0,0 +1,11 @@
+package com.example.englishlearningbackend.dto;
+
+import java.util.List;
+
+public record SyncResponseDto(List<WordChangeDto> words,
+                              List<MeaningChangeDto> meanings,
+                              List<SentenceChangeDto> sentences,
+                              List<TombstoneDto> tombstones,
+                              String nextToken,
+                              boolean hasMore) {
+}
@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.dto;
+
+public record TombstoneDto(Long id, String type, Long entityId) {
+}
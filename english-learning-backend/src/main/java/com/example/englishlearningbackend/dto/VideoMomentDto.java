@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.dto;
+
+public record VideoMomentDto(String youtubeId, String title, int position, long startMillis, long endMillis, String text) {
+}
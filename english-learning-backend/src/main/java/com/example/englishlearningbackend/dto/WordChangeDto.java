@@ -0,0 +1,6 @@
+package com.example.englishlearningbackend.dto;
+
+import java.time.LocalDateTime;
+
+public record WordChangeDto(Long id, String word, boolean phrasalVerb, LocalDateTime updatedAt) {
+}
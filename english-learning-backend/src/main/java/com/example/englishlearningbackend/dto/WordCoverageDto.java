@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.dto;
+
+public record WordCoverageDto(String learnerId, long contentWords, long knownWords, long newWords, double knownRatio) {
+}
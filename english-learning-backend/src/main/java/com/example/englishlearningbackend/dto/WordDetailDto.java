@@ -0,0 +1,10 @@
+package com.example.englishlearningbackend.dto;
+
+import java.util.List;
+
+public record WordDetailDto(Long id,
+                            String word,
+                            boolean phrasalVerb,
+                            List<MeaningDto> meanings,
+                            List<SentenceDto> sentences) {
+}
@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.dto;
+
+public record WordFrequencyDto(Long id, String word, long frequency, long error, Integer frequencyRank) {
+}
@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.dto;
+
+public record WordMatchDto(Long wordId, String word, boolean phrasalVerb, int start, int end, String text) {
+}
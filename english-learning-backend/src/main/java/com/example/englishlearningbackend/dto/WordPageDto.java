@@ -0,0 +1,6 @@
+package com.example.englishlearningbackend.dto;
+
+import java.util.List;
+
+public record WordPageDto(List<WordSummaryDto> items, Long nextCursor) {
+}
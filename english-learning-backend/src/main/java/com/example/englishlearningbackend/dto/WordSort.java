@@ -0,0 +1,6 @@
+package com.example.englishlearningbackend.dto;
+
+public enum WordSort {
+    ID,
+    FREQUENCY
+}
@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.dto;
+
+public record WordSuggestionDto(Long id, String word, long popularity) {
+}
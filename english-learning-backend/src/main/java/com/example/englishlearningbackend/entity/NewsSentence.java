@@ -0,0 +1,33 @@
+package com.example.englishlearningbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "news_sentence")
+public class NewsSentence {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "article_id", nullable = false)
+    private NewsArticle article;
+
+    @Column(nullable = false)
+    private int position;
+
+    @Column(nullable = false)
+    private int startOffset;
+
+    @Column(nullable = false)
+    private int endOffset;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String sentence;
+}
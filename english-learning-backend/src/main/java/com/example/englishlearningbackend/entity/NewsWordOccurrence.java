@@ -0,0 +1,34 @@
+package com.example.englishlearningbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "news_word_occurrence")
+public class NewsWordOccurrence {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "article_id", nullable = false)
+    private NewsArticle article;
+
+    @Column(nullable = false)
+    private int sentencePosition;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "word_id", nullable = false)
+    private Word word;
+
+    @Column(nullable = false)
+    private int startOffset;
+
+    @Column(nullable = false)
+    private int endOffset;
+}
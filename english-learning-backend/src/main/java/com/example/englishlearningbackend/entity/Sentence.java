@@ -1,5 +1,6 @@
 package com.example.englishlearningbackend.entity;
 
+import com.example.englishlearningbackend.listener.ContentChangeListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -11,6 +12,7 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor
 @Entity
+@EntityListeners(ContentChangeListener.class)
 @Table(name = "sentence")
 public class Sentence {
     @Id
@@ -0,0 +1,33 @@
+package com.example.englishlearningbackend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "video_cue")
+public class VideoCue {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "video_id", nullable = false)
+    private Video video;
+
+    @Column(nullable = false)
+    private int position;
+
+    @Column(name = "start_ms", nullable = false)
+    private long startMillis;
+
+    @Column(name = "end_ms", nullable = false)
+    private long endMillis;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String text;
+}
@@ -1,5 +1,6 @@
 package com.example.englishlearningbackend.entity;
 
+import com.example.englishlearningbackend.listener.ContentChangeListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,6 +13,7 @@ import java.util.List;
 @Setter
 @NoArgsConstructor
 @Entity
+@EntityListeners(ContentChangeListener.class)
 @Table(name = "word")
 public class Word {
     @Id
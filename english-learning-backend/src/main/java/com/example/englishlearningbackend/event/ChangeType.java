@@ -0,0 +1,7 @@
+package com.example.englishlearningbackend.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
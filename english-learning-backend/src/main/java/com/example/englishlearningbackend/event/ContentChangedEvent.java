@@ -0,0 +1,4 @@
+package com.example.englishlearningbackend.event;
+
+public record ContentChangedEvent(Object entity, ChangeType type) {
+}
@@ -0,0 +1,6 @@
+package com.example.englishlearningbackend.event;
+
+import com.example.englishlearningbackend.dto.ImportResultDto;
+
+public record ContentImportedEvent(ImportResultDto result) {
+}
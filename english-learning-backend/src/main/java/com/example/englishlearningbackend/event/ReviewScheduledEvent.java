@@ -0,0 +1,6 @@
+package com.example.englishlearningbackend.event;
+
+import java.time.LocalDateTime;
+
+public record ReviewScheduledEvent(String learnerId, Long cardId, Long wordId, LocalDateTime dueAt) {
+}
@@ -0,0 +1,243 @@
+package com.example.englishlearningbackend.index;
+
+import com.example.englishlearningbackend.util.WordNormalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Aho-Corasick automaton over normalized words and phrases. Text is lowercased and its whitespace
+ * runs folded to one space while it is scanned, so "Drop   By" matches {@code drop by}, and every
+ * occurrence of every pattern is found in one pass. Matches carry offsets into the original text
+ * and are only reported on word boundaries. Transitions are stored as sorted per-state edge ranges.
+ */
+public class AhoCorasick {
+    private static final int ROOT = 0;
+
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] rootAscii = new int[128];
+    private final int[] fail;
+    private final int[] dictLink;
+    private final int[] depth;
+    private final long[] ids;
+    private final boolean[] terminal;
+    private final int offsetMask;
+    private final int patterns;
+
+    public record Match(long id, int start, int end) {
+    }
+
+    private AhoCorasick(int states, int[] firstChild, int[] nextSibling, char[] label,
+                        int[] depth, long[] ids, boolean[] terminal, int patterns) {
+        this.depth = Arrays.copyOf(depth, states);
+        this.ids = Arrays.copyOf(ids, states);
+        this.terminal = Arrays.copyOf(terminal, states);
+        this.patterns = patterns;
+        this.edgeStart = new int[states + 1];
+        this.edgeChars = new char[Math.max(0, states - 1)];
+        this.edgeTargets = new int[Math.max(0, states - 1)];
+        int e = 0;
+        int maxDepth = 1;
+        for (int s = 0; s < states; s++) {
+            edgeStart[s] = e;
+            for (int child = firstChild[s]; child != -1; child = nextSibling[child]) {
+                edgeChars[e] = label[child];
+                edgeTargets[e++] = child;
+            }
+            maxDepth = Math.max(maxDepth, depth[s]);
+        }
+        edgeStart[states] = e;
+        this.offsetMask = Integer.highestOneBit(maxDepth * 2 - 1) * 2 - 1;
+
+        Arrays.fill(rootAscii, -1);
+        for (int i = edgeStart[ROOT]; i < edgeStart[ROOT + 1]; i++) {
+            if (edgeChars[i] < 128) {
+                rootAscii[edgeChars[i]] = edgeTargets[i];
+            }
+        }
+
+        this.fail = new int[states];
+        this.dictLink = new int[states];
+        Arrays.fill(dictLink, -1);
+        int[] queue = new int[states];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = ROOT;
+        while (head < tail) {
+            int r = queue[head++];
+            for (int i = edgeStart[r]; i < edgeStart[r + 1]; i++) {
+                int u = edgeTargets[i];
+                queue[tail++] = u;
+                if (r == ROOT) {
+                    fail[u] = ROOT;
+                } else {
+                    int f = fail[r];
+                    int next = next(f, edgeChars[i]);
+                    while (next == -1 && f != ROOT) {
+                        f = fail[f];
+                        next = next(f, edgeChars[i]);
+                    }
+                    fail[u] = next == -1 ? ROOT : next;
+                }
+                dictLink[u] = this.terminal[fail[u]] ? fail[u] : dictLink[fail[u]];
+            }
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return patterns;
+    }
+
+    public List<Match> findAll(CharSequence text) {
+        List<Match> matches = new ArrayList<>();
+        scan(text, matches::add);
+        return matches;
+    }
+
+    /**
+     * Reports matches in order of their end offset; overlapping matches, such as {@code drop} and
+     * {@code drop by}, are all reported.
+     */
+    public void scan(CharSequence text, Consumer<Match> consumer) {
+        int[] origin = new int[offsetMask + 1];
+        int length = text.length();
+        int state = ROOT;
+        int position = -1;
+        boolean pendingSpace = false;
+        for (int i = 0; i < length; i++) {
+            char ch = text.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                pendingSpace = position >= 0;
+                continue;
+            }
+            if (pendingSpace) {
+                pendingSpace = false;
+                state = step(state, ' ');
+                origin[++position & offsetMask] = i - 1;
+            }
+            state = step(state, Character.toLowerCase(ch));
+            origin[++position & offsetMask] = i;
+            for (int s = terminal[state] ? state : dictLink[state]; s != -1; s = dictLink[s]) {
+                int start = origin[(position - depth[s] + 1) & offsetMask];
+                int end = i + 1;
+                if (isBoundary(text, start - 1) && isBoundary(text, end)) {
+                    consumer.accept(new Match(ids[s], start, end));
+                }
+            }
+        }
+    }
+
+    private int step(int state, char c) {
+        int next = next(state, c);
+        while (next == -1 && state != ROOT) {
+            state = fail[state];
+            next = next(state, c);
+        }
+        return next == -1 ? ROOT : next;
+    }
+
+    private int next(int state, char c) {
+        if (state == ROOT && c < 128) {
+            return rootAscii[c];
+        }
+        int lo = edgeStart[state];
+        int hi = edgeStart[state + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            char m = edgeChars[mid];
+            if (m < c) {
+                lo = mid + 1;
+            } else if (m > c) {
+                hi = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isBoundary(CharSequence text, int index) {
+        return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+
+    public static class Builder {
+        private final List<Pattern> patterns = new ArrayList<>();
+
+        private record Pattern(String key, long id) {
+        }
+
+        public Builder add(long id, String phrase) {
+            String key = WordNormalizer.normalize(phrase);
+            if (!key.isEmpty()) {
+                patterns.add(new Pattern(key, id));
+            }
+            return this;
+        }
+
+        /**
+         * Inserts patterns in sorted order, so a node's matching child is always its most recently
+         * added one and sibling lists come out already sorted.
+         */
+        public AhoCorasick build() {
+            patterns.sort(Comparator.comparing(Pattern::key));
+            int capacity = 1024;
+            int[] firstChild = new int[capacity];
+            int[] lastChild = new int[capacity];
+            int[] nextSibling = new int[capacity];
+            char[] label = new char[capacity];
+            int[] depth = new int[capacity];
+            long[] ids = new long[capacity];
+            boolean[] terminal = new boolean[capacity];
+            firstChild[ROOT] = lastChild[ROOT] = nextSibling[ROOT] = -1;
+            int states = 1;
+            int distinct = 0;
+            for (Pattern pattern : patterns) {
+                int node = ROOT;
+                for (int i = 0; i < pattern.key().length(); i++) {
+                    char c = pattern.key().charAt(i);
+                    int last = lastChild[node];
+                    if (last != -1 && label[last] == c) {
+                        node = last;
+                        continue;
+                    }
+                    if (states == capacity) {
+                        capacity *= 2;
+                        firstChild = Arrays.copyOf(firstChild, capacity);
+                        lastChild = Arrays.copyOf(lastChild, capacity);
+                        nextSibling = Arrays.copyOf(nextSibling, capacity);
+                        label = Arrays.copyOf(label, capacity);
+                        depth = Arrays.copyOf(depth, capacity);
+                        ids = Arrays.copyOf(ids, capacity);
+                        terminal = Arrays.copyOf(terminal, capacity);
+                    }
+                    int child = states++;
+                    firstChild[child] = lastChild[child] = nextSibling[child] = -1;
+                    label[child] = c;
+                    depth[child] = i + 1;
+                    if (last == -1) {
+                        firstChild[node] = child;
+                    } else {
+                        nextSibling[last] = child;
+                    }
+                    lastChild[node] = child;
+                    node = child;
+                }
+                if (!terminal[node]) {
+                    distinct++;
+                }
+                terminal[node] = true;
+                ids[node] = pattern.id();
+            }
+            return new AhoCorasick(states, firstChild, nextSibling, label, depth, ids, terminal, distinct);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.englishlearningbackend.index;
+
+import com.example.englishlearningbackend.util.WordNormalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Burkhard-Keller tree over normalized words under Levenshtein distance, stored in parallel arrays
+ * with first-child/next-sibling links. Removed words are tombstoned and skipped at query time.
+ */
+public class BkTree {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> nodeById = new HashMap<>();
+    private final BitSet removed = new BitSet();
+    private String[] keys = new String[1024];
+    private String[] words = new String[1024];
+    private long[] ids = new long[1024];
+    private int[] distance = new int[1024];
+    private int[] firstChild = new int[1024];
+    private int[] nextSibling = new int[1024];
+    private int size;
+
+    public record Match(long id, String word, int distance) {
+    }
+
+    public void add(long id, String word) {
+        String key = WordNormalizer.normalize(word);
+        lock.writeLock().lock();
+        try {
+            Integer existing = nodeById.remove(id);
+            if (existing != null) {
+                if (keys[existing].equals(key)) {
+                    words[existing] = word;
+                    nodeById.put(id, existing);
+                    return;
+                }
+                removed.set(existing);
+            }
+            int node = newNode(id, key, word);
+            nodeById.put(id, node);
+            if (node == 0) {
+                return;
+            }
+            int parent = 0;
+            while (true) {
+                int d = levenshtein(keys[parent], key, new int[key.length() + 1], new int[key.length() + 1]);
+                int child = firstChild[parent];
+                int last = -1;
+                while (child != -1 && distance[child] != d) {
+                    last = child;
+                    child = nextSibling[child];
+                }
+                if (child == -1) {
+                    distance[node] = d;
+                    if (last == -1) {
+                        firstChild[parent] = node;
+                    } else {
+                        nextSibling[last] = node;
+                    }
+                    return;
+                }
+                parent = child;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer node = nodeById.remove(id);
+            if (node != null) {
+                removed.set(node);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodeById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Match> search(String query, int maxDistance, int limit) {
+        String key = WordNormalizer.normalize(query);
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            if (size == 0) {
+                return matches;
+            }
+            int[] previous = new int[key.length() + 1];
+            int[] current = new int[key.length() + 1];
+            int[] stack = new int[64];
+            int top = 0;
+            stack[top++] = 0;
+            while (top > 0) {
+                int node = stack[--top];
+                int d = levenshtein(keys[node], key, previous, current);
+                if (d <= maxDistance && !removed.get(node)) {
+                    matches.add(new Match(ids[node], words[node], d));
+                }
+                for (int child = firstChild[node]; child != -1; child = nextSibling[child]) {
+                    if (Math.abs(distance[child] - d) <= maxDistance) {
+                        if (top == stack.length) {
+                            stack = Arrays.copyOf(stack, top * 2);
+                        }
+                        stack[top++] = child;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(Comparator.comparingInt(Match::distance).thenComparing(Match::word));
+        return matches.size() > limit ? matches.subList(0, limit) : matches;
+    }
+
+    private int newNode(long id, String key, String word) {
+        if (size == keys.length) {
+            int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            words = Arrays.copyOf(words, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+            distance = Arrays.copyOf(distance, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+        }
+        int node = size++;
+        keys[node] = key;
+        words[node] = word;
+        ids[node] = id;
+        firstChild[node] = -1;
+        nextSibling[node] = -1;
+        return node;
+    }
+
+    static int levenshtein(String a, String b, int[] previous, int[] current) {
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            char ca = a.charAt(i - 1);
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+            }
+            int[] t = previous;
+            previous = current;
+            current = t;
+        }
+        return previous[b.length()];
+    }
+}
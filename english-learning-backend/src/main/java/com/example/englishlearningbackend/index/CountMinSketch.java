@@ -0,0 +1,112 @@
+package com.example.englishlearningbackend.index;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Fixed-size frequency summary of a stream of long items. Each of {@code depth} rows hashes an item
+ * to one of {@code width} counters and the estimate is the smallest of them, so it never
+ * undercounts and overcounts by at most about {@code e / width} of the stream total with
+ * probability {@code 1 - e^-depth}. Additions use conservative update: only counters below the new
+ * estimate are raised, which tightens the error for the long tail.
+ *
+ * <p>Not thread-safe.
+ */
+public class CountMinSketch {
+    private static final int FORMAT_VERSION = 1;
+
+    private final int width;
+    private final int depth;
+    private final long[] counters;
+    private final long[] seeds;
+    private long total;
+
+    public CountMinSketch(int width, int depth) {
+        if (Integer.bitCount(width) != 1 || depth < 1 || (long) width * depth > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Width must be a power of two and depth positive");
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new long[width * depth];
+        this.seeds = new long[depth];
+        long seed = 0x636d736b65746368L;
+        for (int row = 0; row < depth; row++) {
+            seed += 0x9e3779b97f4a7c15L;
+            seeds[row] = seed;
+        }
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    /**
+     * Sum of every count added so far.
+     */
+    public long total() {
+        return total;
+    }
+
+    public void add(long item, long count) {
+        if (count <= 0) {
+            return;
+        }
+        int[] slots = new int[depth];
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            slots[row] = slot(item, row);
+            estimate = Math.min(estimate, counters[slots[row]]);
+        }
+        long target = estimate + count;
+        for (int slot : slots) {
+            if (counters[slot] < target) {
+                counters[slot] = target;
+            }
+        }
+        total += count;
+    }
+
+    public long estimate(long item) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[slot(item, row)]);
+        }
+        return estimate;
+    }
+
+    private int slot(long item, int row) {
+        long h = (item ^ seeds[row]) * 0xff51afd7ed558ccdL;
+        h ^= h >>> 32;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 29;
+        return row * width + (int) (h & (width - 1));
+    }
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(width);
+        out.writeInt(depth);
+        out.writeLong(total);
+        for (long counter : counters) {
+            out.writeLong(counter);
+        }
+    }
+
+    public static CountMinSketch readFrom(DataInputStream in) throws IOException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported count-min sketch format " + version);
+        }
+        CountMinSketch sketch = new CountMinSketch(in.readInt(), in.readInt());
+        sketch.total = in.readLong();
+        for (int i = 0; i < sketch.counters.length; i++) {
+            sketch.counters[i] = in.readLong();
+        }
+        return sketch;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.englishlearningbackend.index;
+
+import com.example.englishlearningbackend.dto.VideoCueDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Subtitle cues of one video sorted by start time, with a running maximum of end times so a
+ * point query only walks back over cues that can still be active. Cues may overlap, as WebVTT
+ * allows; {@link #activeAt(long)} returns every cue covering the instant.
+ */
+public class CueIndex {
+    private final int[] positions;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;
+    private final String[] texts;
+
+    public CueIndex(List<VideoCueDto> cues) {
+        VideoCueDto[] sorted = cues.toArray(new VideoCueDto[0]);
+        Arrays.sort(sorted, (a, b) -> a.startMillis() != b.startMillis()
+                ? Long.compare(a.startMillis(), b.startMillis())
+                : Integer.compare(a.position(), b.position()));
+        int n = sorted.length;
+        positions = new int[n];
+        starts = new long[n];
+        ends = new long[n];
+        maxEnds = new long[n];
+        texts = new String[n];
+        long maxEnd = Long.MIN_VALUE;
+        for (int i = 0; i < n; i++) {
+            positions[i] = sorted[i].position();
+            starts[i] = sorted[i].startMillis();
+            ends[i] = sorted[i].endMillis();
+            texts[i] = sorted[i].text();
+            maxEnd = Math.max(maxEnd, ends[i]);
+            maxEnds[i] = maxEnd;
+        }
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * Cues with {@code start <= millis < end}, in start order.
+     */
+    public List<VideoCueDto> activeAt(long millis) {
+        int last = lastStartAtOrBefore(millis);
+        List<VideoCueDto> active = new ArrayList<>(1);
+        for (int i = last; i >= 0 && maxEnds[i] > millis; i--) {
+            if (ends[i] > millis) {
+                active.add(cue(i));
+            }
+        }
+        return active.reversed();
+    }
+
+    private int lastStartAtOrBefore(long millis) {
+        int lo = 0;
+        int hi = starts.length - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] <= millis) {
+                lo = mid + 1;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        return hi;
+    }
+
+    private VideoCueDto cue(int i) {
+        return new VideoCueDto(positions[i], starts[i], ends[i], texts[i]);
+    }
+}
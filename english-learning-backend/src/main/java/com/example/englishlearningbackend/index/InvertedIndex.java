@@ -0,0 +1,288 @@
+package com.example.englishlearningbackend.index;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Append-only inverted index with BM25 scoring. Documents are identified by an external long key
+ * and get increasing internal ids, so posting lists stay sorted without re-sorting. Updates and
+ * deletes tombstone the old document; {@link #compact()} drops tombstones.
+ */
+public class InvertedIndex {
+    private static final int FORMAT_VERSION = 1;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docIdByKey = new HashMap<>();
+    private long[] docKeys = new long[1024];
+    private int[] docLengths = new int[1024];
+    private final BitSet deleted = new BitSet();
+    private int docCount;
+    private int liveDocs;
+    private long totalLength;
+
+    public record Hit(long key, double score) {
+    }
+
+    public void put(long key, String text) {
+        List<String> tokens = TextTokenizer.tokenize(text);
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            if (tokens.isEmpty()) {
+                return;
+            }
+            int docId = docCount++;
+            if (docId == docKeys.length) {
+                docKeys = Arrays.copyOf(docKeys, docId * 2);
+                docLengths = Arrays.copyOf(docLengths, docId * 2);
+            }
+            docKeys[docId] = key;
+            docLengths[docId] = tokens.size();
+            docIdByKey.put(key, docId);
+            liveDocs++;
+            totalLength += tokens.size();
+            Map<String, Integer> frequencies = new HashMap<>();
+            for (String token : tokens) {
+                frequencies.merge(token, 1, Integer::sum);
+            }
+            frequencies.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new Postings()).append(docId, tf));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long key) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(long key) {
+        Integer docId = docIdByKey.remove(key);
+        if (docId != null) {
+            deleted.set(docId);
+            liveDocs--;
+            totalLength -= docLengths[docId];
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Hit> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(TextTokenizer.tokenize(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            Postings[] lists = new Postings[terms.size()];
+            for (int i = 0; i < lists.length; i++) {
+                lists[i] = postings.get(terms.get(i));
+                if (lists[i] == null) {
+                    return List.of();
+                }
+            }
+            Arrays.sort(lists, Comparator.comparingInt(p -> p.size));
+            double[] idf = new double[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                idf[i] = Math.log(1 + (liveDocs - lists[i].size + 0.5) / (lists[i].size + 0.5));
+            }
+            double avgLength = liveDocs == 0 ? 1 : (double) totalLength / liveDocs;
+            PriorityQueue<Hit> top = new PriorityQueue<>(Comparator.comparingDouble(Hit::score));
+            int[] cursors = new int[lists.length];
+            Postings lead = lists[0];
+            for (int i = 0; i < lead.size; i++) {
+                int docId = lead.docs[i];
+                if (deleted.get(docId)) {
+                    continue;
+                }
+                double norm = K1 * (1 - B + B * docLengths[docId] / avgLength);
+                double score = idf[0] * bm25(lead.freqs[i], norm);
+                boolean matchesAll = true;
+                for (int j = 1; j < lists.length && matchesAll; j++) {
+                    int pos = lists[j].advance(cursors[j], docId);
+                    cursors[j] = pos;
+                    if (pos == lists[j].size || lists[j].docs[pos] != docId) {
+                        matchesAll = false;
+                    } else {
+                        score += idf[j] * bm25(lists[j].freqs[pos], norm);
+                    }
+                }
+                if (matchesAll) {
+                    top.add(new Hit(docKeys[docId], score));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed());
+            return hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static double bm25(int tf, double norm) {
+        return tf * (K1 + 1) / (tf + norm);
+    }
+
+    public void compact() {
+        lock.writeLock().lock();
+        try {
+            if (deleted.isEmpty()) {
+                return;
+            }
+            int[] remap = new int[docCount];
+            int next = 0;
+            for (int docId = 0; docId < docCount; docId++) {
+                if (deleted.get(docId)) {
+                    remap[docId] = -1;
+                } else {
+                    remap[docId] = next;
+                    docKeys[next] = docKeys[docId];
+                    docLengths[next] = docLengths[docId];
+                    docIdByKey.put(docKeys[next], next);
+                    next++;
+                }
+            }
+            postings.values().removeIf(p -> p.remap(remap) == 0);
+            docCount = next;
+            deleted.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        compact();
+        lock.readLock().lock();
+        try {
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(docCount);
+            for (int docId = 0; docId < docCount; docId++) {
+                out.writeLong(docKeys[docId]);
+                out.writeInt(docLengths[docId]);
+            }
+            out.writeInt(postings.size());
+            for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+                Postings p = entry.getValue();
+                out.writeUTF(entry.getKey());
+                out.writeInt(p.size);
+                for (int i = 0; i < p.size; i++) {
+                    out.writeInt(p.docs[i]);
+                    out.writeInt(p.freqs[i]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static InvertedIndex readFrom(DataInputStream in) throws IOException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported search index format version " + version);
+        }
+        InvertedIndex index = new InvertedIndex();
+        int docs = in.readInt();
+        index.docKeys = new long[Math.max(docs, 1024)];
+        index.docLengths = new int[Math.max(docs, 1024)];
+        for (int docId = 0; docId < docs; docId++) {
+            index.docKeys[docId] = in.readLong();
+            index.docLengths[docId] = in.readInt();
+            index.docIdByKey.put(index.docKeys[docId], docId);
+            index.totalLength += index.docLengths[docId];
+        }
+        index.docCount = docs;
+        index.liveDocs = docs;
+        int terms = in.readInt();
+        for (int t = 0; t < terms; t++) {
+            String term = in.readUTF();
+            int size = in.readInt();
+            Postings p = new Postings(size);
+            for (int i = 0; i < size; i++) {
+                p.append(in.readInt(), in.readInt());
+            }
+            index.postings.put(term, p);
+        }
+        return index;
+    }
+
+    private static final class Postings {
+        private int[] docs;
+        private int[] freqs;
+        private int size;
+
+        Postings() {
+            this(4);
+        }
+
+        Postings(int capacity) {
+            docs = new int[Math.max(capacity, 1)];
+            freqs = new int[Math.max(capacity, 1)];
+        }
+
+        void append(int docId, int tf) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = docId;
+            freqs[size] = tf;
+            size++;
+        }
+
+        int advance(int from, int target) {
+            int step = 1;
+            int lo = from;
+            int hi = from;
+            while (hi < size && docs[hi] < target) {
+                lo = hi;
+                hi = Math.min(size, hi + step);
+                step <<= 1;
+            }
+            int pos = Arrays.binarySearch(docs, lo, hi, target);
+            return pos >= 0 ? pos : -pos - 1;
+        }
+
+        int remap(int[] remap) {
+            int next = 0;
+            for (int i = 0; i < size; i++) {
+                int docId = remap[docs[i]];
+                if (docId >= 0) {
+                    docs[next] = docId;
+                    freqs[next] = freqs[i];
+                    next++;
+                }
+            }
+            size = next;
+            return size;
+        }
+    }
+}
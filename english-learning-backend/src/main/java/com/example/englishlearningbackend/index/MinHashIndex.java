@@ -0,0 +1,330 @@
+package com.example.englishlearningbackend.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Near-duplicate index over character 5-gram shingles. Each text is reduced to a MinHash signature
+ * whose slots agree between two texts with probability equal to their Jaccard similarity, and the
+ * signature is split into bands that are hashed into buckets (locality-sensitive hashing), so only
+ * texts sharing a band are compared. With 16 bands of 4 rows a pair at similarity 0.8 shares a
+ * band 98% of the time and a pair at 0.3 about 12% of the time.
+ *
+ * <p>Signatures keep the low 16 bits of each min-hash, which adds about 1/65536 to the estimate.
+ * Documents get increasing internal ids like {@link InvertedIndex}; removed documents are
+ * tombstoned and dropped from the buckets when the table grows or half of it is dead.
+ */
+public class MinHashIndex {
+    public static final int HASHES = 64;
+
+    private static final int BANDS = 16;
+    private static final int ROWS = HASHES / BANDS;
+    private static final int SHINGLE = 5;
+    private static final int MAX_CANDIDATES = 2000;
+    private static final long[] MULTIPLIERS = new long[HASHES];
+    private static final long[] ADDENDS = new long[HASHES];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x6d696e68617368L);
+        for (int i = 0; i < HASHES; i++) {
+            MULTIPLIERS[i] = random.nextLong() | 1;
+            ADDENDS[i] = random.nextLong();
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> docIdByKey = new HashMap<>();
+    private long[] docKeys = new long[1024];
+    private char[] signatures = new char[1024 * HASHES];
+    private final BitSet deleted = new BitSet();
+    private int docCount;
+    private int deletedCount;
+    private int[] bucketKeys = new int[1 << 14];
+    private int[] bucketDocs = new int[1 << 14];
+    private int bucketCount;
+
+    public record Match(long key, double similarity) {
+    }
+
+    /**
+     * The MinHash signature of {@code text}, or null when it has no letters or digits.
+     */
+    public static char[] signature(String text) {
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        long[] min = new long[HASHES];
+        Arrays.fill(min, Long.MAX_VALUE);
+        int shingles = Math.max(1, normalized.length() - SHINGLE + 1);
+        for (int start = 0; start < shingles; start++) {
+            long h = shingleHash(normalized, start, Math.min(normalized.length(), start + SHINGLE));
+            for (int i = 0; i < HASHES; i++) {
+                long v = (MULTIPLIERS[i] * h + ADDENDS[i]) >>> 32;
+                if (v < min[i]) {
+                    min[i] = v;
+                }
+            }
+        }
+        char[] signature = new char[HASHES];
+        for (int i = 0; i < HASHES; i++) {
+            signature[i] = (char) min[i];
+        }
+        return signature;
+    }
+
+    public static double similarity(char[] a, char[] b) {
+        return similarity(a, 0, b, 0);
+    }
+
+    public void put(long key, String text) {
+        char[] signature = signature(text);
+        if (signature == null) {
+            remove(key);
+        } else {
+            put(key, signature);
+        }
+    }
+
+    public void put(long key, char[] signature) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+            int docId = docCount++;
+            if (docId == docKeys.length) {
+                docKeys = Arrays.copyOf(docKeys, docId * 2);
+                signatures = Arrays.copyOf(signatures, docId * 2 * HASHES);
+            }
+            docKeys[docId] = key;
+            System.arraycopy(signature, 0, signatures, docId * HASHES, HASHES);
+            docIdByKey.put(key, docId);
+            if ((bucketCount + BANDS) * 4L > bucketKeys.length * 3L) {
+                rebuildBuckets(bucketKeys.length * 2);
+            }
+            for (int band = 0; band < BANDS; band++) {
+                insertBucket(bandKey(signatures, docId * HASHES, band), docId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long key) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(long key) {
+        Integer docId = docIdByKey.remove(key);
+        if (docId != null) {
+            deleted.set(docId);
+            deletedCount++;
+            if (deletedCount * 2 > docCount) {
+                compactLocked();
+            }
+        }
+    }
+
+    /**
+     * A copy of the signature stored under {@code key}, or null when the key is not indexed.
+     */
+    public char[] signatureOf(long key) {
+        lock.readLock().lock();
+        try {
+            Integer docId = docIdByKey.get(key);
+            return docId == null ? null : Arrays.copyOfRange(signatures, docId * HASHES, (docId + 1) * HASHES);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docIdByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Documents most similar to the document stored under {@code key}, excluding itself, or empty
+     * when the key is not indexed.
+     */
+    public Optional<List<Match>> similar(long key, int limit, double minSimilarity) {
+        lock.readLock().lock();
+        try {
+            Integer docId = docIdByKey.get(key);
+            if (docId == null) {
+                return Optional.empty();
+            }
+            return Optional.of(searchLocked(signatures, docId * HASHES, docId, limit, minSimilarity));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Documents whose estimated similarity to {@code signature} is at least {@code minSimilarity},
+     * most similar first.
+     */
+    public List<Match> similar(char[] signature, int limit, double minSimilarity) {
+        if (signature == null || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return searchLocked(signature, 0, -1, limit, minSimilarity);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Match> searchLocked(char[] query, int offset, int self, int limit, double minSimilarity) {
+        PriorityQueue<Match> top = new PriorityQueue<>(Comparator.comparingDouble(Match::similarity));
+        Set<Integer> seen = new HashSet<>();
+        int mask = bucketKeys.length - 1;
+        for (int band = 0; band < BANDS && seen.size() < MAX_CANDIDATES; band++) {
+            int bandKey = bandKey(query, offset, band);
+            for (int slot = bandKey & mask; bucketKeys[slot] != 0 && seen.size() < MAX_CANDIDATES; slot = (slot + 1) & mask) {
+                int docId = bucketDocs[slot];
+                if (bucketKeys[slot] != bandKey || docId == self || deleted.get(docId) || !seen.add(docId)) {
+                    continue;
+                }
+                double similarity = similarity(query, offset, signatures, docId * HASHES);
+                if (similarity >= minSimilarity) {
+                    top.add(new Match(docKeys[docId], similarity));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+        }
+        List<Match> matches = new ArrayList<>(top);
+        matches.sort(Comparator.comparingDouble(Match::similarity).reversed());
+        return matches;
+    }
+
+    private void insertBucket(int bandKey, int docId) {
+        int mask = bucketKeys.length - 1;
+        int slot = bandKey & mask;
+        while (bucketKeys[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        bucketKeys[slot] = bandKey;
+        bucketDocs[slot] = docId;
+        bucketCount++;
+    }
+
+    private void rebuildBuckets(int capacity) {
+        bucketKeys = new int[capacity];
+        bucketDocs = new int[capacity];
+        bucketCount = 0;
+        for (int docId = 0; docId < docCount; docId++) {
+            if (!deleted.get(docId)) {
+                for (int band = 0; band < BANDS; band++) {
+                    insertBucket(bandKey(signatures, docId * HASHES, band), docId);
+                }
+            }
+        }
+    }
+
+    private void compactLocked() {
+        int next = 0;
+        for (int docId = 0; docId < docCount; docId++) {
+            if (!deleted.get(docId)) {
+                docKeys[next] = docKeys[docId];
+                System.arraycopy(signatures, docId * HASHES, signatures, next * HASHES, HASHES);
+                docIdByKey.put(docKeys[next], next);
+                next++;
+            }
+        }
+        docCount = next;
+        deleted.clear();
+        deletedCount = 0;
+        int capacity = bucketKeys.length;
+        while (capacity > 1 << 14 && (long) docCount * BANDS * 4 < capacity) {
+            capacity /= 2;
+        }
+        rebuildBuckets(capacity);
+    }
+
+    private static double similarity(char[] a, int aOffset, char[] b, int bOffset) {
+        int equal = 0;
+        for (int i = 0; i < HASHES; i++) {
+            if (a[aOffset + i] == b[bOffset + i]) {
+                equal++;
+            }
+        }
+        return (double) equal / HASHES;
+    }
+
+    /**
+     * A non-zero hash of one band; zero marks an empty bucket slot.
+     */
+    private static int bandKey(char[] signature, int offset, int band) {
+        long h = band;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            h = h * 0x10001 + signature[offset + i];
+        }
+        int key = (int) mix(h);
+        return key == 0 ? 1 : key;
+    }
+
+    private static long shingleHash(String text, int start, int end) {
+        long h = 0;
+        for (int i = start; i < end; i++) {
+            h = h * 0x10001 + text.charAt(i);
+        }
+        return mix(h);
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        return h ^ (h >>> 33);
+    }
+
+    /**
+     * Lower-cases letters and digits and collapses everything else into single spaces, so
+     * punctuation and spacing differences do not count against similarity.
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean space = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (space && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                normalized.append(Character.toLowerCase(c));
+                space = false;
+            } else {
+                space = true;
+            }
+        }
+        return normalized.toString();
+    }
+}
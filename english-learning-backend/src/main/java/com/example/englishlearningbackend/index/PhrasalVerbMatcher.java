@@ -0,0 +1,253 @@
+package com.example.englishlearningbackend.index;
+
+import com.example.englishlearningbackend.util.Inflector;
+import com.example.englishlearningbackend.util.WordNormalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Token-level automaton over phrasal verbs. Every entry is expanded into the inflected forms of its
+ * verb, so "stop by" also matches "stopped by" and "swing by" matches "swung by", and up to
+ * {@code maxGap} object tokens may sit between the verb and its first particle, as in "drop it by".
+ * Tokens are interned to ints and transitions stored as sorted per-state edge ranges; a scan keeps
+ * at most a few partial matches alive per token, so it stays linear in the length of the text.
+ */
+public class PhrasalVerbMatcher {
+    private static final int ROOT = 0;
+    private static final int UNKNOWN = -1;
+    private static final Set<String> GAP_BREAKERS = Set.of(
+            "and", "or", "but", "so", "because", "if", "when", "while", "then", "than",
+            "to", "of", "for", "with", "at", "from", "into", "onto", "about", "after", "before",
+            "is", "are", "was", "were", "be", "been", "not");
+
+    private final Map<String, Integer> tokens;
+    private final int[] edgeStart;
+    private final int[] edgeTokens;
+    private final int[] edgeTargets;
+    private final int[] outputStart;
+    private final long[] outputs;
+    private final int maxGap;
+    private final int patterns;
+
+    private PhrasalVerbMatcher(Map<String, Integer> tokens, int[] edgeStart, int[] edgeTokens, int[] edgeTargets,
+                               int[] outputStart, long[] outputs, int maxGap, int patterns) {
+        this.tokens = tokens;
+        this.edgeStart = edgeStart;
+        this.edgeTokens = edgeTokens;
+        this.edgeTargets = edgeTargets;
+        this.outputStart = outputStart;
+        this.outputs = outputs;
+        this.maxGap = maxGap;
+        this.patterns = patterns;
+    }
+
+    public static Builder builder(int maxGap) {
+        return new Builder(maxGap);
+    }
+
+    public int size() {
+        return patterns;
+    }
+
+    public List<AhoCorasick.Match> findAll(CharSequence text) {
+        List<AhoCorasick.Match> matches = new ArrayList<>();
+        scan(text, matches::add);
+        return matches;
+    }
+
+    /**
+     * Reports matches in order of their end offset. Punctuation, or a conjunction or preposition
+     * inside the gap, ends a partial match.
+     */
+    public void scan(CharSequence text, Consumer<AhoCorasick.Match> consumer) {
+        int capacity = 8;
+        int[] nodes = new int[capacity];
+        int[] starts = new int[capacity];
+        int[] gaps = new int[capacity];
+        int[] nextNodes = new int[capacity];
+        int[] nextStarts = new int[capacity];
+        int[] nextGaps = new int[capacity];
+        int active = 0;
+        int length = text.length();
+        int i = 0;
+        boolean broken = false;
+        StringBuilder token = new StringBuilder();
+        while (i < length) {
+            char ch = text.charAt(i);
+            if (!Character.isLetterOrDigit(ch)) {
+                broken |= !Character.isWhitespace(ch);
+                i++;
+                continue;
+            }
+            int start = i;
+            token.setLength(0);
+            while (i < length && (Character.isLetterOrDigit(text.charAt(i)) || isJoiner(text, i))) {
+                token.append(Character.toLowerCase(text.charAt(i) == '’' ? '\'' : text.charAt(i)));
+                i++;
+            }
+            if (broken) {
+                active = 0;
+                broken = false;
+            }
+            String word = token.toString();
+            int id = tokens.getOrDefault(word, UNKNOWN);
+            boolean gapAllowed = !GAP_BREAKERS.contains(word);
+
+            int next = 0;
+            for (int t = 0; t < active + 1; t++) {
+                int node = t < active ? nodes[t] : ROOT;
+                int from = t < active ? starts[t] : start;
+                int child = id == UNKNOWN ? -1 : next(node, id);
+                if (next + 2 > nextNodes.length) {
+                    capacity *= 2;
+                    nextNodes = Arrays.copyOf(nextNodes, capacity);
+                    nextStarts = Arrays.copyOf(nextStarts, capacity);
+                    nextGaps = Arrays.copyOf(nextGaps, capacity);
+                }
+                if (child != -1) {
+                    nextNodes[next] = child;
+                    nextStarts[next] = from;
+                    nextGaps[next++] = 0;
+                    for (int o = outputStart[child]; o < outputStart[child + 1]; o++) {
+                        consumer.accept(new AhoCorasick.Match(outputs[o], from, i));
+                    }
+                }
+                if (t < active && gapAllowed && isVerbState(node) && gaps[t] < maxGap) {
+                    nextNodes[next] = node;
+                    nextStarts[next] = from;
+                    nextGaps[next++] = gaps[t] + 1;
+                }
+            }
+            int[] swap = nodes;
+            nodes = nextNodes;
+            nextNodes = swap;
+            swap = starts;
+            starts = nextStarts;
+            nextStarts = swap;
+            swap = gaps;
+            gaps = nextGaps;
+            nextGaps = swap;
+            active = next;
+        }
+    }
+
+    private boolean isVerbState(int node) {
+        return node > ROOT && node <= edgeStart[ROOT + 1];
+    }
+
+    private int next(int state, int token) {
+        int lo = edgeStart[state];
+        int hi = edgeStart[state + 1] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            int m = edgeTokens[mid];
+            if (m < token) {
+                lo = mid + 1;
+            } else if (m > token) {
+                hi = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isJoiner(CharSequence text, int i) {
+        char ch = text.charAt(i);
+        return (ch == '\'' || ch == '’' || ch == '-')
+                && i + 1 < text.length() && Character.isLetterOrDigit(text.charAt(i + 1));
+    }
+
+    public static class Builder {
+        private final int maxGap;
+        private final Map<String, Integer> tokens = new HashMap<>();
+        private final List<Node> nodes = new ArrayList<>(List.of(new Node()));
+        private int patterns;
+
+        private static class Node {
+            private final TreeMap<Integer, Integer> children = new TreeMap<>();
+            private long[] ids = new long[0];
+        }
+
+        private Builder(int maxGap) {
+            this.maxGap = maxGap;
+        }
+
+        /**
+         * Adds a verb followed by one or more particles; entries of a single word are ignored.
+         */
+        public Builder add(long id, String phrase) {
+            String[] words = WordNormalizer.normalize(phrase).split(" ");
+            if (words.length < 2) {
+                return this;
+            }
+            for (String form : Inflector.verbForms(words[0])) {
+                int node = child(ROOT, form);
+                for (int w = 1; w < words.length; w++) {
+                    node = child(node, words[w]);
+                }
+                Node terminal = nodes.get(node);
+                if (Arrays.stream(terminal.ids).noneMatch(existing -> existing == id)) {
+                    terminal.ids = Arrays.copyOf(terminal.ids, terminal.ids.length + 1);
+                    terminal.ids[terminal.ids.length - 1] = id;
+                }
+            }
+            patterns++;
+            return this;
+        }
+
+        private int child(int node, String word) {
+            int token = tokens.computeIfAbsent(word, w -> tokens.size());
+            return nodes.get(node).children.computeIfAbsent(token, t -> {
+                nodes.add(new Node());
+                return nodes.size() - 1;
+            });
+        }
+
+        /**
+         * Renumbers states breadth first, so the verb states directly follow the root and each
+         * state's edges can be laid out as one contiguous, token-sorted range.
+         */
+        public PhrasalVerbMatcher build() {
+            int states = nodes.size();
+            int[] order = new int[states];
+            int[] renumbered = new int[states];
+            int tail = 1;
+            for (int head = 0; head < tail; head++) {
+                for (int child : nodes.get(order[head]).children.values()) {
+                    renumbered[child] = tail;
+                    order[tail++] = child;
+                }
+            }
+            int[] edgeStart = new int[states + 1];
+            int[] edgeTokens = new int[states - 1];
+            int[] edgeTargets = new int[states - 1];
+            int[] outputStart = new int[states + 1];
+            long[] outputs = new long[nodes.stream().mapToInt(n -> n.ids.length).sum()];
+            int e = 0;
+            int o = 0;
+            for (int s = 0; s < states; s++) {
+                Node node = nodes.get(order[s]);
+                edgeStart[s] = e;
+                for (Map.Entry<Integer, Integer> edge : node.children.entrySet()) {
+                    edgeTokens[e] = edge.getKey();
+                    edgeTargets[e++] = renumbered[edge.getValue()];
+                }
+                outputStart[s] = o;
+                System.arraycopy(node.ids, 0, outputs, o, node.ids.length);
+                o += node.ids.length;
+            }
+            edgeStart[states] = e;
+            outputStart[states] = o;
+            return new PhrasalVerbMatcher(Map.copyOf(tokens), edgeStart, edgeTokens, edgeTargets,
+                    outputStart, outputs, maxGap, patterns);
+        }
+    }
+}
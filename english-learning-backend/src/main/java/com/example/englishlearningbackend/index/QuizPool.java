@@ -0,0 +1,262 @@
+package com.example.englishlearningbackend.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable, array-backed sampling pools for quiz generation. Words, meanings and sentence ids are
+ * partitioned by the phrasal-verb flag so prompts and distractors can be drawn by a single random
+ * index into the matching pool. Prompt and sentence pools are ordered by frequency rank, so the
+ * entries within a rank limit are a prefix found by binary search.
+ */
+public class QuizPool {
+    private static final int ATTEMPTS_PER_PICK = 8;
+
+    private final long[] wordIds;
+    private final String[] words;
+    private final boolean[] phrasal;
+    private final int[] frequencyRanks;
+    private final int[] meaningStart;
+    private final String[] meanings;
+    private final long[] sentenceIds;
+    private final int[] sentenceWords;
+    private final int[][] promptWords = new int[2][];
+    private final int[][] meaningPool = new int[2][];
+    private final int[][] sentencePool = new int[2][];
+
+    private QuizPool(Builder builder) {
+        int n = builder.wordIds.size();
+        wordIds = builder.wordIds.stream().mapToLong(Long::longValue).toArray();
+        words = builder.words.toArray(new String[0]);
+        phrasal = new boolean[n];
+        frequencyRanks = new int[n];
+        for (int i = 0; i < n; i++) {
+            phrasal[i] = builder.phrasal.get(i);
+            frequencyRanks[i] = builder.frequencyRanks.get(i);
+        }
+        meaningStart = new int[n + 1];
+        for (int word : builder.meaningWords) {
+            meaningStart[word + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            meaningStart[i + 1] += meaningStart[i];
+        }
+        meanings = new String[builder.meaningWords.size()];
+        int[] meaningOwner = new int[meanings.length];
+        int[] fill = Arrays.copyOf(meaningStart, n);
+        for (int i = 0; i < meanings.length; i++) {
+            int word = builder.meaningWords.get(i);
+            int pos = fill[word]++;
+            meanings[pos] = builder.meaningTexts.get(i);
+            meaningOwner[pos] = word;
+        }
+        sentenceIds = builder.sentenceIds.stream().mapToLong(Long::longValue).toArray();
+        sentenceWords = builder.sentenceWords.stream().mapToInt(Integer::intValue).toArray();
+        for (int group = 0; group < 2; group++) {
+            boolean isPhrasal = group == 1;
+            promptWords[group] = byRank(IntStream.range(0, n)
+                    .filter(i -> phrasal[i] == isPhrasal && meaningStart[i + 1] > meaningStart[i]), i -> i);
+            meaningPool[group] = IntStream.range(0, meanings.length)
+                    .filter(m -> phrasal[meaningOwner[m]] == isPhrasal)
+                    .toArray();
+            sentencePool[group] = byRank(IntStream.range(0, sentenceIds.length)
+                    .filter(s -> phrasal[sentenceWords[s]] == isPhrasal), s -> sentenceWords[s]);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public long wordId(int word) {
+        return wordIds[word];
+    }
+
+    public String word(int word) {
+        return words[word];
+    }
+
+    public long sentenceId(int sentence) {
+        return sentenceIds[sentence];
+    }
+
+    public int sentenceWord(int sentence) {
+        return sentenceWords[sentence];
+    }
+
+    public int randomWord(Boolean phrasalVerb, Random random) {
+        return randomWord(phrasalVerb, Integer.MAX_VALUE, random);
+    }
+
+    /**
+     * A random prompt word whose frequency rank is at most {@code maxRank}, or -1 when none is.
+     */
+    public int randomWord(Boolean phrasalVerb, int maxRank, Random random) {
+        return pick(promptWords, i -> i, phrasalVerb, maxRank, random);
+    }
+
+    public int randomSentence(Boolean phrasalVerb, Random random) {
+        return randomSentence(phrasalVerb, Integer.MAX_VALUE, random);
+    }
+
+    public int randomSentence(Boolean phrasalVerb, int maxRank, Random random) {
+        return pick(sentencePool, s -> sentenceWords[s], phrasalVerb, maxRank, random);
+    }
+
+    public String randomMeaning(int word, Random random) {
+        int from = meaningStart[word];
+        return meanings[from + random.nextInt(meaningStart[word + 1] - from)];
+    }
+
+    public List<String> distractorMeanings(int word, int count, Random random) {
+        Set<String> exclude = new HashSet<>(Arrays.asList(meanings).subList(meaningStart[word], meaningStart[word + 1]));
+        List<String> picked = new ArrayList<>(count);
+        int group = phrasal[word] ? 1 : 0;
+        for (int g : new int[]{group, 1 - group}) {
+            int[] pool = meaningPool[g];
+            sample(pool, count - picked.size(), random, m -> {
+                if (exclude.add(meanings[m])) {
+                    picked.add(meanings[m]);
+                    return true;
+                }
+                return false;
+            });
+        }
+        return picked;
+    }
+
+    public List<String> distractorWords(int word, int count, Random random) {
+        Set<Integer> exclude = new HashSet<>(List.of(word));
+        List<String> picked = new ArrayList<>(count);
+        int group = phrasal[word] ? 1 : 0;
+        for (int g : new int[]{group, 1 - group}) {
+            int[] pool = promptWords[g];
+            sample(pool, count - picked.size(), random, w -> {
+                if (exclude.add(w)) {
+                    picked.add(words[w]);
+                    return true;
+                }
+                return false;
+            });
+        }
+        return picked;
+    }
+
+    /**
+     * Rejection-samples {@code count} accepted entries, which is constant time while the pool is
+     * much larger than the excluded set; small pools fall back to one pass from a random offset.
+     */
+    private static void sample(int[] pool, int count, Random random, IntPredicate accept) {
+        if (count <= 0 || pool.length == 0) {
+            return;
+        }
+        int accepted = 0;
+        for (int attempt = 0; attempt < count * ATTEMPTS_PER_PICK && accepted < count; attempt++) {
+            if (accept.test(pool[random.nextInt(pool.length)])) {
+                accepted++;
+            }
+        }
+        int offset = random.nextInt(pool.length);
+        for (int i = 0; i < pool.length && accepted < count; i++) {
+            if (accept.test(pool[(offset + i) % pool.length])) {
+                accepted++;
+            }
+        }
+    }
+
+    private int pick(int[][] pools, IntUnaryOperator wordOf, Boolean phrasalVerb, int maxRank, Random random) {
+        if (phrasalVerb != null) {
+            int[] pool = pools[phrasalVerb ? 1 : 0];
+            int eligible = eligible(pool, wordOf, maxRank);
+            return eligible == 0 ? -1 : pool[random.nextInt(eligible)];
+        }
+        int first = eligible(pools[0], wordOf, maxRank);
+        int total = first + eligible(pools[1], wordOf, maxRank);
+        if (total == 0) {
+            return -1;
+        }
+        int i = random.nextInt(total);
+        return i < first ? pools[0][i] : pools[1][i - first];
+    }
+
+    /**
+     * How many leading entries of a rank-ordered pool are within {@code maxRank}.
+     */
+    private int eligible(int[] pool, IntUnaryOperator wordOf, int maxRank) {
+        int lo = 0;
+        int hi = pool.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (frequencyRanks[wordOf.applyAsInt(pool[mid])] <= maxRank) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int[] byRank(IntStream entries, IntUnaryOperator wordOf) {
+        return entries.boxed()
+                .sorted(Comparator.comparingInt(e -> frequencyRanks[wordOf.applyAsInt(e)]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    public static class Builder {
+        private final Map<Long, Integer> indexById = new HashMap<>();
+        private final List<Long> wordIds = new ArrayList<>();
+        private final List<String> words = new ArrayList<>();
+        private final List<Boolean> phrasal = new ArrayList<>();
+        private final List<Integer> frequencyRanks = new ArrayList<>();
+        private final List<Integer> meaningWords = new ArrayList<>();
+        private final List<String> meaningTexts = new ArrayList<>();
+        private final List<Long> sentenceIds = new ArrayList<>();
+        private final List<Integer> sentenceWords = new ArrayList<>();
+
+        public Builder word(long id, String word, boolean phrasalVerb) {
+            return word(id, word, phrasalVerb, Integer.MAX_VALUE);
+        }
+
+        public Builder word(long id, String word, boolean phrasalVerb, int frequencyRank) {
+            indexById.put(id, wordIds.size());
+            wordIds.add(id);
+            words.add(word);
+            phrasal.add(phrasalVerb);
+            frequencyRanks.add(frequencyRank);
+            return this;
+        }
+
+        public Builder meaning(long wordId, String meaning) {
+            Integer word = indexById.get(wordId);
+            if (word != null) {
+                meaningWords.add(word);
+                meaningTexts.add(meaning);
+            }
+            return this;
+        }
+
+        public Builder sentence(long wordId, long sentenceId) {
+            Integer word = indexById.get(wordId);
+            if (word != null) {
+                sentenceIds.add(sentenceId);
+                sentenceWords.add(word);
+            }
+            return this;
+        }
+
+        public QuizPool build() {
+            return new QuizPool(this);
+        }
+    }
+}
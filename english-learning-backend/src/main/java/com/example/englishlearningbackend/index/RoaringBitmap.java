@@ -0,0 +1,616 @@
+package com.example.englishlearningbackend.index;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of ints laid out like a Roaring bitmap: values are grouped by their high 16 bits,
+ * and each group keeps its low 16 bits in a sorted char array while it has at most 4096 members,
+ * or in a 65536-bit bitmap once it is denser. Set operations run group by group, so intersecting
+ * two sets only touches the groups both contain and a bitmap pair costs 1024 word operations.
+ * Run-length containers are left out. Values are treated as unsigned.
+ */
+public class RoaringBitmap {
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    private char[] keys;
+    private Container[] containers;
+    private int size;
+
+    public RoaringBitmap() {
+        this(4);
+    }
+
+    private RoaringBitmap(int capacity) {
+        keys = new char[capacity];
+        containers = new Container[capacity];
+    }
+
+    public static RoaringBitmap of(int... values) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    public void add(int value) {
+        char key = (char) (value >>> 16);
+        int i = Arrays.binarySearch(keys, 0, size, key);
+        if (i >= 0) {
+            containers[i] = containers[i].add((char) value);
+        } else {
+            insert(-i - 1, key, new ArrayContainer(new char[]{(char) value}, 1));
+        }
+    }
+
+    public void remove(int value) {
+        int i = Arrays.binarySearch(keys, 0, size, (char) (value >>> 16));
+        if (i < 0) {
+            return;
+        }
+        Container container = containers[i].remove((char) value);
+        if (container.cardinality() == 0) {
+            System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+            System.arraycopy(containers, i + 1, containers, i, size - i - 1);
+            containers[--size] = null;
+        } else {
+            containers[i] = container;
+        }
+    }
+
+    public boolean contains(int value) {
+        int i = Arrays.binarySearch(keys, 0, size, (char) (value >>> 16));
+        return i >= 0 && containers[i].contains((char) value);
+    }
+
+    public long cardinality() {
+        long cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public RoaringBitmap copy() {
+        RoaringBitmap copy = new RoaringBitmap(Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            copy.append(keys[i], containers[i].copy());
+        }
+        return copy;
+    }
+
+    /**
+     * Values in ascending unsigned order.
+     */
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, consumer);
+        }
+    }
+
+    /**
+     * The smallest {@code limit} values, in ascending unsigned order.
+     */
+    public int[] toArray(int limit) {
+        int[] values = new int[(int) Math.min(limit, cardinality())];
+        int[] n = {0};
+        for (int i = 0; i < size && n[0] < values.length; i++) {
+            containers[i].forEach(keys[i] << 16, value -> {
+                if (n[0] < values.length) {
+                    values[n[0]++] = value;
+                }
+            });
+        }
+        return values;
+    }
+
+    public static RoaringBitmap and(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap(Math.max(1, Math.min(a.size, b.size)));
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                Container container = a.containers[i].and(b.containers[j]);
+                if (container.cardinality() > 0) {
+                    result.append(a.keys[i], container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Size of the intersection, without materializing it.
+     */
+    public static long andCardinality(RoaringBitmap a, RoaringBitmap b) {
+        long cardinality = 0;
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                cardinality += a.containers[i++].andCardinality(b.containers[j++]);
+            }
+        }
+        return cardinality;
+    }
+
+    /**
+     * The values of {@code a} that are not in {@code b}.
+     */
+    public static RoaringBitmap andNot(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap(Math.max(1, a.size));
+        int j = 0;
+        for (int i = 0; i < a.size; i++) {
+            while (j < b.size && b.keys[j] < a.keys[i]) {
+                j++;
+            }
+            Container container = j < b.size && b.keys[j] == a.keys[i]
+                    ? a.containers[i].andNot(b.containers[j])
+                    : a.containers[i].copy();
+            if (container.cardinality() > 0) {
+                result.append(a.keys[i], container);
+            }
+        }
+        return result;
+    }
+
+    public static RoaringBitmap or(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap(Math.max(1, a.size + b.size));
+        int i = 0;
+        int j = 0;
+        while (i < a.size || j < b.size) {
+            if (j == b.size || (i < a.size && a.keys[i] < b.keys[j])) {
+                result.append(a.keys[i], a.containers[i++].copy());
+            } else if (i == a.size || a.keys[i] > b.keys[j]) {
+                result.append(b.keys[j], b.containers[j++].copy());
+            } else {
+                result.append(a.keys[i], a.containers[i++].or(b.containers[j++]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Container count, then per container its key, its cardinality minus one and its contents: the
+     * sorted low bits for an array, 1024 longs for a bitmap. The cardinality tells which is which.
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(16 + 4 * size);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeChar(keys[i]);
+                out.writeChar(containers[i].cardinality() - 1);
+                containers[i].writeTo(out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+
+    public static RoaringBitmap fromBytes(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            int size = in.readInt();
+            if (size < 0 || size > 1 << 16) {
+                throw new IllegalArgumentException("Corrupt bitmap: " + size + " containers");
+            }
+            RoaringBitmap bitmap = new RoaringBitmap(Math.max(size, 1));
+            for (int i = 0; i < size; i++) {
+                char key = in.readChar();
+                int cardinality = in.readChar() + 1;
+                if (cardinality <= ARRAY_MAX) {
+                    char[] values = new char[cardinality];
+                    for (int v = 0; v < cardinality; v++) {
+                        values[v] = in.readChar();
+                    }
+                    bitmap.append(key, new ArrayContainer(values, cardinality));
+                } else {
+                    long[] words = new long[BITMAP_WORDS];
+                    for (int w = 0; w < BITMAP_WORDS; w++) {
+                        words[w] = in.readLong();
+                    }
+                    bitmap.append(key, new BitmapContainer(words, cardinality));
+                }
+            }
+            return bitmap;
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Corrupt bitmap", e);
+        }
+    }
+
+    private void insert(int index, char key, Container container) {
+        ensureCapacity(size + 1);
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void append(char key, Container container) {
+        ensureCapacity(size + 1);
+        keys[size] = key;
+        containers[size++] = container;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > keys.length) {
+            int grown = Math.max(capacity, keys.length * 2);
+            keys = Arrays.copyOf(keys, grown);
+            containers = Arrays.copyOf(containers, grown);
+        }
+    }
+
+    /**
+     * The low 16 bits of one group. Operations return the container to keep, which may be a
+     * different kind once the cardinality crosses {@link #ARRAY_MAX}; results never share storage
+     * with their inputs.
+     */
+    private abstract static sealed class Container permits ArrayContainer, BitmapContainer {
+        abstract int cardinality();
+
+        abstract boolean contains(char value);
+
+        abstract Container add(char value);
+
+        abstract Container remove(char value);
+
+        abstract Container and(Container other);
+
+        abstract int andCardinality(Container other);
+
+        abstract Container andNot(Container other);
+
+        abstract Container or(Container other);
+
+        abstract Container copy();
+
+        abstract void forEach(int high, IntConsumer consumer);
+
+        abstract void writeTo(DataOutputStream out) throws IOException;
+    }
+
+    private static final class ArrayContainer extends Container {
+        private char[] values;
+        private int cardinality;
+
+        ArrayContainer(char[] values, int cardinality) {
+            this.values = values;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        @Override
+        Container add(char value) {
+            int i = Arrays.binarySearch(values, 0, cardinality, value);
+            if (i >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                return toBitmap().add(value);
+            }
+            i = -i - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, Math.max(4, cardinality * 2)));
+            }
+            System.arraycopy(values, i, values, i + 1, cardinality - i);
+            values[i] = value;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            int i = Arrays.binarySearch(values, 0, cardinality, value);
+            if (i >= 0) {
+                System.arraycopy(values, i + 1, values, i, cardinality - i - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[Math.min(cardinality, other.cardinality())];
+            int n = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        result[n++] = values[i++];
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        result[n++] = values[i];
+                    }
+                }
+            }
+            return new ArrayContainer(result, n);
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            int n = 0;
+            if (other instanceof ArrayContainer array) {
+                int i = 0;
+                int j = 0;
+                while (i < cardinality && j < array.cardinality) {
+                    if (values[i] < array.values[j]) {
+                        i++;
+                    } else if (values[i] > array.values[j]) {
+                        j++;
+                    } else {
+                        n++;
+                        i++;
+                        j++;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    if (other.contains(values[i])) {
+                        n++;
+                    }
+                }
+            }
+            return n;
+        }
+
+        @Override
+        Container andNot(Container other) {
+            char[] result = new char[cardinality];
+            int n = 0;
+            for (int i = 0; i < cardinality; i++) {
+                if (!other.contains(values[i])) {
+                    result[n++] = values[i];
+                }
+            }
+            return new ArrayContainer(result, n);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer bitmap) {
+                return bitmap.or(this);
+            }
+            ArrayContainer array = (ArrayContainer) other;
+            if (cardinality + array.cardinality > ARRAY_MAX) {
+                BitmapContainer bitmap = toBitmap();
+                for (int j = 0; j < array.cardinality; j++) {
+                    bitmap.add(array.values[j]);
+                }
+                return bitmap.cardinality() > ARRAY_MAX ? bitmap : bitmap.toArray();
+            }
+            char[] result = new char[cardinality + array.cardinality];
+            int i = 0;
+            int j = 0;
+            int n = 0;
+            while (i < cardinality || j < array.cardinality) {
+                if (j == array.cardinality || (i < cardinality && values[i] < array.values[j])) {
+                    result[n++] = values[i++];
+                } else if (i == cardinality || values[i] > array.values[j]) {
+                    result[n++] = array.values[j++];
+                } else {
+                    result[n++] = values[i++];
+                    j++;
+                }
+            }
+            return new ArrayContainer(result, n);
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, cardinality), cardinality);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer consumer) {
+            for (int i = 0; i < cardinality; i++) {
+                consumer.accept(high | values[i]);
+            }
+        }
+
+        @Override
+        void writeTo(DataOutputStream out) throws IOException {
+            for (int i = 0; i < cardinality; i++) {
+                out.writeChar(values[i]);
+            }
+        }
+
+        private BitmapContainer toBitmap() {
+            long[] words = new long[BITMAP_WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            return new BitmapContainer(words, cardinality);
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        boolean contains(char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        Container add(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] = before | (1L << value);
+            if (before != words[value >>> 6]) {
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char value) {
+            long before = words[value >>> 6];
+            words[value >>> 6] = before & ~(1L << value);
+            if (before != words[value >>> 6]) {
+                cardinality--;
+            }
+            return cardinality > ARRAY_MAX ? this : toArray();
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer array) {
+                return array.and(this);
+            }
+            long[] theirs = ((BitmapContainer) other).words;
+            long[] result = new long[BITMAP_WORDS];
+            int n = 0;
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                result[w] = words[w] & theirs[w];
+                n += Long.bitCount(result[w]);
+            }
+            return normalized(result, n);
+        }
+
+        @Override
+        int andCardinality(Container other) {
+            if (other instanceof ArrayContainer array) {
+                return array.andCardinality(this);
+            }
+            long[] theirs = ((BitmapContainer) other).words;
+            int n = 0;
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                n += Long.bitCount(words[w] & theirs[w]);
+            }
+            return n;
+        }
+
+        @Override
+        Container andNot(Container other) {
+            long[] result = words.clone();
+            int n = 0;
+            if (other instanceof ArrayContainer array) {
+                n = cardinality;
+                for (int i = 0; i < array.cardinality; i++) {
+                    char value = array.values[i];
+                    if ((result[value >>> 6] & (1L << value)) != 0) {
+                        result[value >>> 6] &= ~(1L << value);
+                        n--;
+                    }
+                }
+            } else {
+                long[] theirs = ((BitmapContainer) other).words;
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    result[w] &= ~theirs[w];
+                    n += Long.bitCount(result[w]);
+                }
+            }
+            return normalized(result, n);
+        }
+
+        @Override
+        Container or(Container other) {
+            long[] result = words.clone();
+            int n = 0;
+            if (other instanceof ArrayContainer array) {
+                n = cardinality;
+                for (int i = 0; i < array.cardinality; i++) {
+                    char value = array.values[i];
+                    if ((result[value >>> 6] & (1L << value)) == 0) {
+                        result[value >>> 6] |= 1L << value;
+                        n++;
+                    }
+                }
+            } else {
+                long[] theirs = ((BitmapContainer) other).words;
+                for (int w = 0; w < BITMAP_WORDS; w++) {
+                    result[w] |= theirs[w];
+                    n += Long.bitCount(result[w]);
+                }
+            }
+            return new BitmapContainer(result, n);
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), cardinality);
+        }
+
+        @Override
+        void forEach(int high, IntConsumer consumer) {
+            for (int w = 0; w < BITMAP_WORDS; w++) {
+                long word = words[w];
+                while (word != 0) {
+                    consumer.accept(high | (w << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        void writeTo(DataOutputStream out) throws IOException {
+            for (long word : words) {
+                out.writeLong(word);
+            }
+        }
+
+        private ArrayContainer toArray() {
+            char[] values = new char[cardinality];
+            int[] n = {0};
+            forEach(0, value -> values[n[0]++] = (char) value);
+            return new ArrayContainer(values, cardinality);
+        }
+
+        private static Container normalized(long[] words, int cardinality) {
+            BitmapContainer bitmap = new BitmapContainer(words, cardinality);
+            return cardinality > ARRAY_MAX ? bitmap : bitmap.toArray();
+        }
+    }
+}
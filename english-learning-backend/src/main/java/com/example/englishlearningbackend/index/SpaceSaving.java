@@ -0,0 +1,168 @@
+package com.example.englishlearningbackend.index;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving top-k tracker. Keeps at most {@code capacity} counters; an untracked item replaces
+ * the smallest counter and inherits its count as error, so every item more frequent than
+ * {@code total / capacity} is guaranteed to be tracked and no count is ever under-reported. The
+ * counters form a binary min-heap, making each update logarithmic in the capacity.
+ *
+ * <p>Not thread-safe.
+ */
+public class SpaceSaving {
+    private static final int FORMAT_VERSION = 1;
+
+    private final int capacity;
+    private final long[] items;
+    private final long[] counts;
+    private final long[] errors;
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private int size;
+
+    /**
+     * A tracked item; its true count lies between {@code count - error} and {@code count}.
+     */
+    public record Counter(long item, long count, long error) {
+    }
+
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.items = new long[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public void add(long item, long count) {
+        if (count <= 0) {
+            return;
+        }
+        Integer pos = positions.get(item);
+        if (pos != null) {
+            counts[pos] += count;
+            siftDown(pos);
+        } else if (size < capacity) {
+            set(size, item, count, 0);
+            siftUp(size++);
+        } else {
+            positions.remove(items[0]);
+            long floor = counts[0];
+            set(0, item, floor + count, floor);
+            siftDown(0);
+        }
+    }
+
+    /**
+     * The upper bound on the count of {@code item}, or -1 when it is not tracked.
+     */
+    public long count(long item) {
+        Integer pos = positions.get(item);
+        return pos == null ? -1 : counts[pos];
+    }
+
+    public List<Counter> top(int limit) {
+        List<Counter> counters = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            counters.add(new Counter(items[i], counts[i], errors[i]));
+        }
+        counters.sort(Comparator.comparingLong(Counter::count).reversed().thenComparingLong(Counter::item));
+        return counters.subList(0, Math.min(Math.max(limit, 0), counters.size()));
+    }
+
+    /**
+     * A tracker of the given capacity holding this tracker's largest counters. Dropped items fall
+     * back to untracked, and a smaller counter never outlives a larger one, so counts stay upper
+     * bounds.
+     */
+    public SpaceSaving resized(int newCapacity) {
+        SpaceSaving tracker = new SpaceSaving(newCapacity);
+        for (Counter counter : top(newCapacity)) {
+            tracker.set(tracker.size, counter.item(), counter.count(), counter.error());
+            tracker.siftUp(tracker.size++);
+        }
+        return tracker;
+    }
+
+    private void set(int pos, long item, long count, long error) {
+        items[pos] = item;
+        counts[pos] = count;
+        errors[pos] = error;
+        positions.put(item, pos);
+    }
+
+    private void siftUp(int pos) {
+        while (pos > 0) {
+            int parent = (pos - 1) / 2;
+            if (counts[parent] <= counts[pos]) {
+                return;
+            }
+            swap(pos, parent);
+            pos = parent;
+        }
+    }
+
+    private void siftDown(int pos) {
+        while (true) {
+            int smallest = pos;
+            int left = 2 * pos + 1;
+            if (left < size && counts[left] < counts[smallest]) {
+                smallest = left;
+            }
+            if (left + 1 < size && counts[left + 1] < counts[smallest]) {
+                smallest = left + 1;
+            }
+            if (smallest == pos) {
+                return;
+            }
+            swap(pos, smallest);
+            pos = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long item = items[a];
+        long count = counts[a];
+        long error = errors[a];
+        set(a, items[b], counts[b], errors[b]);
+        set(b, item, count, error);
+    }
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(capacity);
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeLong(items[i]);
+            out.writeLong(counts[i]);
+            out.writeLong(errors[i]);
+        }
+    }
+
+    public static SpaceSaving readFrom(DataInputStream in) throws IOException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported space-saving format " + version);
+        }
+        SpaceSaving tracker = new SpaceSaving(in.readInt());
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            tracker.set(i, in.readLong(), in.readLong(), in.readLong());
+        }
+        tracker.size = size;
+        return tracker;
+    }
+}
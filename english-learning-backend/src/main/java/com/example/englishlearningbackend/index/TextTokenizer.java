@@ -0,0 +1,61 @@
+package com.example.englishlearningbackend.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits text into index terms. Latin/digit runs become lower-cased words; Hangul runs have no
+ * reliable word boundaries for particles and endings, so they are indexed as character bigrams.
+ */
+public final class TextTokenizer {
+
+    private TextTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isHangul(c)) {
+                int start = i;
+                while (i < length && isHangul(text.charAt(i))) {
+                    i++;
+                }
+                addBigrams(text, start, i, tokens);
+            } else if (Character.isLetterOrDigit(c)) {
+                int start = i;
+                while (i < length && isWordChar(text.charAt(i))) {
+                    i++;
+                }
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+            } else {
+                i++;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i + 1 < end; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) && !isHangul(c);
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+}
@@ -0,0 +1,289 @@
+package com.example.englishlearningbackend.index;
+
+import com.example.englishlearningbackend.dto.WordSuggestionDto;
+import com.example.englishlearningbackend.dto.WordSummaryDto;
+import com.example.englishlearningbackend.util.WordNormalizer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongToIntFunction;
+
+/**
+ * Sorted-array prefix index over normalized words. Readers work on an immutable snapshot and never
+ * lock; writers copy the arrays and publish a new snapshot.
+ *
+ * <p>A tournament tree over the array keeps the best-ranked word of every aligned block, so the top
+ * {@code k} suggestions of a prefix range come from a best-first walk of the tree in
+ * {@code O(k log n)} instead of a scan of the whole range. Hits only update the path above the hit
+ * word.
+ */
+public class WordPrefixIndex {
+    private volatile Snapshot snapshot = Snapshot.of(new String[0], new long[0], new String[0], new AtomicLongArray(0), new int[0]);
+    private LongToIntFunction frequencyRank = id -> Integer.MAX_VALUE;
+
+    public int size() {
+        return snapshot.keys.length;
+    }
+
+    public synchronized void rebuild(Collection<WordSummaryDto> words) {
+        WordSummaryDto[] sorted = words.toArray(new WordSummaryDto[0]);
+        Arrays.sort(sorted, Comparator.comparing(w -> WordNormalizer.normalize(w.word())));
+        Snapshot current = snapshot;
+        int n = sorted.length;
+        String[] keys = new String[n];
+        long[] ids = new long[n];
+        String[] display = new String[n];
+        AtomicLongArray popularity = new AtomicLongArray(n);
+        int[] ranks = new int[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = WordNormalizer.normalize(sorted[i].word());
+            ids[i] = sorted[i].id();
+            display[i] = sorted[i].word();
+            ranks[i] = frequencyRank.applyAsInt(ids[i]);
+            int old = current.find(keys[i]);
+            if (old >= 0) {
+                popularity.set(i, current.popularity.get(old));
+            }
+        }
+        snapshot = Snapshot.of(keys, ids, display, popularity, ranks);
+    }
+
+    /**
+     * Replaces the corpus frequency rank used as the first tie-breaker after popularity; lower
+     * ranks come first.
+     */
+    public synchronized void setFrequencyRanks(LongToIntFunction frequencyRank) {
+        this.frequencyRank = frequencyRank;
+        Snapshot current = snapshot;
+        int[] ranks = new int[current.ids.length];
+        for (int i = 0; i < ranks.length; i++) {
+            ranks[i] = frequencyRank.applyAsInt(current.ids[i]);
+        }
+        snapshot = Snapshot.of(current.keys, current.ids, current.words, current.popularity, ranks);
+    }
+
+    public synchronized void add(long id, String word) {
+        Snapshot current = snapshot;
+        String key = WordNormalizer.normalize(word);
+        int pos = current.find(key);
+        if (pos >= 0) {
+            String[] display = current.words.clone();
+            long[] ids = current.ids.clone();
+            int[] ranks = current.ranks.clone();
+            display[pos] = word;
+            ids[pos] = id;
+            ranks[pos] = frequencyRank.applyAsInt(id);
+            snapshot = Snapshot.of(current.keys, ids, display, current.popularity, ranks);
+            return;
+        }
+        int insert = -pos - 1;
+        int n = current.keys.length;
+        String[] keys = new String[n + 1];
+        long[] ids = new long[n + 1];
+        String[] display = new String[n + 1];
+        int[] ranks = new int[n + 1];
+        AtomicLongArray popularity = new AtomicLongArray(n + 1);
+        System.arraycopy(current.keys, 0, keys, 0, insert);
+        System.arraycopy(current.ids, 0, ids, 0, insert);
+        System.arraycopy(current.words, 0, display, 0, insert);
+        System.arraycopy(current.ranks, 0, ranks, 0, insert);
+        keys[insert] = key;
+        ids[insert] = id;
+        display[insert] = word;
+        ranks[insert] = frequencyRank.applyAsInt(id);
+        System.arraycopy(current.keys, insert, keys, insert + 1, n - insert);
+        System.arraycopy(current.ids, insert, ids, insert + 1, n - insert);
+        System.arraycopy(current.words, insert, display, insert + 1, n - insert);
+        System.arraycopy(current.ranks, insert, ranks, insert + 1, n - insert);
+        for (int i = 0; i < n; i++) {
+            popularity.set(i < insert ? i : i + 1, current.popularity.get(i));
+        }
+        snapshot = Snapshot.of(keys, ids, display, popularity, ranks);
+    }
+
+    public synchronized void removeById(long id) {
+        Snapshot current = snapshot;
+        int pos = -1;
+        for (int i = 0; i < current.ids.length; i++) {
+            if (current.ids[i] == id) {
+                pos = i;
+                break;
+            }
+        }
+        if (pos < 0) {
+            return;
+        }
+        int n = current.keys.length - 1;
+        String[] keys = new String[n];
+        long[] ids = new long[n];
+        String[] display = new String[n];
+        int[] ranks = new int[n];
+        AtomicLongArray popularity = new AtomicLongArray(n);
+        System.arraycopy(current.keys, 0, keys, 0, pos);
+        System.arraycopy(current.ids, 0, ids, 0, pos);
+        System.arraycopy(current.words, 0, display, 0, pos);
+        System.arraycopy(current.ranks, 0, ranks, 0, pos);
+        System.arraycopy(current.keys, pos + 1, keys, pos, n - pos);
+        System.arraycopy(current.ids, pos + 1, ids, pos, n - pos);
+        System.arraycopy(current.words, pos + 1, display, pos, n - pos);
+        System.arraycopy(current.ranks, pos + 1, ranks, pos, n - pos);
+        for (int i = 0; i < n; i++) {
+            popularity.set(i, current.popularity.get(i < pos ? i : i + 1));
+        }
+        snapshot = Snapshot.of(keys, ids, display, popularity, ranks);
+    }
+
+    public void recordHit(String word) {
+        Snapshot current = snapshot;
+        int pos = current.find(WordNormalizer.normalize(word));
+        if (pos >= 0) {
+            current.popularity.incrementAndGet(pos);
+            current.replay(pos);
+        }
+    }
+
+    public void setPopularity(String word, long popularity) {
+        Snapshot current = snapshot;
+        int pos = current.find(WordNormalizer.normalize(word));
+        if (pos >= 0) {
+            current.popularity.set(pos, popularity);
+            current.replay(pos);
+        }
+    }
+
+    /**
+     * Ranks matches by lookup popularity, then by corpus frequency rank (lower first), then
+     * shorter words first.
+     */
+    public List<WordSuggestionDto> suggest(String prefix, int limit) {
+        Snapshot current = snapshot;
+        String key = WordNormalizer.normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int from = current.lowerBound(key);
+        int to = current.lowerBound(key + Character.MAX_VALUE);
+        if (from >= to) {
+            return List.of();
+        }
+        PriorityQueue<Candidate> frontier = new PriorityQueue<>();
+        int leaves = current.leaves();
+        for (int lo = from + leaves, hi = to + leaves; lo < hi; lo >>>= 1, hi >>>= 1) {
+            if ((lo & 1) == 1) {
+                frontier.add(current.candidate(lo++));
+            }
+            if ((hi & 1) == 1) {
+                frontier.add(current.candidate(--hi));
+            }
+        }
+        List<WordSuggestionDto> result = new ArrayList<>(Math.min(limit, to - from));
+        while (result.size() < limit && !frontier.isEmpty()) {
+            Candidate best = frontier.poll();
+            if (best.node >= leaves) {
+                int pos = best.pos;
+                result.add(new WordSuggestionDto(current.ids[pos], current.words[pos], best.popularity));
+            } else {
+                frontier.add(current.candidate(2 * best.node));
+                frontier.add(current.candidate(2 * best.node + 1));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A tree node with the position it stood for and that word's popularity when it was queued, so
+     * concurrent hits cannot reorder the queue under the walk.
+     */
+    private record Candidate(int node, int pos, long popularity, int rank, int length) implements Comparable<Candidate> {
+
+        @Override
+        public int compareTo(Candidate other) {
+            if (popularity != other.popularity) {
+                return popularity > other.popularity ? -1 : 1;
+            }
+            if (rank != other.rank) {
+                return rank < other.rank ? -1 : 1;
+            }
+            if (length != other.length) {
+                return length < other.length ? -1 : 1;
+            }
+            return Integer.compare(pos, other.pos);
+        }
+    }
+
+    private record Snapshot(String[] keys, long[] ids, String[] words, AtomicLongArray popularity, int[] ranks,
+                            AtomicIntegerArray tree) {
+
+        /**
+         * Builds the tournament tree: leaf {@code leaves + i} holds position {@code i} (-1 past the
+         * end) and every inner node holds the better-ranked position of its two children.
+         */
+        static Snapshot of(String[] keys, long[] ids, String[] words, AtomicLongArray popularity, int[] ranks) {
+            int leaves = Integer.highestOneBit(Math.max(1, keys.length - 1)) << 1;
+            AtomicIntegerArray tree = new AtomicIntegerArray(2 * leaves);
+            for (int i = 0; i < leaves; i++) {
+                tree.set(leaves + i, i < keys.length ? i : -1);
+            }
+            Snapshot snapshot = new Snapshot(keys, ids, words, popularity, ranks, tree);
+            for (int node = leaves - 1; node > 0; node--) {
+                snapshot.play(node);
+            }
+            return snapshot;
+        }
+
+        int leaves() {
+            return tree.length() / 2;
+        }
+
+        int find(String key) {
+            return Arrays.binarySearch(keys, key);
+        }
+
+        int lowerBound(String key) {
+            int pos = Arrays.binarySearch(keys, key);
+            return pos >= 0 ? pos : -pos - 1;
+        }
+
+        Candidate candidate(int node) {
+            int pos = tree.get(node);
+            return new Candidate(node, pos, popularity.get(pos), ranks[pos], keys[pos].length());
+        }
+
+        /**
+         * Re-plays the matches above {@code pos} after its popularity changed. Serialized per
+         * snapshot so two hits under one parent cannot overwrite each other's result.
+         */
+        synchronized void replay(int pos) {
+            for (int node = (leaves() + pos) >>> 1; node > 0; node >>>= 1) {
+                play(node);
+            }
+        }
+
+        private void play(int node) {
+            int a = tree.get(2 * node);
+            int b = tree.get(2 * node + 1);
+            tree.set(node, b < 0 || (a >= 0 && ranksBefore(a, b)) ? a : b);
+        }
+
+        private boolean ranksBefore(int a, int b) {
+            long pa = popularity.get(a);
+            long pb = popularity.get(b);
+            if (pa != pb) {
+                return pa > pb;
+            }
+            if (ranks[a] != ranks[b]) {
+                return ranks[a] < ranks[b];
+            }
+            if (keys[a].length() != keys[b].length()) {
+                return keys[a].length() < keys[b].length();
+            }
+            return a < b;
+        }
+    }
+}
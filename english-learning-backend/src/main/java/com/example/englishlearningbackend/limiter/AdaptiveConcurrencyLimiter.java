@@ -0,0 +1,138 @@
+package com.example.englishlearningbackend.limiter;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * AIMD concurrency limit: grows by 1/limit per fast call while the limit is being used, shrinks
+ * multiplicatively when a call is slower than the latency threshold or fails with a timeout.
+ * Callers above the limit wait in a bounded queue and are shed once it is full or their wait
+ * times out. Uses a {@link ReentrantLock} rather than monitors so waiting virtual threads unmount.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final LongSupplier clock;
+
+    private double limit;
+    private int inFlight;
+    private int waiting;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueue,
+                                      Duration latencyThreshold, double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, maxQueue, latencyThreshold, backoffRatio, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, int maxQueue,
+                               Duration latencyThreshold, double backoffRatio, LongSupplier clock) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("backoffRatio must be in (0, 1)");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = maxQueue;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.clock = clock;
+    }
+
+    /**
+     * Takes a permit, waiting up to {@code timeout} if the limit is reached.
+     *
+     * @return the start timestamp to hand back to {@link #release(long, boolean)}
+     * @throws LimitExceededException if the queue is full or the wait timed out
+     */
+    public long acquire(Duration timeout) throws InterruptedException {
+        lock.lock();
+        try {
+            if (inFlight >= (int) limit) {
+                if (waiting >= maxQueue) {
+                    throw new LimitExceededException("Concurrency queue full (" + waiting + " waiting)");
+                }
+                long remaining = timeout.toNanos();
+                waiting++;
+                try {
+                    while (inFlight >= (int) limit) {
+                        if (remaining <= 0) {
+                            throw new LimitExceededException("Timed out waiting for a permit after " + timeout.toMillis() + "ms");
+                        }
+                        remaining = available.awaitNanos(remaining);
+                    }
+                } finally {
+                    waiting--;
+                }
+            }
+            inFlight++;
+            return clock.getAsLong();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns a permit and feeds the call's outcome into the limit.
+     *
+     * @param overloaded whether the call failed in a way that signals the backend is saturated
+     */
+    public void release(long startNanos, boolean overloaded) {
+        long latency = clock.getAsLong() - startNanos;
+        lock.lock();
+        try {
+            boolean saturated = inFlight * 2 >= limit;
+            inFlight--;
+            if (overloaded || latency > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (saturated) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            int free = (int) limit - inFlight;
+            if (free > 1) {
+                available.signalAll();
+            } else if (free == 1) {
+                available.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getWaiting() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
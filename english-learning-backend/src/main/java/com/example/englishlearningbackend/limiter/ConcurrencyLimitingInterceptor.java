@@ -0,0 +1,43 @@
+package com.example.englishlearningbackend.limiter;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+/**
+ * Guards {@link DatabaseLimited} methods with an {@link AdaptiveConcurrencyLimiter}. It must wrap
+ * the transaction advice, so that a pool timeout surfaces here as
+ * {@link CannotCreateTransactionException}. Calls made inside a transaction that is already active
+ * pass through: their connection is held by the caller, and waiting here would only keep it longer.
+ */
+public class ConcurrencyLimitingInterceptor implements MethodInterceptor {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Duration queueTimeout;
+
+    public ConcurrencyLimitingInterceptor(AdaptiveConcurrencyLimiter limiter, Duration queueTimeout) {
+        this.limiter = limiter;
+        this.queueTimeout = queueTimeout;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invocation.proceed();
+        }
+        long start = limiter.acquire(queueTimeout);
+        boolean overloaded = false;
+        try {
+            return invocation.proceed();
+        } catch (TransientDataAccessException | CannotCreateTransactionException e) {
+            overloaded = true;
+            throw e;
+        } finally {
+            limiter.release(start, overloaded);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.englishlearningbackend.limiter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a request-path service method whose database work is admitted through the database
+ * {@link AdaptiveConcurrencyLimiter}. The limiter runs ahead of the method's transaction, so callers
+ * queue before a pooled connection is taken rather than while holding one.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DatabaseLimited {
+}
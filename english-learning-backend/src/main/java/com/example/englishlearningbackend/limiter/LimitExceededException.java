@@ -0,0 +1,8 @@
+package com.example.englishlearningbackend.limiter;
+
+public class LimitExceededException extends RuntimeException {
+
+    public LimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.englishlearningbackend.listener;
+
+import com.example.englishlearningbackend.event.ChangeType;
+import com.example.englishlearningbackend.event.ContentChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ContentChangeListener {
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ContentChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    public void onCreate(Object entity) {
+        eventPublisher.publishEvent(new ContentChangedEvent(entity, ChangeType.CREATED));
+    }
+
+    @PostUpdate
+    public void onUpdate(Object entity) {
+        eventPublisher.publishEvent(new ContentChangedEvent(entity, ChangeType.UPDATED));
+    }
+
+    @PostRemove
+    public void onDelete(Object entity) {
+        eventPublisher.publishEvent(new ContentChangedEvent(entity, ChangeType.DELETED));
+    }
+}
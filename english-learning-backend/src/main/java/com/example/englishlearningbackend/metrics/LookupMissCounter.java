@@ -0,0 +1,22 @@
+package com.example.englishlearningbackend.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts lookups answered with 404, tagged by what was looked up and why it was not found.
+ */
+@Component
+public class LookupMissCounter {
+    public static final String METRIC_NAME = "lookup.misses";
+
+    private final MeterRegistry registry;
+
+    public LookupMissCounter(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    public void increment(String lookup, String reason) {
+        registry.counter(METRIC_NAME, "lookup", lookup, "reason", reason).increment();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.englishlearningbackend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.data.domain.Slice;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Records how many rows each repository method returns as {@code repository.rows}. Timing comes
+ * from Spring Data's own {@code spring.data.repository.invocations}; together they show a method
+ * called once per parent row (N+1) or a query that suddenly returns far more rows than usual.
+ * Streams are counted as they are consumed and recorded when closed.
+ */
+public class RepositoryRowCountInterceptor implements MethodInterceptor {
+    public static final String METRIC_NAME = "repository.rows";
+
+    private final Supplier<MeterRegistry> registry;
+    private final String repository;
+    private final Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public RepositoryRowCountInterceptor(Supplier<MeterRegistry> registry, String repository) {
+        this.registry = registry;
+        this.repository = repository;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        Method method = invocation.getMethod();
+        if (method.getDeclaringClass() == Object.class) {
+            return result;
+        }
+        if (result instanceof Stream<?> stream) {
+            LongAdder rows = new LongAdder();
+            return stream.peek(row -> rows.increment())
+                    .onClose(() -> summary(method).record(rows.sum()));
+        }
+        long rows = rows(result);
+        if (rows >= 0) {
+            summary(method).record(rows);
+        }
+        return result;
+    }
+
+    private DistributionSummary summary(Method method) {
+        return summaries.computeIfAbsent(method, m -> DistributionSummary.builder(METRIC_NAME)
+                .description("Rows returned per repository call")
+                .tag("repository", repository)
+                .tag("method", m.getName())
+                .register(registry.get()));
+    }
+
+    private static long rows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.englishlearningbackend.repository;
+
+import com.example.englishlearningbackend.dto.MeaningChangeDto;
+import com.example.englishlearningbackend.dto.MeaningDto;
+import com.example.englishlearningbackend.dto.MeaningRowDto;
+import com.example.englishlearningbackend.dto.SearchHitDto;
+import com.example.englishlearningbackend.entity.Meaning;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface MeaningRepository extends JpaRepository<Meaning, Long> {
+
+    @Query("SELECT MAX(m.updatedAt) FROM Meaning m")
+    LocalDateTime findMaxUpdatedAt();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.englishlearningbackend.dto.MeaningDto(m.id, m.meaning) " +
+            "FROM Meaning m WHERE m.updatedAt >= :since ORDER BY m.id")
+    Stream<MeaningDto> streamTextsUpdatedSince(LocalDateTime since);
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.SearchHitDto('MEANING', m.id, w.id, w.word, m.meaning, CAST(NULL AS String), 0.0) " +
+            "FROM Meaning m JOIN m.word w WHERE m.id IN :ids")
+    List<SearchHitDto> findSearchHits(Collection<Long> ids);
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.MeaningRowDto(m.word.id, m.id, m.meaning) " +
+            "FROM Meaning m WHERE m.word.id IN :wordIds ORDER BY m.id")
+    List<MeaningRowDto> findRowsByWordIds(Collection<Long> wordIds);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.englishlearningbackend.dto.MeaningRowDto(m.word.id, m.id, m.meaning) " +
+            "FROM Meaning m ORDER BY m.word.id, m.id")
+    Stream<MeaningRowDto> streamAllRows();
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.MeaningChangeDto(m.id, m.word.id, m.meaning, m.updatedAt) " +
+            "FROM Meaning m WHERE (m.updatedAt > :since OR (m.updatedAt = :since AND m.id > :afterId)) AND m.updatedAt < :until " +
+            "ORDER BY m.updatedAt, m.id")
+    List<MeaningChangeDto> findChanges(LocalDateTime since, long afterId, LocalDateTime until, Pageable pageable);
+}
@@ -0,0 +1,17 @@
+package com.example.englishlearningbackend.repository;
+
+import com.example.englishlearningbackend.dto.NewsArticleRowDto;
+import com.example.englishlearningbackend.entity.NewsArticle;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long> {
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.NewsArticleRowDto(a.id, a.title, a.source, a.publishedAt) " +
+            "FROM NewsArticle a WHERE a.id = :id")
+    Optional<NewsArticleRowDto> findRowById(long id);
+}
@@ -0,0 +1,17 @@
+package com.example.englishlearningbackend.repository;
+
+import com.example.englishlearningbackend.dto.NewsSentenceRowDto;
+import com.example.englishlearningbackend.entity.NewsSentence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NewsSentenceRepository extends JpaRepository<NewsSentence, Long> {
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.NewsSentenceRowDto(s.position, s.startOffset, s.sentence) " +
+            "FROM NewsSentence s WHERE s.article.id = :articleId ORDER BY s.position")
+    List<NewsSentenceRowDto> findRowsByArticleId(long articleId);
+}
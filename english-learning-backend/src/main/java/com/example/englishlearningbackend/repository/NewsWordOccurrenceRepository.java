@@ -0,0 +1,17 @@
+package com.example.englishlearningbackend.repository;
+
+import com.example.englishlearningbackend.dto.NewsOccurrenceRowDto;
+import com.example.englishlearningbackend.entity.NewsWordOccurrence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface NewsWordOccurrenceRepository extends JpaRepository<NewsWordOccurrence, Long> {
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.NewsOccurrenceRowDto(o.sentencePosition, w.id, w.word, o.startOffset, o.endOffset) " +
+            "FROM NewsWordOccurrence o JOIN o.word w WHERE o.article.id = :articleId ORDER BY o.startOffset, o.endOffset")
+    List<NewsOccurrenceRowDto> findRowsByArticleId(long articleId);
+}
@@ -0,0 +1,26 @@
+package com.example.englishlearningbackend.repository;
+
+import com.example.englishlearningbackend.dto.ReviewCardDto;
+import com.example.englishlearningbackend.dto.ReviewDueDto;
+import com.example.englishlearningbackend.entity.ReviewCard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReviewCardRepository extends JpaRepository<ReviewCard, Long> {
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.ReviewDueDto(c.id, c.word.id, c.dueAt) " +
+            "FROM ReviewCard c WHERE c.learnerId = :learnerId")
+    List<ReviewDueDto> findDueEntries(String learnerId);
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.ReviewCardDto(c.id, w.id, w.word, c.repetitions, c.intervalDays, c.easeFactor, c.dueAt) " +
+            "FROM ReviewCard c JOIN c.word w WHERE c.id IN :ids")
+    List<ReviewCardDto> findCards(Collection<Long> ids);
+
+    @Query("SELECT c.word.id FROM ReviewCard c WHERE c.learnerId = :learnerId AND c.word.id IN :wordIds")
+    List<Long> findEnrolledWordIds(String learnerId, Collection<Long> wordIds);
+}
@@ -0,0 +1,59 @@
+package com.example.englishlearningbackend.repository;
+
+import com.example.englishlearningbackend.dto.SearchHitDto;
+import com.example.englishlearningbackend.dto.SentenceChangeDto;
+import com.example.englishlearningbackend.dto.SentenceDto;
+import com.example.englishlearningbackend.dto.SentenceRefDto;
+import com.example.englishlearningbackend.dto.SentenceRowDto;
+import com.example.englishlearningbackend.entity.Sentence;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface SentenceRepository extends JpaRepository<Sentence, Long> {
+
+    @Query("SELECT MAX(s.updatedAt) FROM Sentence s")
+    LocalDateTime findMaxUpdatedAt();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.englishlearningbackend.dto.SentenceDto(s.id, s.sentence, s.translatedSentence) " +
+            "FROM Sentence s WHERE s.updatedAt >= :since ORDER BY s.id")
+    Stream<SentenceDto> streamTextsUpdatedSince(LocalDateTime since);
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.SearchHitDto('SENTENCE', s.id, w.id, w.word, s.sentence, s.translatedSentence, 0.0) " +
+            "FROM Sentence s JOIN s.word w WHERE s.id IN :ids")
+    List<SearchHitDto> findSearchHits(Collection<Long> ids);
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.SentenceRowDto(s.word.id, s.id, s.sentence, s.translatedSentence) " +
+            "FROM Sentence s WHERE s.word.id IN :wordIds ORDER BY s.id")
+    List<SentenceRowDto> findRowsByWordIds(Collection<Long> wordIds);
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.SentenceRowDto(s.word.id, s.id, s.sentence, s.translatedSentence) " +
+            "FROM Sentence s WHERE s.id IN :ids")
+    List<SentenceRowDto> findRowsByIds(Collection<Long> ids);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.englishlearningbackend.dto.SentenceRefDto(s.word.id, s.id) FROM Sentence s")
+    Stream<SentenceRefDto> streamAllRefs();
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.SentenceChangeDto(s.id, s.word.id, s.sentence, s.translatedSentence, s.updatedAt) " +
+            "FROM Sentence s WHERE (s.updatedAt > :since OR (s.updatedAt = :since AND s.id > :afterId)) AND s.updatedAt < :until " +
+            "ORDER BY s.updatedAt, s.id")
+    List<SentenceChangeDto> findChanges(LocalDateTime since, long afterId, LocalDateTime until, Pageable pageable);
+}
@@ -0,0 +1,32 @@
+package com.example.englishlearningbackend.repository;
+
+import com.example.englishlearningbackend.dto.TombstoneDto;
+import com.example.englishlearningbackend.entity.SyncTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.TombstoneDto(t.id, t.entityType, t.entityId) " +
+            "FROM SyncTombstone t WHERE t.id > :after AND t.deletedAt < :until ORDER BY t.id")
+    List<TombstoneDto> findChanges(long after, LocalDateTime until, Pageable pageable);
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.TombstoneDto(t.id, t.entityType, t.entityId) " +
+            "FROM SyncTombstone t WHERE t.deletedAt >= :since AND t.entityType IN :types")
+    List<TombstoneDto> findDeletedSince(LocalDateTime since, Collection<String> types);
+
+    @Query("SELECT MAX(t.deletedAt) FROM SyncTombstone t")
+    LocalDateTime findMaxDeletedAt();
+
+    @Modifying
+    @Query("DELETE FROM SyncTombstone t WHERE t.deletedAt < :before")
+    int deleteOlderThan(LocalDateTime before);
+}
@@ -0,0 +1,17 @@
+package com.example.englishlearningbackend.repository;
+
+import com.example.englishlearningbackend.dto.VideoCueDto;
+import com.example.englishlearningbackend.entity.VideoCue;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface VideoCueRepository extends JpaRepository<VideoCue, Long> {
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.VideoCueDto(c.position, c.startMillis, c.endMillis, c.text) " +
+            "FROM VideoCue c WHERE c.video.id = :videoId ORDER BY c.position")
+    List<VideoCueDto> findCuesByVideoId(long videoId);
+}
@@ -0,0 +1,19 @@
+package com.example.englishlearningbackend.repository;
+
+import com.example.englishlearningbackend.dto.VideoMomentDto;
+import com.example.englishlearningbackend.entity.VideoCueWord;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface VideoCueWordRepository extends JpaRepository<VideoCueWord, Long> {
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.VideoMomentDto(v.youtubeId, v.title, c.position, c.startMillis, c.endMillis, c.text) " +
+            "FROM VideoCueWord cw JOIN cw.video v JOIN VideoCue c ON c.video = v AND c.position = cw.cuePosition " +
+            "WHERE cw.word.id = :wordId ORDER BY v.id, cw.cuePosition")
+    List<VideoMomentDto> findMoments(long wordId, Pageable pageable);
+}
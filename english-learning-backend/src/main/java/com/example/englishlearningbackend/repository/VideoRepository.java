@@ -0,0 +1,15 @@
+package com.example.englishlearningbackend.repository;
+
+import com.example.englishlearningbackend.entity.Video;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface VideoRepository extends JpaRepository<Video, Long> {
+
+    @Query("SELECT v.id FROM Video v WHERE v.youtubeId = :youtubeId")
+    Optional<Long> findIdByYoutubeId(String youtubeId);
+}
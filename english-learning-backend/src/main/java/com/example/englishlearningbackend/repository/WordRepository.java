@@ -1,15 +1,53 @@
 package com.example.englishlearningbackend.repository;
 
+import com.example.englishlearningbackend.dto.WordChangeDto;
+import com.example.englishlearningbackend.dto.WordSummaryDto;
 import com.example.englishlearningbackend.entity.Word;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface WordRepository extends JpaRepository<Word, Long> {
 
-    @Query("SELECT w FROM Word w LEFT JOIN FETCH w.meanings LEFT JOIN FETCH w.sentences WHERE w.word = :word")
-    Word findWordWithDetails(String word);
+    @Query("SELECT new com.example.englishlearningbackend.dto.WordSummaryDto(w.id, w.word, w.isPhrasalVerb) " +
+            "FROM Word w WHERE w.word = :word")
+    Optional<WordSummaryDto> findSummaryByWord(String word);
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.WordSummaryDto(w.id, w.word, w.isPhrasalVerb) " +
+            "FROM Word w WHERE w.id IN :ids ORDER BY w.id")
+    List<WordSummaryDto> findSummariesByIds(Collection<Long> ids);
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.WordSummaryDto(w.id, w.word, w.isPhrasalVerb) " +
+            "FROM Word w WHERE w.id > :after ORDER BY w.id")
+    List<WordSummaryDto> findSummariesAfter(long after, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.example.englishlearningbackend.dto.WordSummaryDto(w.id, w.word, w.isPhrasalVerb) " +
+            "FROM Word w WHERE w.id > :after ORDER BY w.id")
+    Stream<WordSummaryDto> streamSummariesAfter(long after);
+
+    @Query(value = "SELECT CURRENT_TIMESTAMP", nativeQuery = true)
+    LocalDateTime findDatabaseTime();
+
+    @Query("SELECT MAX(w.updatedAt) FROM Word w")
+    LocalDateTime findMaxUpdatedAt();
+
+    @Query("SELECT new com.example.englishlearningbackend.dto.WordChangeDto(w.id, w.word, w.isPhrasalVerb, w.updatedAt) " +
+            "FROM Word w WHERE (w.updatedAt > :since OR (w.updatedAt = :since AND w.id > :afterId)) AND w.updatedAt < :until " +
+            "ORDER BY w.updatedAt, w.id")
+    List<WordChangeDto> findChanges(LocalDateTime since, long afterId, LocalDateTime until, Pageable pageable);
 }
@@ -0,0 +1,6 @@
+package com.example.englishlearningbackend.routing;
+
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,57 @@
+package com.example.englishlearningbackend.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends connections of {@code @Transactional(readOnly = true)} work to the replica and everything
+ * else, including non-transactional access, to the primary. The read-only flag is only known once
+ * the transaction has started, so this must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} that defers fetching
+ * the connection to the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String METRIC_NAME = "db.route.connections";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter writes;
+    private final Counter reads;
+    private final Counter fallbacks;
+
+    public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                      MeterRegistry registry) {
+        this.lagMonitor = lagMonitor;
+        this.writes = counter(registry, DataSourceRoute.PRIMARY, "write");
+        this.reads = counter(registry, DataSourceRoute.REPLICA, "read");
+        this.fallbacks = counter(registry, DataSourceRoute.PRIMARY, "replica_lag");
+        setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    private static Counter counter(MeterRegistry registry, DataSourceRoute route, String reason) {
+        return Counter.builder(METRIC_NAME)
+                .tag("route", route.name().toLowerCase())
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            fallbacks.increment();
+            return DataSourceRoute.PRIMARY;
+        }
+        reads.increment();
+        return DataSourceRoute.REPLICA;
+    }
+}
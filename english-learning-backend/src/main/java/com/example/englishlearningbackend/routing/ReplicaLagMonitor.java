@@ -0,0 +1,159 @@
+package com.example.englishlearningbackend.routing;
+
+import com.example.englishlearningbackend.event.ContentChangedEvent;
+import com.example.englishlearningbackend.event.ContentImportedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Measures replication lag with a heartbeat row: each check stamps the current time into
+ * {@code replica_heartbeat} on the primary and reads the stamp back from the replica. The replica
+ * counts as usable only while the stamp it returns is at most {@code maxLag} old and that check
+ * itself is no older than {@code maxLag}; until the first successful check, when checks stop
+ * succeeding, or when the replica cannot be reached, reads stay on the primary.
+ *
+ * <p>Checks run on the monitor's own thread so a busy application scheduler cannot delay them.
+ * After an import or an edit commits, the replica is also fenced off until it returns a stamp
+ * written after that, so the rebuilds and cache reloads that follow read the new rows from the
+ * primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+    private static final String WRITE_HEARTBEAT = "UPDATE replica_heartbeat SET beat_millis = ? WHERE id = 1";
+    private static final String READ_HEARTBEAT = "SELECT beat_millis FROM replica_heartbeat WHERE id = 1";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+    private final LongSupplier clock;
+    private volatile long lagMillis = -1;
+    private volatile Check lastUsable;
+    private volatile long fenceMillis = Long.MIN_VALUE;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag) {
+        this(primary, replica, maxLag, System::currentTimeMillis);
+    }
+
+    ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag, LongSupplier clock) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagMillis = maxLag.toMillis();
+        this.clock = clock;
+    }
+
+    /**
+     * Starts checking every {@code interval}, which has to be shorter than {@code maxLag} or the
+     * replica would expire between two checks.
+     */
+    public synchronized void start(Duration interval) {
+        if (interval.toMillis() >= maxLagMillis) {
+            throw new IllegalArgumentException("db.replica.heartbeat-interval must be shorter than db.replica.max-lag");
+        }
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "replica-heartbeat");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::checkQuietly, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    public boolean isReplicaUsable() {
+        Check check = lastUsable;
+        return check != null && check.beatMillis > fenceMillis && clock.getAsLong() - check.checkedAtMillis <= maxLagMillis;
+    }
+
+    /**
+     * Last measured lag in milliseconds, or -1 when the replica could not be read.
+     */
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    /**
+     * Keeps read-only work on the primary until the replica has replayed everything committed
+     * before this call.
+     */
+    public void fence() {
+        fenceMillis = clock.getAsLong();
+    }
+
+    @EventListener(ContentImportedEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onContentImported() {
+        fence();
+    }
+
+    @TransactionalEventListener(value = ContentChangedEvent.class, fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onContentChanged() {
+        fence();
+    }
+
+    private void checkQuietly() {
+        try {
+            check();
+        } catch (RuntimeException e) {
+            log.warn("Replica heartbeat check failed", e);
+        }
+    }
+
+    public void check() {
+        boolean wasUsable = isReplicaUsable();
+        try {
+            primary.update(WRITE_HEARTBEAT, clock.getAsLong());
+        } catch (DataAccessException e) {
+            log.warn("Could not write replica heartbeat to the primary: {}", e.getMessage());
+        }
+        long lag = -1;
+        Long beat = null;
+        try {
+            beat = replica.queryForObject(READ_HEARTBEAT, Long.class);
+        } catch (DataAccessException e) {
+            log.warn("Could not read replica heartbeat: {}", e.getMessage());
+        }
+        long now = clock.getAsLong();
+        if (beat != null) {
+            lag = Math.max(0, now - beat);
+        }
+        lagMillis = lag;
+        lastUsable = beat != null && lag <= maxLagMillis ? new Check(now, beat) : null;
+        boolean nowUsable = isReplicaUsable();
+        if (nowUsable != wasUsable) {
+            if (nowUsable) {
+                log.info("Replica caught up ({} ms behind), routing read-only transactions to it", lag);
+            } else {
+                log.warn("Replica is {} behind, routing read-only transactions to the primary",
+                        lag < 0 ? "unreachable or" : lag + " ms");
+            }
+        }
+    }
+
+    /**
+     * A check that found the replica within {@code maxLag}: when it ran and the primary stamp the
+     * replica returned.
+     */
+    private record Check(long checkedAtMillis, long beatMillis) {
+    }
+}
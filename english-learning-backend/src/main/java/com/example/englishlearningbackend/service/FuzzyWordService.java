@@ -0,0 +1,66 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.dto.FuzzyMatchDto;
+import com.example.englishlearningbackend.dto.WordSummaryDto;
+import com.example.englishlearningbackend.entity.Word;
+import com.example.englishlearningbackend.event.ChangeType;
+import com.example.englishlearningbackend.event.ContentChangedEvent;
+import com.example.englishlearningbackend.event.ContentImportedEvent;
+import com.example.englishlearningbackend.index.BkTree;
+import com.example.englishlearningbackend.repository.WordRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class FuzzyWordService {
+    public static final int DEFAULT_MAX_DISTANCE = 2;
+    public static final int DEFAULT_LIMIT = 5;
+    public static final int MAX_LIMIT = 20;
+
+    private final WordRepository wordRepository;
+    private volatile BkTree tree = new BkTree();
+
+    public FuzzyWordService(WordRepository wordRepository) {
+        this.wordRepository = wordRepository;
+    }
+
+    @EventListener({ApplicationReadyEvent.class, ContentImportedEvent.class})
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<WordSummaryDto> words;
+        try (Stream<WordSummaryDto> stream = wordRepository.streamSummariesAfter(0)) {
+            words = new ArrayList<>(stream.toList());
+        }
+        Collections.shuffle(words);
+        BkTree rebuilt = new BkTree();
+        words.forEach(w -> rebuilt.add(w.id(), w.word()));
+        tree = rebuilt;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (!(event.entity() instanceof Word word) || word.getId() == null) {
+            return;
+        }
+        if (event.type() == ChangeType.DELETED) {
+            tree.remove(word.getId());
+        } else {
+            tree.add(word.getId(), word.getWord());
+        }
+    }
+
+    public List<FuzzyMatchDto> findClosest(String word, int maxDistance, int limit) {
+        int distance = Math.max(1, Math.min(maxDistance, DEFAULT_MAX_DISTANCE));
+        return tree.search(word, distance, Math.max(1, Math.min(limit, MAX_LIMIT))).stream()
+                .map(m -> new FuzzyMatchDto(m.id(), m.word(), m.distance()))
+                .toList();
+    }
+}
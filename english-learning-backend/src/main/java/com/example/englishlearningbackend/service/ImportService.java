@@ -0,0 +1,303 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.config.ImportProperties;
+import com.example.englishlearningbackend.dto.ImportRecordDto;
+import com.example.englishlearningbackend.dto.ImportResultDto;
+import com.example.englishlearningbackend.dto.ImportSentenceDto;
+import com.example.englishlearningbackend.dto.MeaningConflictDto;
+import com.example.englishlearningbackend.dto.SentenceRowDto;
+import com.example.englishlearningbackend.event.ContentImportedEvent;
+import com.example.englishlearningbackend.index.AhoCorasick;
+import com.example.englishlearningbackend.util.CsvReader;
+import com.example.englishlearningbackend.util.WordNormalizer;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@Slf4j
+@Service
+public class ImportService {
+    private static final String UPSERT_WORD = "INSERT INTO word (word, is_phrasal_verb) VALUES (?, COALESCE(?, FALSE)) " +
+            "ON DUPLICATE KEY UPDATE is_phrasal_verb = COALESCE(?, is_phrasal_verb)";
+    // meaning is globally unique: an existing meaning stays with the word that owns it.
+    private static final String INSERT_MEANING = "INSERT INTO meaning (word_id, meaning) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE word_id = word_id";
+    private static final String UPSERT_SENTENCE = "INSERT INTO sentence (word_id, sentence, translated_sentence) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE translated_sentence = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SimilarSentenceService similarSentenceService;
+    private final VocabularyTagger vocabularyTagger;
+    private final WordFrequencyService wordFrequencyService;
+    private final int batchSize;
+
+    public ImportService(JdbcTemplate jdbcTemplate,
+                         NamedParameterJdbcTemplate namedJdbcTemplate,
+                         TransactionTemplate transactionTemplate,
+                         ObjectMapper objectMapper,
+                         ApplicationEventPublisher eventPublisher,
+                         SimilarSentenceService similarSentenceService,
+                         VocabularyTagger vocabularyTagger,
+                         WordFrequencyService wordFrequencyService,
+                         ImportProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = namedJdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.similarSentenceService = similarSentenceService;
+        this.vocabularyTagger = vocabularyTagger;
+        this.wordFrequencyService = wordFrequencyService;
+        this.batchSize = properties.batchSize();
+    }
+
+    public ImportResultDto importJsonLines(InputStream in) throws IOException {
+        try (MappingIterator<ImportRecordDto> records = objectMapper.readerFor(ImportRecordDto.class).readValues(in)) {
+            return run(records);
+        }
+    }
+
+    /**
+     * Expects a header-less CSV of {@code word,phrasal_verb,meaning,sentence,translated_sentence};
+     * empty cells are skipped, so a row may carry a meaning, a sentence, or both.
+     */
+    public ImportResultDto importCsv(InputStream in) {
+        CsvReader rows = new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        Iterator<ImportRecordDto> records = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return rows.hasNext();
+            }
+
+            @Override
+            public ImportRecordDto next() {
+                List<String> row = rows.next();
+                String phrasalVerb = cell(row, 1);
+                String meaning = cell(row, 2);
+                String sentence = cell(row, 3);
+                return new ImportRecordDto(cell(row, 0),
+                        phrasalVerb == null ? null : Boolean.valueOf(phrasalVerb),
+                        meaning == null ? List.of() : List.of(meaning),
+                        sentence == null ? List.of() : List.of(new ImportSentenceDto(sentence, cell(row, 4))));
+            }
+        };
+        return run(records);
+    }
+
+    private ImportResultDto run(Iterator<ImportRecordDto> records) {
+        long started = System.nanoTime();
+        Map<String, Long> wordIds = loadWordIds();
+        VocabularyTagger.Automata tagger = vocabularyTagger.current();
+        long[] counts = new long[6];
+        List<MeaningConflictDto> conflicts = new ArrayList<>();
+        List<ImportRecordDto> batch = new ArrayList<>(batchSize);
+        ImportResultDto result = null;
+        try {
+            while (records.hasNext()) {
+                ImportRecordDto record = records.next();
+                if (record.word() == null || record.word().isBlank()) {
+                    continue;
+                }
+                batch.add(record);
+                if (batch.size() == batchSize) {
+                    flush(batch, wordIds, tagger, counts, conflicts);
+                    log.info("Imported {} records ({} words, {} meanings, {} sentences, {} near-duplicates skipped) in {} ms",
+                            counts[0], counts[1], counts[2], counts[3], counts[4], (System.nanoTime() - started) / 1_000_000);
+                }
+            }
+            flush(batch, wordIds, tagger, counts, conflicts);
+            result = result(counts, conflicts, started);
+            log.info("Import finished: {}", result);
+        } finally {
+            // Every batch commits on its own, so the batches before a failing one are already stored
+            // and the caches and indexes have to pick them up as well.
+            if (result != null) {
+                eventPublisher.publishEvent(new ContentImportedEvent(result));
+            } else if (counts[0] > 0) {
+                ImportResultDto partial = result(counts, conflicts, started);
+                log.warn("Import failed after committing {}", partial);
+                eventPublisher.publishEvent(new ContentImportedEvent(partial));
+            }
+        }
+        return result;
+    }
+
+    private static ImportResultDto result(long[] counts, List<MeaningConflictDto> conflicts, long started) {
+        return new ImportResultDto(counts[0], counts[1], counts[2], counts[3], counts[4],
+                counts[5], List.copyOf(conflicts), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private Map<String, Long> loadWordIds() {
+        Map<String, Long> wordIds = new HashMap<>();
+        jdbcTemplate.query("SELECT id, word FROM word",
+                rs -> {
+                    wordIds.put(WordNormalizer.normalize(rs.getString(2)), rs.getLong(1));
+                });
+        return wordIds;
+    }
+
+    private void flush(List<ImportRecordDto> batch, Map<String, Long> wordIds,
+                       VocabularyTagger.Automata tagger, long[] counts, List<MeaningConflictDto> conflicts) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Long> occurrences = new ArrayList<>();
+        List<MeaningConflictDto> batchConflicts = new ArrayList<>();
+        long[] batchCounts = new long[6];
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, ImportRecordDto> words = new LinkedHashMap<>();
+            for (ImportRecordDto record : batch) {
+                words.merge(WordNormalizer.normalize(record.word()), record,
+                        (a, b) -> b.phrasalVerb() != null ? b : a);
+            }
+            List<Object[]> wordArgs = words.values().stream()
+                    .map(r -> new Object[]{r.word().trim(), r.phrasalVerb(), r.phrasalVerb()})
+                    .toList();
+            jdbcTemplate.batchUpdate(UPSERT_WORD, wordArgs);
+            List<String> unresolved = words.values().stream()
+                    .filter(r -> !wordIds.containsKey(WordNormalizer.normalize(r.word())))
+                    .map(r -> r.word().trim())
+                    .toList();
+            if (!unresolved.isEmpty()) {
+                namedJdbcTemplate.query("SELECT id, word FROM word WHERE word IN (:words)", Map.of("words", unresolved),
+                        rs -> {
+                            wordIds.put(WordNormalizer.normalize(rs.getString(2)), rs.getLong(1));
+                        });
+            }
+
+            List<Object[]> meaningArgs = new ArrayList<>();
+            List<String> meaningWords = new ArrayList<>();
+            List<SentenceRowDto> sentences = new ArrayList<>();
+            for (ImportRecordDto record : batch) {
+                Long wordId = wordIds.get(WordNormalizer.normalize(record.word()));
+                if (record.meanings() != null) {
+                    record.meanings().stream()
+                            .filter(Objects::nonNull)
+                            .forEach(m -> {
+                                meaningArgs.add(new Object[]{wordId, m});
+                                meaningWords.add(record.word().trim());
+                            });
+                }
+                if (record.sentences() != null) {
+                    record.sentences().stream()
+                            .filter(s -> s != null && s.sentence() != null)
+                            .forEach(s -> sentences.add(new SentenceRowDto(wordId, null, s.sentence(), s.translatedSentence())));
+                }
+            }
+            List<SentenceRowDto> unique = similarSentenceService.retainUnique(sentences);
+            List<Object[]> sentenceArgs = unique.stream()
+                    .map(s -> new Object[]{s.wordId(), s.sentence(), s.translatedSentence(), s.translatedSentence()})
+                    .toList();
+            // Only new rows count towards word frequency; refreshed ones were counted when first imported.
+            Set<Map.Entry<Long, String>> inserted = new HashSet<>();
+            unique.stream()
+                    .filter(s -> s.id() == null && inserted.add(Map.entry(s.wordId(), s.sentence())))
+                    .forEach(s -> countOccurrences(s, tagger, occurrences));
+            jdbcTemplate.batchUpdate(INSERT_MEANING, meaningArgs);
+            jdbcTemplate.batchUpdate(UPSERT_SENTENCE, sentenceArgs);
+            long conflicting = collectMeaningConflicts(meaningArgs, meaningWords, batchConflicts);
+            batchCounts[0] = batch.size();
+            batchCounts[1] = wordArgs.size();
+            batchCounts[2] = meaningArgs.size() - conflicting;
+            batchCounts[3] = sentenceArgs.size();
+            batchCounts[4] = sentences.size() - sentenceArgs.size();
+            batchCounts[5] = conflicting;
+        });
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += batchCounts[i];
+        }
+        conflicts.addAll(batchConflicts.subList(0,
+                Math.min(batchConflicts.size(), ImportResultDto.MAX_REPORTED_CONFLICTS - conflicts.size())));
+        batch.clear();
+        wordFrequencyService.record(occurrences);
+    }
+
+    /**
+     * Counts the meanings of the batch that were kept on a different word than the one importing
+     * them, reporting the first few. Looked up after the insert so that two records of the same
+     * batch claiming one meaning are caught as well.
+     */
+    private long collectMeaningConflicts(List<Object[]> meaningArgs, List<String> meaningWords, List<MeaningConflictDto> conflicts) {
+        if (meaningArgs.isEmpty()) {
+            return 0;
+        }
+        List<String> meanings = meaningArgs.stream().map(args -> (String) args[1]).distinct().toList();
+        Map<String, Long> owners = new HashMap<>();
+        for (int from = 0; from < meanings.size(); from += batchSize) {
+            namedJdbcTemplate.query("SELECT word_id, meaning FROM meaning WHERE meaning IN (:meanings)",
+                    Map.of("meanings", meanings.subList(from, Math.min(from + batchSize, meanings.size()))),
+                    rs -> {
+                        owners.put(meaningKey(rs.getString(2)), rs.getLong(1));
+                    });
+        }
+        long conflicting = 0;
+        for (int i = 0; i < meaningArgs.size(); i++) {
+            String meaning = (String) meaningArgs.get(i)[1];
+            Long owner = owners.get(meaningKey(meaning));
+            if (owner != null && !owner.equals(meaningArgs.get(i)[0])) {
+                conflicting++;
+                if (conflicts.size() < ImportResultDto.MAX_REPORTED_CONFLICTS) {
+                    conflicts.add(new MeaningConflictDto(meaning, meaningWords.get(i), owner));
+                }
+            }
+        }
+        if (conflicting > 0) {
+            log.warn("Kept {} meanings on the words that already own them instead of moving them", conflicting);
+        }
+        return conflicting;
+    }
+
+    /**
+     * Matches the case- and trailing-space-insensitive collation of {@code meaning.meaning}.
+     */
+    private static String meaningKey(String meaning) {
+        return meaning.stripTrailing().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Tags the words a sentence uses with the dictionary as it stood when the import began; the
+     * word the sentence illustrates is counted even when it was added by this import.
+     */
+    private static void countOccurrences(SentenceRowDto sentence, VocabularyTagger.Automata tagger, List<Long> occurrences) {
+        boolean headword = false;
+        for (AhoCorasick.Match match : tagger.findAll(sentence.sentence())) {
+            occurrences.add(match.id());
+            headword |= match.id() == sentence.wordId();
+        }
+        if (!headword) {
+            occurrences.add(sentence.wordId());
+        }
+    }
+
+    private static String cell(List<String> row, int index) {
+        if (index >= row.size() || row.get(index).isBlank()) {
+            return null;
+        }
+        return row.get(index);
+    }
+}
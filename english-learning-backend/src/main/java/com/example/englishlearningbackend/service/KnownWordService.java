@@ -0,0 +1,238 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.config.KnownWordProperties;
+import com.example.englishlearningbackend.dto.ContentType;
+import com.example.englishlearningbackend.dto.WordCoverageDto;
+import com.example.englishlearningbackend.dto.WordSummaryDto;
+import com.example.englishlearningbackend.index.RoaringBitmap;
+import com.example.englishlearningbackend.repository.NewsArticleRepository;
+import com.example.englishlearningbackend.repository.VideoRepository;
+import com.example.englishlearningbackend.repository.WordRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+
+/**
+ * Known-word sets per learner and word sets per news article or video, kept as {@link RoaringBitmap}
+ * blobs over {@code word.id} and cached in memory. Coverage questions become bitmap intersections
+ * instead of joins across learner × word rows. Content sets are written when the content is
+ * ingested and built from its occurrence rows the first time older content is asked about.
+ */
+@Service
+public class KnownWordService {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+    public static final int MAX_LEARNERS = 1000;
+    public static final int MAX_WORDS_PER_REQUEST = 10000;
+
+    private static final int MAX_LEARNER_ID_LENGTH = 64;
+    private static final byte[] EMPTY = new RoaringBitmap().toBytes();
+    private static final String INSERT_LEARNER = "INSERT IGNORE INTO learner_known_word_set (learner_id, bitmap) VALUES (?, ?)";
+    private static final String LOCK_LEARNER = "SELECT bitmap FROM learner_known_word_set WHERE learner_id = ? FOR UPDATE";
+    private static final String UPDATE_LEARNER = "UPDATE learner_known_word_set SET bitmap = ? WHERE learner_id = ?";
+    private static final String SELECT_CONTENT = "SELECT bitmap FROM content_word_set WHERE content_type = ? AND content_id = ?";
+    private static final String UPSERT_CONTENT = "INSERT INTO content_word_set (content_type, content_id, bitmap) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE bitmap = VALUES(bitmap)";
+    private static final String NEWS_WORDS = "SELECT DISTINCT word_id FROM news_word_occurrence WHERE article_id = ?";
+    private static final String VIDEO_WORDS = "SELECT DISTINCT word_id FROM video_cue_word WHERE video_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final WordRepository wordRepository;
+    private final NewsArticleRepository newsArticleRepository;
+    private final VideoRepository videoRepository;
+    private final Cache<String, RoaringBitmap> learners;
+    private final Cache<ContentKey, RoaringBitmap> contents;
+
+    private record ContentKey(ContentType type, long id) {
+    }
+
+    public KnownWordService(JdbcTemplate jdbcTemplate,
+                            TransactionTemplate transactionTemplate,
+                            WordRepository wordRepository,
+                            NewsArticleRepository newsArticleRepository,
+                            VideoRepository videoRepository,
+                            KnownWordProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.wordRepository = wordRepository;
+        this.newsArticleRepository = newsArticleRepository;
+        this.videoRepository = videoRepository;
+        this.learners = Caffeine.newBuilder()
+                .maximumSize(properties.maxLearners())
+                .expireAfterWrite(properties.learnerTtl())
+                .recordStats()
+                .build();
+        this.contents = Caffeine.newBuilder()
+                .maximumSize(properties.maxContents())
+                .recordStats()
+                .build();
+    }
+
+    public long knownCount(String learnerId) {
+        return learner(learnerId).cardinality();
+    }
+
+    /**
+     * Adds the existing words among {@code wordIds}; unknown ids are ignored. Returns the new size
+     * of the learner's set.
+     */
+    public long markKnown(String learnerId, Collection<Long> wordIds) {
+        requireWordIds(wordIds);
+        List<Long> existing = wordRepository.findSummariesByIds(wordIds).stream().map(WordSummaryDto::id).toList();
+        return update(learnerId, existing, RoaringBitmap::or);
+    }
+
+    public long forget(String learnerId, Collection<Long> wordIds) {
+        requireWordIds(wordIds);
+        return update(learnerId, wordIds, RoaringBitmap::andNot);
+    }
+
+    /**
+     * How much of the content's vocabulary each learner knows, or empty when the content is unknown.
+     */
+    public Optional<List<WordCoverageDto>> coverage(ContentType type, String contentId, List<String> learnerIds) {
+        if (learnerIds == null || learnerIds.isEmpty() || learnerIds.size() > MAX_LEARNERS) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_LEARNERS + " learners are required");
+        }
+        learnerIds.forEach(KnownWordService::requireLearnerId);
+        return content(type, contentId).map(words -> {
+            Map<String, RoaringBitmap> known = learners.getAll(learnerIds, this::loadLearners);
+            long total = words.cardinality();
+            return learnerIds.stream().map(learnerId -> {
+                long knownWords = RoaringBitmap.andCardinality(known.get(learnerId), words);
+                return new WordCoverageDto(learnerId, total, knownWords, total - knownWords,
+                        total == 0 ? 0 : (double) knownWords / total);
+            }).toList();
+        });
+    }
+
+    /**
+     * Words of the content the learner already knows, in id order.
+     */
+    public Optional<List<WordSummaryDto>> knownWords(String learnerId, ContentType type, String contentId, int limit) {
+        RoaringBitmap known = learner(learnerId);
+        return content(type, contentId).map(words -> summaries(RoaringBitmap.and(words, known), limit));
+    }
+
+    /**
+     * Words of the content the learner does not know yet, in id order.
+     */
+    public Optional<List<WordSummaryDto>> newWords(String learnerId, ContentType type, String contentId, int limit) {
+        RoaringBitmap known = learner(learnerId);
+        return content(type, contentId).map(words -> summaries(RoaringBitmap.andNot(words, known), limit));
+    }
+
+    /**
+     * Stores the word set of freshly ingested content. Runs inside the ingest transaction; call
+     * {@link #invalidateContent} once it commits if the content may already be cached.
+     */
+    public void saveContentWords(ContentType type, long contentId, Collection<Long> wordIds) {
+        RoaringBitmap words = new RoaringBitmap();
+        wordIds.forEach(id -> words.add(wordIndex(id)));
+        jdbcTemplate.update(UPSERT_CONTENT, type.name(), contentId, words.toBytes());
+    }
+
+    public void invalidateContent(ContentType type, long contentId) {
+        contents.invalidate(new ContentKey(type, contentId));
+    }
+
+    private long update(String learnerId, Collection<Long> wordIds, BinaryOperator<RoaringBitmap> operation) {
+        requireLearnerId(learnerId);
+        RoaringBitmap changes = new RoaringBitmap();
+        wordIds.forEach(id -> changes.add(wordIndex(id)));
+        RoaringBitmap updated = Objects.requireNonNull(transactionTemplate.execute(status -> {
+            jdbcTemplate.update(INSERT_LEARNER, learnerId, EMPTY);
+            byte[] current = jdbcTemplate.queryForObject(LOCK_LEARNER, byte[].class, learnerId);
+            RoaringBitmap bitmap = operation.apply(RoaringBitmap.fromBytes(current), changes);
+            jdbcTemplate.update(UPDATE_LEARNER, bitmap.toBytes(), learnerId);
+            return bitmap;
+        }));
+        learners.put(learnerId, updated);
+        return updated.cardinality();
+    }
+
+    private RoaringBitmap learner(String learnerId) {
+        requireLearnerId(learnerId);
+        return learners.getAll(List.of(learnerId), this::loadLearners).get(learnerId);
+    }
+
+    private Map<String, RoaringBitmap> loadLearners(Set<? extends String> learnerIds) {
+        Map<String, RoaringBitmap> loaded = new HashMap<>();
+        jdbcTemplate.query("SELECT learner_id, bitmap FROM learner_known_word_set WHERE learner_id IN (" +
+                        String.join(", ", Collections.nCopies(learnerIds.size(), "?")) + ")",
+                (RowCallbackHandler) rs -> loaded.put(rs.getString(1), RoaringBitmap.fromBytes(rs.getBytes(2))),
+                learnerIds.toArray());
+        learnerIds.forEach(learnerId -> loaded.putIfAbsent(learnerId, new RoaringBitmap()));
+        return loaded;
+    }
+
+    private Optional<RoaringBitmap> content(ContentType type, String contentId) {
+        Optional<Long> id = switch (type) {
+            case NEWS -> Optional.of(Long.parseLong(contentId));
+            case VIDEO -> videoRepository.findIdByYoutubeId(contentId);
+        };
+        return id.map(i -> contents.get(new ContentKey(type, i), this::loadContent));
+    }
+
+    /**
+     * Reads the stored set, or builds and stores it from the occurrence rows of content ingested
+     * before word sets existed. Returns null for unknown content so it is not cached.
+     */
+    private RoaringBitmap loadContent(ContentKey key) {
+        List<byte[]> stored = jdbcTemplate.query(SELECT_CONTENT, (rs, n) -> rs.getBytes(1), key.type().name(), key.id());
+        if (!stored.isEmpty()) {
+            return RoaringBitmap.fromBytes(stored.getFirst());
+        }
+        if (key.type() == ContentType.NEWS && !newsArticleRepository.existsById(key.id())) {
+            return null;
+        }
+        RoaringBitmap words = new RoaringBitmap();
+        jdbcTemplate.query(key.type() == ContentType.NEWS ? NEWS_WORDS : VIDEO_WORDS,
+                (RowCallbackHandler) rs -> words.add(wordIndex(rs.getLong(1))), key.id());
+        jdbcTemplate.update(UPSERT_CONTENT, key.type().name(), key.id(), words.toBytes());
+        return words;
+    }
+
+    private List<WordSummaryDto> summaries(RoaringBitmap words, int limit) {
+        int[] ids = words.toArray(Math.max(1, Math.min(limit, MAX_LIMIT)));
+        if (ids.length == 0) {
+            return List.of();
+        }
+        return wordRepository.findSummariesByIds(Arrays.stream(ids).mapToObj(id -> (long) id).toList());
+    }
+
+    private static int wordIndex(long wordId) {
+        if (wordId <= 0 || wordId > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Word id out of range: " + wordId);
+        }
+        return (int) wordId;
+    }
+
+    private static void requireWordIds(Collection<Long> wordIds) {
+        if (wordIds == null || wordIds.isEmpty() || wordIds.size() > MAX_WORDS_PER_REQUEST
+                || wordIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_WORDS_PER_REQUEST + " word ids are required");
+        }
+    }
+
+    private static void requireLearnerId(String learnerId) {
+        if (learnerId == null || learnerId.isBlank() || learnerId.length() > MAX_LEARNER_ID_LENGTH) {
+            throw new IllegalArgumentException("A learner id of at most " + MAX_LEARNER_ID_LENGTH + " characters is required");
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.dto.ContentType;
+import com.example.englishlearningbackend.dto.NewsArticleDto;
+import com.example.englishlearningbackend.dto.NewsArticleRequestDto;
+import com.example.englishlearningbackend.dto.NewsIngestResultDto;
+import com.example.englishlearningbackend.dto.NewsOccurrenceDto;
+import com.example.englishlearningbackend.dto.NewsOccurrenceRowDto;
+import com.example.englishlearningbackend.dto.NewsSentenceDto;
+import com.example.englishlearningbackend.dto.NewsSentenceRowDto;
+import com.example.englishlearningbackend.index.AhoCorasick;
+import com.example.englishlearningbackend.repository.NewsArticleRepository;
+import com.example.englishlearningbackend.repository.NewsSentenceRepository;
+import com.example.englishlearningbackend.repository.NewsWordOccurrenceRepository;
+import com.example.englishlearningbackend.util.SentenceSplitter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Stores news articles split into sentences and tags every occurrence of a known word or phrasal
+ * verb with one {@link VocabularyTagger} pass over the article body.
+ */
+@Slf4j
+@Service
+public class NewsService {
+    private static final String INSERT_ARTICLE = "INSERT INTO news_article (title, source, published_at, body) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_SENTENCE = "INSERT INTO news_sentence (article_id, position, start_offset, end_offset, sentence) " +
+            "VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_OCCURRENCE = "INSERT INTO news_word_occurrence (article_id, sentence_position, word_id, start_offset, end_offset) " +
+            "VALUES (?, ?, ?, ?, ?)";
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_SOURCE_LENGTH = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final VocabularyTagger vocabularyTagger;
+    private final NewsArticleRepository newsArticleRepository;
+    private final NewsSentenceRepository newsSentenceRepository;
+    private final NewsWordOccurrenceRepository newsWordOccurrenceRepository;
+    private final KnownWordService knownWordService;
+    private final WordFrequencyService wordFrequencyService;
+
+    public NewsService(JdbcTemplate jdbcTemplate,
+                       TransactionTemplate transactionTemplate,
+                       ObjectMapper objectMapper,
+                       VocabularyTagger vocabularyTagger,
+                       NewsArticleRepository newsArticleRepository,
+                       NewsSentenceRepository newsSentenceRepository,
+                       NewsWordOccurrenceRepository newsWordOccurrenceRepository,
+                       KnownWordService knownWordService,
+                       WordFrequencyService wordFrequencyService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.vocabularyTagger = vocabularyTagger;
+        this.newsArticleRepository = newsArticleRepository;
+        this.newsSentenceRepository = newsSentenceRepository;
+        this.newsWordOccurrenceRepository = newsWordOccurrenceRepository;
+        this.knownWordService = knownWordService;
+        this.wordFrequencyService = wordFrequencyService;
+    }
+
+    public NewsIngestResultDto ingest(NewsArticleRequestDto article) {
+        return ingestAll(List.of(article));
+    }
+
+    /**
+     * Reads and validates every line before the first article is written, and writes them all in
+     * one transaction, so a bad line rejects the whole batch instead of leaving the articles above
+     * it stored.
+     */
+    public NewsIngestResultDto ingestJsonLines(InputStream in) throws IOException {
+        try (MappingIterator<NewsArticleRequestDto> articles = objectMapper.readerFor(NewsArticleRequestDto.class).readValues(in)) {
+            return ingestAll(articles.readAll());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed article line", e);
+        }
+    }
+
+    private NewsIngestResultDto ingestAll(List<NewsArticleRequestDto> articles) {
+        long started = System.nanoTime();
+        for (int i = 0; i < articles.size(); i++) {
+            NewsArticleRequestDto article = articles.get(i);
+            if (article.title() == null || article.title().isBlank() || article.body() == null || article.body().isBlank()) {
+                throw new IllegalArgumentException("Article " + (i + 1) + " needs a title and a body");
+            }
+            if (article.title().trim().length() > MAX_TITLE_LENGTH) {
+                throw new IllegalArgumentException("Article " + (i + 1) + " has a title over " + MAX_TITLE_LENGTH + " characters");
+            }
+            if (article.source() != null && article.source().length() > MAX_SOURCE_LENGTH) {
+                throw new IllegalArgumentException("Article " + (i + 1) + " has a source over " + MAX_SOURCE_LENGTH + " characters");
+            }
+        }
+        VocabularyTagger.Automata current = vocabularyTagger.current();
+        List<TaggedArticle> tagged = articles.stream()
+                .map(a -> new TaggedArticle(a, SentenceSplitter.split(a.body()), current.findAll(a.body())))
+                .toList();
+        List<Long> articleIds = new ArrayList<>(articles.size());
+        List<Long> occurrences = new ArrayList<>();
+        long[] counts = new long[2];
+        transactionTemplate.executeWithoutResult(status -> {
+            for (TaggedArticle article : tagged) {
+                articleIds.add(store(article, counts, occurrences));
+            }
+        });
+        wordFrequencyService.record(occurrences);
+        NewsIngestResultDto result = new NewsIngestResultDto(articleIds, counts[0], counts[1],
+                (System.nanoTime() - started) / 1_000_000);
+        log.info("News ingest finished: {} articles, {} sentences, {} occurrences in {} ms",
+                articleIds.size(), result.sentences(), result.occurrences(), result.elapsedMillis());
+        return result;
+    }
+
+    private long store(TaggedArticle tagged, long[] counts, List<Long> occurrences) {
+        NewsArticleRequestDto article = tagged.article();
+        String body = article.body();
+        List<SentenceSplitter.Span> spans = tagged.spans();
+        List<AhoCorasick.Match> matches = tagged.matches();
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_ARTICLE, Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, article.title().trim());
+            ps.setString(2, article.source());
+            ps.setTimestamp(3, article.publishedAt() == null ? null : Timestamp.valueOf(article.publishedAt()));
+            ps.setString(4, body);
+            return ps;
+        }, keys);
+        long articleId = Objects.requireNonNull(keys.getKey()).longValue();
+
+        List<Object[]> sentenceArgs = new ArrayList<>(spans.size());
+        for (int i = 0; i < spans.size(); i++) {
+            SentenceSplitter.Span span = spans.get(i);
+            sentenceArgs.add(new Object[]{articleId, i, span.start(), span.end(), body.substring(span.start(), span.end())});
+        }
+        List<Object[]> occurrenceArgs = new ArrayList<>(matches.size());
+        Set<Long> wordIds = new HashSet<>();
+        for (AhoCorasick.Match match : matches) {
+            int position = sentenceOf(spans, match);
+            if (position >= 0) {
+                occurrenceArgs.add(new Object[]{articleId, position, match.id(), match.start(), match.end()});
+                occurrences.add(match.id());
+                wordIds.add(match.id());
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_SENTENCE, sentenceArgs);
+        jdbcTemplate.batchUpdate(INSERT_OCCURRENCE, occurrenceArgs);
+        knownWordService.saveContentWords(ContentType.NEWS, articleId, wordIds);
+        counts[0] += sentenceArgs.size();
+        counts[1] += occurrenceArgs.size();
+        return articleId;
+    }
+
+    private static int sentenceOf(List<SentenceSplitter.Span> spans, AhoCorasick.Match match) {
+        int lo = 0;
+        int hi = spans.size() - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            SentenceSplitter.Span span = spans.get(mid);
+            if (match.start() < span.start()) {
+                hi = mid - 1;
+            } else if (match.start() >= span.end()) {
+                lo = mid + 1;
+            } else {
+                return match.end() <= span.end() ? mid : -1;
+            }
+        }
+        return -1;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<NewsArticleDto> getArticle(long id) {
+        return newsArticleRepository.findRowById(id).map(article -> {
+            List<NewsSentenceRowDto> sentences = newsSentenceRepository.findRowsByArticleId(id);
+            List<List<NewsOccurrenceDto>> occurrences = new ArrayList<>(sentences.size());
+            sentences.forEach(s -> occurrences.add(new ArrayList<>()));
+            for (NewsOccurrenceRowDto o : newsWordOccurrenceRepository.findRowsByArticleId(id)) {
+                int offset = sentences.get(o.sentencePosition()).startOffset();
+                occurrences.get(o.sentencePosition()).add(new NewsOccurrenceDto(o.wordId(), o.word(),
+                        o.startOffset() - offset, o.endOffset() - offset));
+            }
+            List<NewsSentenceDto> dtos = new ArrayList<>(sentences.size());
+            for (int i = 0; i < sentences.size(); i++) {
+                dtos.add(new NewsSentenceDto(sentences.get(i).position(), sentences.get(i).sentence(), occurrences.get(i)));
+            }
+            return new NewsArticleDto(article.id(), article.title(), article.source(), article.publishedAt(), dtos);
+        });
+    }
+
+    private record TaggedArticle(NewsArticleRequestDto article, List<SentenceSplitter.Span> spans,
+                                 List<AhoCorasick.Match> matches) {
+    }
+}
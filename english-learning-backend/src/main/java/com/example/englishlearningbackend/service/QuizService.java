@@ -0,0 +1,176 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.dto.MeaningRowDto;
+import com.example.englishlearningbackend.dto.QuizQuestionDto;
+import com.example.englishlearningbackend.dto.QuizType;
+import com.example.englishlearningbackend.dto.SentenceRefDto;
+import com.example.englishlearningbackend.dto.SentenceRowDto;
+import com.example.englishlearningbackend.dto.WordSummaryDto;
+import com.example.englishlearningbackend.event.ContentChangedEvent;
+import com.example.englishlearningbackend.event.ContentImportedEvent;
+import com.example.englishlearningbackend.event.FrequencyRanksUpdatedEvent;
+import com.example.englishlearningbackend.index.QuizPool;
+import com.example.englishlearningbackend.repository.MeaningRepository;
+import com.example.englishlearningbackend.repository.SentenceRepository;
+import com.example.englishlearningbackend.repository.WordRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Service
+public class QuizService {
+    public static final int DEFAULT_COUNT = 10;
+    public static final int MAX_COUNT = 50;
+    public static final int DEFAULT_CHOICES = 4;
+    public static final int MAX_CHOICES = 8;
+    private static final String BLANK = "_____";
+
+    private final WordRepository wordRepository;
+    private final MeaningRepository meaningRepository;
+    private final SentenceRepository sentenceRepository;
+    private final WordFrequencyService wordFrequencyService;
+    private volatile QuizPool pool = QuizPool.builder().build();
+    private volatile boolean stale;
+
+    public QuizService(WordRepository wordRepository,
+                       MeaningRepository meaningRepository,
+                       SentenceRepository sentenceRepository,
+                       WordFrequencyService wordFrequencyService) {
+        this.wordRepository = wordRepository;
+        this.meaningRepository = meaningRepository;
+        this.sentenceRepository = sentenceRepository;
+        this.wordFrequencyService = wordFrequencyService;
+    }
+
+    @EventListener({ApplicationReadyEvent.class, ContentImportedEvent.class})
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        stale = false;
+        QuizPool.Builder builder = QuizPool.builder();
+        try (Stream<WordSummaryDto> words = wordRepository.streamSummariesAfter(0)) {
+            words.forEach(w -> builder.word(w.id(), w.word(), w.phrasalVerb(), wordFrequencyService.rank(w.id())));
+        }
+        try (Stream<MeaningRowDto> meanings = meaningRepository.streamAllRows()) {
+            meanings.forEach(m -> builder.meaning(m.wordId(), m.meaning()));
+        }
+        try (Stream<SentenceRefDto> sentences = sentenceRepository.streamAllRefs()) {
+            sentences.forEach(s -> builder.sentence(s.wordId(), s.id()));
+        }
+        pool = builder.build();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        stale = true;
+    }
+
+    @EventListener(FrequencyRanksUpdatedEvent.class)
+    public void onFrequencyRanksUpdated() {
+        stale = true;
+    }
+
+    @Scheduled(fixedDelayString = "${quiz.pool.refresh-interval:1m}")
+    @Transactional(readOnly = true)
+    public void refreshIfStale() {
+        if (stale) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Draws questions about words whose frequency rank is at most {@code maxRank}, or about any
+     * word when it is null.
+     */
+    @Transactional(readOnly = true)
+    public List<QuizQuestionDto> generate(QuizType type, int count, int choices, Boolean phrasalVerb, Integer maxRank) {
+        int questions = Math.max(1, Math.min(count, MAX_COUNT));
+        int options = Math.max(2, Math.min(choices, MAX_CHOICES));
+        int rankLimit = maxRank == null ? Integer.MAX_VALUE : maxRank;
+        return type == QuizType.CLOZE
+                ? clozeQuestions(questions, options, phrasalVerb, rankLimit)
+                : meaningQuestions(questions, options, phrasalVerb, rankLimit);
+    }
+
+    private List<QuizQuestionDto> meaningQuestions(int count, int choices, Boolean phrasalVerb, int maxRank) {
+        QuizPool current = pool;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<QuizQuestionDto> questions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int word = current.randomWord(phrasalVerb, maxRank, random);
+            if (word < 0) {
+                break;
+            }
+            String answer = current.randomMeaning(word, random);
+            questions.add(question(QuizType.MEANING, current.wordId(word), current.word(word), answer,
+                    current.distractorMeanings(word, choices - 1, random)));
+        }
+        return questions;
+    }
+
+    private List<QuizQuestionDto> clozeQuestions(int count, int choices, Boolean phrasalVerb, int maxRank) {
+        QuizPool current = pool;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Map<Long, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < count * 2; i++) {
+            int sentence = current.randomSentence(phrasalVerb, maxRank, random);
+            if (sentence < 0) {
+                break;
+            }
+            candidates.putIfAbsent(current.sentenceId(sentence), current.sentenceWord(sentence));
+        }
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, SentenceRowDto> rows = new LinkedHashMap<>();
+        sentenceRepository.findRowsByIds(candidates.keySet()).forEach(r -> rows.put(r.id(), r));
+        List<QuizQuestionDto> questions = new ArrayList<>(count);
+        for (Map.Entry<Long, Integer> candidate : candidates.entrySet()) {
+            SentenceRowDto row = rows.get(candidate.getKey());
+            int word = candidate.getValue();
+            if (row == null || questions.size() == count) {
+                continue;
+            }
+            blank(row.sentence(), current.word(word)).ifPresent(prompt -> questions.add(question(QuizType.CLOZE,
+                    current.wordId(word), prompt, current.word(word), current.distractorWords(word, choices - 1, random))));
+        }
+        return questions;
+    }
+
+    static Optional<String> blank(String sentence, String word) {
+        StringBuilder regex = new StringBuilder("\\b");
+        String[] tokens = word.trim().split("\\s+");
+        for (int i = 0; i < tokens.length; i++) {
+            if (i > 0) {
+                regex.append("\\s+");
+            }
+            regex.append(Pattern.quote(tokens[i])).append(i == 0 ? "\\w*" : "");
+        }
+        regex.append("\\b");
+        Matcher matcher = Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE).matcher(sentence);
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        return Optional.of(sentence.substring(0, matcher.start()) + BLANK + sentence.substring(matcher.end()));
+    }
+
+    private static QuizQuestionDto question(QuizType type, long wordId, String prompt, String answer, List<String> distractors) {
+        List<String> options = new ArrayList<>(distractors);
+        options.add(answer);
+        Collections.shuffle(options, ThreadLocalRandom.current());
+        return new QuizQuestionDto(type, wordId, prompt, List.copyOf(options), options.indexOf(answer));
+    }
+}
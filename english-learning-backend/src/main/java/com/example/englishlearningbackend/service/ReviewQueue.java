@@ -0,0 +1,107 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.config.ReviewProperties;
+import com.example.englishlearningbackend.dto.ReviewDueDto;
+import com.example.englishlearningbackend.entity.Word;
+import com.example.englishlearningbackend.event.ChangeType;
+import com.example.englishlearningbackend.event.ContentChangedEvent;
+import com.example.englishlearningbackend.event.ReviewScheduledEvent;
+import com.example.englishlearningbackend.repository.ReviewCardRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Per-learner due queues ordered by due date. A learner's queue is loaded from the
+ * (learner_id, due_at) index on first use and then kept in step with grades, enrolments and word
+ * deletions, so asking for due cards never rescans the learner's deck.
+ */
+@Component
+public class ReviewQueue {
+    private final LoadingCache<String, LearnerQueue> queues;
+
+    public ReviewQueue(ReviewCardRepository reviewCardRepository, ReviewProperties properties) {
+        this.queues = Caffeine.newBuilder()
+                .maximumSize(properties.maxLearners())
+                .expireAfterAccess(properties.idleTimeout())
+                .recordStats()
+                .build(learnerId -> {
+                    LearnerQueue queue = new LearnerQueue();
+                    reviewCardRepository.findDueEntries(learnerId).forEach(e -> queue.schedule(e.cardId(), e.wordId(), e.dueAt()));
+                    return queue;
+                });
+    }
+
+    public List<Long> dueCardIds(String learnerId, LocalDateTime now, int limit) {
+        return queues.get(learnerId).due(now, limit);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewScheduled(ReviewScheduledEvent event) {
+        LearnerQueue queue = queues.getIfPresent(event.learnerId());
+        if (queue != null) {
+            queue.schedule(event.cardId(), event.wordId(), event.dueAt());
+        }
+    }
+
+    /**
+     * Cards of a deleted word go with it through the foreign key cascade, without an event of their
+     * own, so they are dropped from every loaded queue here.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.type() == ChangeType.DELETED && event.entity() instanceof Word word && word.getId() != null) {
+            queues.asMap().values().forEach(queue -> queue.removeWord(word.getId()));
+        }
+    }
+
+    private record Entry(LocalDateTime dueAt, long cardId) {
+    }
+
+    private static final class LearnerQueue {
+        private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::dueAt).thenComparingLong(Entry::cardId);
+
+        private final NavigableSet<Entry> byDue = new ConcurrentSkipListSet<>(ORDER);
+        private final Map<Long, Entry> byCard = new ConcurrentHashMap<>();
+        private final Map<Long, Long> cardByWord = new ConcurrentHashMap<>();
+
+        synchronized void schedule(long cardId, long wordId, LocalDateTime dueAt) {
+            Entry entry = new Entry(dueAt, cardId);
+            Entry previous = byCard.put(cardId, entry);
+            if (previous != null) {
+                byDue.remove(previous);
+            }
+            byDue.add(entry);
+            cardByWord.put(wordId, cardId);
+        }
+
+        synchronized void removeWord(long wordId) {
+            Long cardId = cardByWord.remove(wordId);
+            Entry entry = cardId == null ? null : byCard.remove(cardId);
+            if (entry != null) {
+                byDue.remove(entry);
+            }
+        }
+
+        List<Long> due(LocalDateTime now, int limit) {
+            List<Long> ids = new ArrayList<>(limit);
+            for (Entry entry : byDue.headSet(new Entry(now, Long.MAX_VALUE), true)) {
+                if (ids.size() == limit) {
+                    break;
+                }
+                ids.add(entry.cardId());
+            }
+            return ids;
+        }
+    }
+}
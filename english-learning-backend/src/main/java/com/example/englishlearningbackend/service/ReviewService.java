@@ -0,0 +1,100 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.dto.ReviewCardDto;
+import com.example.englishlearningbackend.dto.WordSummaryDto;
+import com.example.englishlearningbackend.entity.ReviewCard;
+import com.example.englishlearningbackend.event.ReviewScheduledEvent;
+import com.example.englishlearningbackend.repository.ReviewCardRepository;
+import com.example.englishlearningbackend.repository.WordRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+@Service
+public class ReviewService {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 200;
+
+    private final ReviewCardRepository reviewCardRepository;
+    private final WordRepository wordRepository;
+    private final ReviewQueue reviewQueue;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReviewService(ReviewCardRepository reviewCardRepository,
+                         WordRepository wordRepository,
+                         ReviewQueue reviewQueue,
+                         ApplicationEventPublisher eventPublisher,
+                         TransactionTemplate transactionTemplate) {
+        this.reviewCardRepository = reviewCardRepository;
+        this.wordRepository = wordRepository;
+        this.reviewQueue = reviewQueue;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Creates each card in its own transaction, so a card another request created for the same
+     * word in the meantime counts as already enrolled instead of failing the whole request.
+     */
+    public int enroll(String learnerId, Collection<Long> wordIds) {
+        if (wordIds == null || wordIds.isEmpty()) {
+            return 0;
+        }
+        Set<Long> enrolled = new HashSet<>(reviewCardRepository.findEnrolledWordIds(learnerId, wordIds));
+        LocalDateTime now = LocalDateTime.now();
+        int created = 0;
+        for (WordSummaryDto word : wordRepository.findSummariesByIds(wordIds)) {
+            if (!enrolled.add(word.id())) {
+                continue;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    ReviewCard card = new ReviewCard();
+                    card.setLearnerId(learnerId);
+                    card.setWord(wordRepository.getReferenceById(word.id()));
+                    card.setDueAt(now);
+                    reviewCardRepository.save(card);
+                    eventPublisher.publishEvent(new ReviewScheduledEvent(learnerId, card.getId(), word.id(), card.getDueAt()));
+                });
+                created++;
+            } catch (DataIntegrityViolationException e) {
+                // enrolled concurrently
+            }
+        }
+        return created;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ReviewCardDto> getDueCards(String learnerId, int limit) {
+        List<Long> ids = reviewQueue.dueCardIds(learnerId, LocalDateTime.now(), Math.max(1, Math.min(limit, MAX_LIMIT)));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return reviewCardRepository.findCards(ids).stream()
+                .sorted(Comparator.comparing(ReviewCardDto::dueAt).thenComparing(ReviewCardDto::id))
+                .toList();
+    }
+
+    @Transactional
+    public Optional<ReviewCardDto> grade(String learnerId, long cardId, int grade) {
+        Optional<ReviewCard> found = reviewCardRepository.findById(cardId)
+                .filter(card -> card.getLearnerId().equals(learnerId));
+        found.ifPresent(card -> {
+            Sm2Scheduler.grade(card, grade, LocalDateTime.now());
+            eventPublisher.publishEvent(new ReviewScheduledEvent(learnerId, card.getId(), card.getWord().getId(), card.getDueAt()));
+        });
+        return found.map(card -> new ReviewCardDto(card.getId(), card.getWord().getId(), card.getWord().getWord(),
+                card.getRepetitions(), card.getIntervalDays(), card.getEaseFactor(), card.getDueAt()));
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.config.SearchIndexProperties;
+import com.example.englishlearningbackend.config.SyncProperties;
+import com.example.englishlearningbackend.dto.MeaningDto;
+import com.example.englishlearningbackend.dto.SearchHitDto;
+import com.example.englishlearningbackend.dto.SentenceDto;
+import com.example.englishlearningbackend.entity.Meaning;
+import com.example.englishlearningbackend.entity.Sentence;
+import com.example.englishlearningbackend.event.ChangeType;
+import com.example.englishlearningbackend.event.ContentChangedEvent;
+import com.example.englishlearningbackend.event.ContentImportedEvent;
+import com.example.englishlearningbackend.index.InvertedIndex;
+import com.example.englishlearningbackend.repository.MeaningRepository;
+import com.example.englishlearningbackend.repository.SentenceRepository;
+import com.example.englishlearningbackend.repository.SyncTombstoneRepository;
+import com.example.englishlearningbackend.repository.WordRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+public class SearchService {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final long SENTENCE = 0;
+    private static final long MEANING = 1;
+    private static final String SENTENCE_TYPE = "SENTENCE";
+    private static final String MEANING_TYPE = "MEANING";
+
+    private final SentenceRepository sentenceRepository;
+    private final MeaningRepository meaningRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final WordRepository wordRepository;
+    private final Path indexPath;
+    private final Duration tombstoneRetention;
+    private volatile InvertedIndex index = new InvertedIndex();
+    private volatile LocalDateTime indexedUntil = EPOCH;
+
+    public SearchService(SentenceRepository sentenceRepository,
+                         MeaningRepository meaningRepository,
+                         SyncTombstoneRepository syncTombstoneRepository,
+                         WordRepository wordRepository,
+                         SearchIndexProperties properties,
+                         SyncProperties syncProperties) {
+        this.sentenceRepository = sentenceRepository;
+        this.meaningRepository = meaningRepository;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.wordRepository = wordRepository;
+        this.indexPath = properties.path();
+        this.tombstoneRetention = syncProperties.tombstoneRetention();
+    }
+
+    /**
+     * Loads the persisted index and catches up on what changed since it was saved. An index saved
+     * before the tombstone retention window is rebuilt instead, because the deletes it missed may
+     * no longer be recorded.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void load() {
+        if (Files.exists(indexPath)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexPath)))) {
+                LocalDateTime savedAt = LocalDateTime.parse(in.readUTF());
+                if (savedAt.isAfter(wordRepository.findDatabaseTime().minus(tombstoneRetention))) {
+                    index = InvertedIndex.readFrom(in);
+                    indexedUntil = savedAt;
+                } else {
+                    log.info("Rebuilding search index {} saved at {}, before the tombstone retention window", indexPath, savedAt);
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Discarding unreadable search index {}", indexPath, e);
+                index = new InvertedIndex();
+                indexedUntil = EPOCH;
+            }
+        }
+        catchUp();
+    }
+
+    @EventListener(ContentImportedEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void catchUp() {
+        LocalDateTime since = indexedUntil.minusMinutes(1);
+        LocalDateTime watermark = latest(sentenceRepository.findMaxUpdatedAt(), meaningRepository.findMaxUpdatedAt());
+        try (Stream<SentenceDto> sentences = sentenceRepository.streamTextsUpdatedSince(since)) {
+            sentences.forEach(s -> index.put(key(SENTENCE, s.id()), sentenceText(s.sentence(), s.translatedSentence())));
+        }
+        try (Stream<MeaningDto> meanings = meaningRepository.streamTextsUpdatedSince(since)) {
+            meanings.forEach(m -> index.put(key(MEANING, m.id()), m.meaning()));
+        }
+        syncTombstoneRepository.findDeletedSince(since, List.of(SENTENCE_TYPE, MEANING_TYPE))
+                .forEach(t -> index.remove(key(SENTENCE_TYPE.equals(t.type()) ? SENTENCE : MEANING, t.entityId())));
+        if (watermark != null) {
+            indexedUntil = watermark;
+        }
+        log.info("Search index ready with {} documents", index.size());
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.persist-interval:5m}",
+            initialDelayString = "${search.index.persist-interval:5m}")
+    @PreDestroy
+    public synchronized void persist() {
+        LocalDateTime savedAt = indexedUntil;
+        try {
+            Files.createDirectories(indexPath.toAbsolutePath().getParent());
+            Path tmp = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeUTF(savedAt.toString());
+                index.writeTo(out);
+            }
+            Files.move(tmp, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Could not persist search index to {}", indexPath, e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.entity() instanceof Sentence s && s.getId() != null) {
+            if (event.type() == ChangeType.DELETED) {
+                index.remove(key(SENTENCE, s.getId()));
+            } else {
+                index.put(key(SENTENCE, s.getId()), sentenceText(s.getSentence(), s.getTranslatedSentence()));
+            }
+        } else if (event.entity() instanceof Meaning m && m.getId() != null) {
+            if (event.type() == ChangeType.DELETED) {
+                index.remove(key(MEANING, m.getId()));
+            } else {
+                index.put(key(MEANING, m.getId()), m.getMeaning());
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<SearchHitDto> search(String query, int limit) {
+        List<InvertedIndex.Hit> hits = index.search(query, Math.min(limit, MAX_LIMIT));
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Double> sentenceScores = new HashMap<>();
+        Map<Long, Double> meaningScores = new HashMap<>();
+        for (InvertedIndex.Hit hit : hits) {
+            (hit.key() % 2 == SENTENCE ? sentenceScores : meaningScores).put(hit.key() / 2, hit.score());
+        }
+        List<SearchHitDto> results = new ArrayList<>(hits.size());
+        if (!sentenceScores.isEmpty()) {
+            sentenceRepository.findSearchHits(sentenceScores.keySet())
+                    .forEach(h -> results.add(h.withScore(sentenceScores.get(h.id()))));
+        }
+        if (!meaningScores.isEmpty()) {
+            meaningRepository.findSearchHits(meaningScores.keySet())
+                    .forEach(h -> results.add(h.withScore(meaningScores.get(h.id()))));
+        }
+        results.sort(Comparator.comparingDouble(SearchHitDto::score).reversed());
+        return results;
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null || b == null) {
+            return a == null ? b : a;
+        }
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static long key(long type, long id) {
+        return id * 2 + type;
+    }
+
+    private static String sentenceText(String sentence, String translatedSentence) {
+        return translatedSentence == null ? sentence : sentence + "\n" + translatedSentence;
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.config.SimilarSentenceProperties;
+import com.example.englishlearningbackend.dto.SearchHitDto;
+import com.example.englishlearningbackend.dto.SentenceDto;
+import com.example.englishlearningbackend.dto.SentenceRowDto;
+import com.example.englishlearningbackend.entity.Sentence;
+import com.example.englishlearningbackend.event.ChangeType;
+import com.example.englishlearningbackend.event.ContentChangedEvent;
+import com.example.englishlearningbackend.event.ContentImportedEvent;
+import com.example.englishlearningbackend.index.MinHashIndex;
+import com.example.englishlearningbackend.repository.SentenceRepository;
+import com.example.englishlearningbackend.repository.SyncTombstoneRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Finds similar example sentences through a {@link MinHashIndex} kept in memory and rebuilt from
+ * the database at startup, and screens imported sentences for near-duplicates of the same word by
+ * comparing them with that word's stored sentences, reusing the signatures of the index.
+ */
+@Slf4j
+@Service
+public class SimilarSentenceService {
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 100;
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final String SENTENCE_TYPE = "SENTENCE";
+
+    private final SentenceRepository sentenceRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final double duplicateThreshold;
+    private final double minSimilarity;
+    private final MinHashIndex index = new MinHashIndex();
+    private volatile LocalDateTime indexedUntil = EPOCH;
+
+    public SimilarSentenceService(SentenceRepository sentenceRepository,
+                                  SyncTombstoneRepository syncTombstoneRepository,
+                                  SimilarSentenceProperties properties) {
+        this.sentenceRepository = sentenceRepository;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.duplicateThreshold = properties.duplicateThreshold();
+        this.minSimilarity = properties.minSimilarity();
+    }
+
+    @EventListener({ApplicationReadyEvent.class, ContentImportedEvent.class})
+    @Transactional(readOnly = true)
+    public synchronized void catchUp() {
+        LocalDateTime since = indexedUntil.minusMinutes(1);
+        LocalDateTime watermark = sentenceRepository.findMaxUpdatedAt();
+        try (Stream<SentenceDto> sentences = sentenceRepository.streamTextsUpdatedSince(since)) {
+            sentences.forEach(s -> index.put(s.id(), s.sentence()));
+        }
+        // Sentences deleted outside JPA, by the word cascade or by hand, only leave a tombstone.
+        syncTombstoneRepository.findDeletedSince(since, List.of(SENTENCE_TYPE))
+                .forEach(t -> index.remove(t.entityId()));
+        if (watermark != null) {
+            indexedUntil = watermark;
+        }
+        log.info("Similar sentence index ready with {} sentences", index.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.entity() instanceof Sentence s && s.getId() != null) {
+            if (event.type() == ChangeType.DELETED) {
+                index.remove(s.getId());
+            } else {
+                index.put(s.getId(), s.getSentence());
+            }
+        }
+    }
+
+    /**
+     * Sentences most similar to sentence {@code id}, scored by estimated similarity, or empty when
+     * the sentence is unknown.
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<SearchHitDto>> similar(long id, int limit) {
+        return index.similar(id, Math.max(1, Math.min(limit, MAX_LIMIT)), minSimilarity).map(matches -> {
+            if (matches.isEmpty()) {
+                return List.of();
+            }
+            Map<Long, Double> scores = new HashMap<>();
+            matches.forEach(m -> scores.put(m.key(), m.similarity()));
+            List<SearchHitDto> results = new ArrayList<>(matches.size());
+            sentenceRepository.findSearchHits(scores.keySet())
+                    .forEach(h -> results.add(h.withScore(scores.get(h.id()))));
+            results.sort(Comparator.comparingDouble(SearchHitDto::score).reversed());
+            return results;
+        });
+    }
+
+    /**
+     * Drops the sentences that are near-duplicates of a stored sentence of the same word or of an
+     * earlier sentence of the same word in {@code sentences}. Exact repeats are kept so the upsert
+     * can still refresh their translation; a repeat of a stored sentence comes back with the stored
+     * id. The stored sentences are read per word, so earlier batches of the running import count as
+     * stored; must run inside the import transaction.
+     */
+    public List<SentenceRowDto> retainUnique(List<SentenceRowDto> sentences) {
+        Set<Long> wordIds = new HashSet<>();
+        sentences.forEach(s -> wordIds.add(s.wordId()));
+        Map<Long, List<SignedSentence>> sameWord = new HashMap<>();
+        if (!wordIds.isEmpty()) {
+            for (SentenceRowDto stored : sentenceRepository.findRowsByWordIds(wordIds)) {
+                char[] signature = index.signatureOf(stored.id());
+                if (signature == null) {
+                    signature = MinHashIndex.signature(stored.sentence());
+                }
+                if (signature != null) {
+                    sameWord.computeIfAbsent(stored.wordId(), k -> new ArrayList<>())
+                            .add(new SignedSentence(stored.id(), stored.sentence(), signature));
+                }
+            }
+        }
+        List<SentenceRowDto> unique = new ArrayList<>(sentences.size());
+        for (SentenceRowDto sentence : sentences) {
+            char[] signature = MinHashIndex.signature(sentence.sentence());
+            if (signature == null) {
+                unique.add(sentence);
+                continue;
+            }
+            List<SignedSentence> known = sameWord.computeIfAbsent(sentence.wordId(), k -> new ArrayList<>());
+            SignedSentence repeated = known.stream()
+                    .filter(k -> k.sentence().equals(sentence.sentence()))
+                    .findFirst()
+                    .orElse(null);
+            if (repeated != null) {
+                unique.add(repeated.id() == null ? sentence
+                        : new SentenceRowDto(sentence.wordId(), repeated.id(), sentence.sentence(), sentence.translatedSentence()));
+            } else if (known.stream().noneMatch(k -> MinHashIndex.similarity(k.signature(), signature) >= duplicateThreshold)) {
+                known.add(new SignedSentence(null, sentence.sentence(), signature));
+                unique.add(sentence);
+            }
+        }
+        return unique;
+    }
+
+    private record SignedSentence(Long id, String sentence, char[] signature) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.entity.ReviewCard;
+
+import java.time.LocalDateTime;
+
+/**
+ * SuperMemo-2 interval scheduling. Grades run from 0 (blackout) to 5 (perfect recall); anything
+ * below 3 restarts the repetition sequence.
+ */
+public final class Sm2Scheduler {
+    public static final int MIN_GRADE = 0;
+    public static final int MAX_GRADE = 5;
+    private static final double MIN_EASE_FACTOR = 1.3;
+
+    private Sm2Scheduler() {
+    }
+
+    public static void grade(ReviewCard card, int grade, LocalDateTime now) {
+        if (grade < 3) {
+            card.setRepetitions(0);
+            card.setIntervalDays(1);
+        } else {
+            int interval = switch (card.getRepetitions()) {
+                case 0 -> 1;
+                case 1 -> 6;
+                default -> (int) Math.round(card.getIntervalDays() * card.getEaseFactor());
+            };
+            card.setRepetitions(card.getRepetitions() + 1);
+            card.setIntervalDays(interval);
+        }
+        int miss = MAX_GRADE - grade;
+        card.setEaseFactor(Math.max(MIN_EASE_FACTOR, card.getEaseFactor() + 0.1 - miss * (0.08 + miss * 0.02)));
+        card.setLastReviewedAt(now);
+        card.setDueAt(now.plusDays(card.getIntervalDays()));
+    }
+}
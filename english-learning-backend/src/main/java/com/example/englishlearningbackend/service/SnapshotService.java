@@ -0,0 +1,199 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.config.SnapshotProperties;
+import com.example.englishlearningbackend.config.WordCacheProperties;
+import com.example.englishlearningbackend.dto.SnapshotInfoDto;
+import com.example.englishlearningbackend.dto.WordDetailDto;
+import com.example.englishlearningbackend.dto.WordPageDto;
+import com.example.englishlearningbackend.dto.WordSummaryDto;
+import com.example.englishlearningbackend.repository.MeaningRepository;
+import com.example.englishlearningbackend.repository.SentenceRepository;
+import com.example.englishlearningbackend.repository.SyncTombstoneRepository;
+import com.example.englishlearningbackend.repository.WordRepository;
+import com.example.englishlearningbackend.snapshot.DictionarySnapshotReader;
+import com.example.englishlearningbackend.snapshot.DictionarySnapshotWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+@Slf4j
+@Service
+public class SnapshotService {
+    private static final int BATCH_SIZE = 500;
+
+    private final WordService wordService;
+    private final WordDetailLoader wordDetailLoader;
+    private final WordDetailCache wordDetailCache;
+    private final WordRepository wordRepository;
+    private final MeaningRepository meaningRepository;
+    private final SentenceRepository sentenceRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final WordFrequencyService wordFrequencyService;
+    private final SnapshotProperties properties;
+    private final long cacheSize;
+    private final Path compressedPath;
+    // Mapped once per snapshot file; a replaced file stays readable through the old mapping.
+    private volatile DictionarySnapshotReader current;
+
+    public SnapshotService(WordService wordService,
+                           WordDetailLoader wordDetailLoader,
+                           WordDetailCache wordDetailCache,
+                           WordRepository wordRepository,
+                           MeaningRepository meaningRepository,
+                           SentenceRepository sentenceRepository,
+                           SyncTombstoneRepository syncTombstoneRepository,
+                           WordFrequencyService wordFrequencyService,
+                           SnapshotProperties properties,
+                           WordCacheProperties cacheProperties) {
+        this.wordService = wordService;
+        this.wordDetailLoader = wordDetailLoader;
+        this.wordDetailCache = wordDetailCache;
+        this.wordRepository = wordRepository;
+        this.meaningRepository = meaningRepository;
+        this.sentenceRepository = sentenceRepository;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.wordFrequencyService = wordFrequencyService;
+        this.properties = properties;
+        this.cacheSize = cacheProperties.maximumSize();
+        this.compressedPath = properties.path().resolveSibling(properties.path().getFileName() + ".gz");
+    }
+
+    /**
+     * Writes a snapshot versioned with the database time it started at, in epoch milliseconds, so
+     * a warm start can tell whether anything changed after it was taken.
+     */
+    @Scheduled(fixedDelayString = "${snapshot.refresh-interval:1h}", initialDelayString = "${snapshot.refresh-interval:1h}")
+    public synchronized SnapshotInfoDto generate() throws IOException {
+        Path path = properties.path();
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        Path compressedTmp = compressedPath.resolveSibling(compressedPath.getFileName() + ".tmp");
+        long version = toVersion(wordRepository.findDatabaseTime());
+        long words;
+        try (DictionarySnapshotWriter writer = new DictionarySnapshotWriter(tmp, version)) {
+            long after = 0;
+            while (true) {
+                WordPageDto page = wordService.getWords(after, BATCH_SIZE);
+                if (page.items().isEmpty()) {
+                    break;
+                }
+                for (WordDetailDto detail : wordDetailLoader.loadAll(page.items().stream().map(WordSummaryDto::id).toList()).values()) {
+                    writer.write(detail);
+                }
+                if (page.nextCursor() == null) {
+                    break;
+                }
+                after = page.nextCursor();
+            }
+            words = writer.wordCount();
+        }
+        try (InputStream in = Files.newInputStream(tmp);
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(compressedTmp), 64 * 1024)) {
+            in.transferTo(out);
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.move(compressedTmp, compressedPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        current = DictionarySnapshotReader.open(path);
+        SnapshotInfoDto info = new SnapshotInfoDto(version, words, Files.size(path), Files.size(compressedPath));
+        log.info("Wrote dictionary snapshot {}", info);
+        return info;
+    }
+
+    public Optional<SnapshotInfoDto> latest() throws IOException {
+        if (!Files.exists(properties.path()) || !Files.exists(compressedPath)) {
+            return Optional.empty();
+        }
+        DictionarySnapshotReader reader = reader();
+        return Optional.of(new SnapshotInfoDto(reader.version(), reader.wordCount(),
+                Files.size(properties.path()), Files.size(compressedPath)));
+    }
+
+    private DictionarySnapshotReader reader() throws IOException {
+        DictionarySnapshotReader reader = current;
+        if (reader == null) {
+            synchronized (this) {
+                if (current == null) {
+                    current = DictionarySnapshotReader.open(properties.path());
+                }
+                reader = current;
+            }
+        }
+        return reader;
+    }
+
+    public Path compressedPath() {
+        return compressedPath;
+    }
+
+    /**
+     * Fills the word detail cache from the snapshot on disk, unless a word, meaning or sentence was
+     * updated or deleted at or after the time the snapshot was taken. Only as many words as the
+     * cache holds are loaded, the most frequent first, so the warm-up does not evict itself.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmCaches() {
+        if (!properties.warmStart() || !Files.exists(properties.path())) {
+            return;
+        }
+        try {
+            DictionarySnapshotReader reader = reader();
+            LocalDateTime latestChange = latestChange();
+            if (latestChange != null && toVersion(latestChange) >= reader.version()) {
+                log.info("Skipping warm start from snapshot {}: the dictionary changed at {}", reader.version(), latestChange);
+                return;
+            }
+            List<WordSummaryDto> popular = wordFrequencyService.getWords(0, (int) Math.min(cacheSize, Integer.MAX_VALUE)).items();
+            Map<Long, Integer> positions = new HashMap<>();
+            for (int i = 0; i < popular.size(); i++) {
+                positions.put(popular.get(i).id(), i);
+            }
+            WordDetailDto[] details = new WordDetailDto[popular.size()];
+            reader.forEach(detail -> {
+                Integer position = positions.get(detail.id());
+                if (position != null) {
+                    details[position] = detail;
+                }
+            });
+            long warmed = 0;
+            for (WordDetailDto detail : details) {
+                if (detail != null) {
+                    wordDetailCache.put(detail);
+                    warmed++;
+                }
+            }
+            log.info("Warmed word detail cache from snapshot {} ({} of {} words)", reader.version(), warmed, reader.wordCount());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not warm caches from snapshot {}", properties.path(), e);
+        }
+    }
+
+    private LocalDateTime latestChange() {
+        return Stream.of(wordRepository.findMaxUpdatedAt(), meaningRepository.findMaxUpdatedAt(),
+                        sentenceRepository.findMaxUpdatedAt(), syncTombstoneRepository.findMaxDeletedAt())
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+    }
+
+    private static long toVersion(LocalDateTime databaseTime) {
+        return databaseTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
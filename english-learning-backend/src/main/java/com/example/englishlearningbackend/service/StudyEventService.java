@@ -0,0 +1,519 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.config.StudyEventProperties;
+import com.example.englishlearningbackend.dto.StudyEventRequestDto;
+import com.example.englishlearningbackend.dto.StudyEventType;
+import com.example.englishlearningbackend.dto.StudyStatsDto;
+import com.example.englishlearningbackend.entity.Word;
+import com.example.englishlearningbackend.event.ChangeType;
+import com.example.englishlearningbackend.event.ContentChangedEvent;
+import com.example.englishlearningbackend.event.ContentImportedEvent;
+import com.example.englishlearningbackend.index.RoaringBitmap;
+import com.example.englishlearningbackend.limiter.LimitExceededException;
+import com.example.englishlearningbackend.writebehind.MpscRingBuffer;
+import com.example.englishlearningbackend.writebehind.SpillJournal;
+import com.example.englishlearningbackend.writebehind.StudyEvent;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind capture of learner study events. Requests only enqueue into a lock-free ring buffer
+ * and bump in-memory counters; a scheduled flusher appends what it drains to a local
+ * {@link SpillJournal} and then writes it to MySQL in multi-row batches. The event rows, the
+ * per-word and per-learner aggregates and the journal checkpoint commit together, so replaying the
+ * journal after a crash or a database outage neither loses nor double-counts events. Events still
+ * in the ring when the process dies, at most one flush interval's worth, are lost.
+ *
+ * <p>A batch the database rejects while it is otherwise reachable is retried one event at a time;
+ * events that still fail on their own are moved to a quarantine journal next to the spill journal
+ * so they cannot hold back the checkpoint. Learner counts are the flushed totals, cached for at
+ * most {@code maxLearners} learners, plus the events of this process not written yet. Word counts
+ * are kept for every word, so events are only accepted for word ids of the dictionary.
+ */
+@Slf4j
+@Service
+public class StudyEventService {
+    public static final int MAX_EVENTS_PER_REQUEST = 1000;
+
+    private static final int MAX_LEARNER_ID_LENGTH = 64;
+    // study_event.occurred_at is a TIMESTAMP(3)
+    private static final Instant MIN_OCCURRED_AT = Instant.parse("1970-01-01T00:00:01Z");
+    private static final Instant MAX_OCCURRED_AT = Instant.parse("2038-01-19T03:14:07.999Z");
+    private static final int TYPES = StudyEventType.values().length;
+    private static final String INSERT_EVENT = "INSERT INTO study_event (learner_id, event_type, word_id, sentence_id, occurred_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String UPSERT_WORD_STAT = "INSERT INTO study_word_stat (word_id, event_type, event_count) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE event_count = event_count + VALUES(event_count)";
+    private static final String UPSERT_LEARNER_STAT = "INSERT INTO study_learner_stat (learner_id, event_type, event_count) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE event_count = event_count + VALUES(event_count)";
+    private static final String PROBE = "SELECT COUNT(*) FROM study_event WHERE id = 0";
+    private static final String UPSERT_CHECKPOINT = "INSERT INTO study_event_checkpoint (journal_id, flushed_seq) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE flushed_seq = VALUES(flushed_seq)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MpscRingBuffer<StudyEvent> buffer;
+    private final SpillJournal journal;
+    private final SpillJournal quarantine;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final long maxSpillBytes;
+    private final Map<Long, AtomicLongArray> wordCounts = new ConcurrentHashMap<>();
+    private final LoadingCache<String, long[]> learnerTotals;
+    private final Map<String, AtomicLongArray> learnerPending = new ConcurrentHashMap<>();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder quarantined = new LongAdder();
+    private final Object wordIdsLock = new Object();
+    private volatile RoaringBitmap wordIds;
+    private ScheduledExecutorService flusher;
+    private boolean seeded;
+    private boolean recovered;
+    private long flushedSequence;
+
+    public StudyEventService(JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             StudyEventProperties properties) throws IOException {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.buffer = new MpscRingBuffer<>(properties.queueCapacity());
+        this.journal = SpillJournal.open(properties.spillPath(), properties.segmentSize().toBytes());
+        this.quarantine = SpillJournal.open(properties.spillPath().resolve("quarantine"), properties.segmentSize().toBytes());
+        this.batchSize = properties.batchSize();
+        this.flushInterval = properties.flushInterval();
+        this.maxSpillBytes = properties.maxSpillSize().toBytes();
+        this.learnerTotals = Caffeine.newBuilder()
+                .maximumSize(properties.maxLearners())
+                .recordStats()
+                .build(this::loadLearnerTotals);
+    }
+
+    /**
+     * Accepts all of {@code requests} or none of them. A full buffer is reported as
+     * {@link LimitExceededException} so clients back off and retry.
+     */
+    public int record(String learnerId, List<StudyEventRequestDto> requests) {
+        if (learnerId == null || learnerId.isBlank() || learnerId.length() > MAX_LEARNER_ID_LENGTH) {
+            throw new IllegalArgumentException("A learner id of at most " + MAX_LEARNER_ID_LENGTH + " characters is required");
+        }
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_EVENTS_PER_REQUEST) {
+            throw new IllegalArgumentException("Between 1 and " + MAX_EVENTS_PER_REQUEST + " events are required");
+        }
+        long now = System.currentTimeMillis();
+        RoaringBitmap known = wordIds;
+        List<StudyEvent> events = new ArrayList<>(requests.size());
+        for (StudyEventRequestDto request : requests) {
+            if (request.type() == null || request.wordId() == null || request.wordId() <= 0) {
+                throw new IllegalArgumentException("Every event needs a type and a word id");
+            }
+            // Until the ids are loaded the foreign key is left to reject unknown words at flush time.
+            if (known != null && (request.wordId() > Integer.MAX_VALUE || !known.contains(request.wordId().intValue()))) {
+                throw new IllegalArgumentException("Unknown word id " + request.wordId());
+            }
+            long sentenceId = request.sentenceId() == null ? 0 : request.sentenceId();
+            if (request.occurredAt() != null
+                    && (request.occurredAt().isBefore(MIN_OCCURRED_AT) || request.occurredAt().isAfter(MAX_OCCURRED_AT))) {
+                throw new IllegalArgumentException("occurredAt must be between " + MIN_OCCURRED_AT + " and " + MAX_OCCURRED_AT);
+            }
+            long occurredAt = request.occurredAt() == null ? now : request.occurredAt().toEpochMilli();
+            events.add(new StudyEvent(learnerId, request.type(), request.wordId(), sentenceId, occurredAt));
+        }
+        if (!buffer.offerAll(events)) {
+            rejected.increment();
+            throw new LimitExceededException("Study event buffer is full");
+        }
+        events.forEach(this::count);
+        addPending(events, 1);
+        return events.size();
+    }
+
+    public StudyStatsDto wordStats(long wordId) {
+        return stats(wordCounts.get(wordId));
+    }
+
+    public StudyStatsDto learnerStats(String learnerId) {
+        long[] totals = learnerTotals.get(learnerId).clone();
+        AtomicLongArray pending = learnerPending.get(learnerId);
+        for (int i = 0; pending != null && i < TYPES; i++) {
+            totals[i] += pending.get(i);
+        }
+        return new StudyStatsDto(totals[StudyEventType.WORD_VIEWED.ordinal()],
+                totals[StudyEventType.SENTENCE_PRACTICED.ordinal()],
+                totals[StudyEventType.ANSWER_CORRECT.ordinal()],
+                totals[StudyEventType.ANSWER_WRONG.ordinal()]);
+    }
+
+    public int getBuffered() {
+        return buffer.size();
+    }
+
+    public long getSpillBytes() {
+        return journal.bytes();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getQuarantined() {
+        return quarantined.sum();
+    }
+
+    /**
+     * Recovers and then flushes on a thread of its own, so slow flushes during a database outage
+     * never hold up the application's shared scheduler.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        recover();
+        if (flusher == null) {
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "study-event-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flushQuietly, flushInterval.toMillis(), flushInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Loads the aggregates written by earlier runs, then writes out whatever the journal holds past
+     * the database checkpoint. Nothing is flushed before this succeeds, since the replayed events
+     * would otherwise be mixed up with events counted by this process.
+     */
+    public synchronized void recover() {
+        try {
+            if (wordIds == null) {
+                reloadWordIds();
+            }
+            if (!seeded) {
+                jdbcTemplate.query("SELECT word_id, event_type, event_count FROM study_word_stat",
+                        (RowCallbackHandler) rs -> add(wordCounts, rs.getLong(1), rs.getString(2), rs.getLong(3)));
+                seeded = true;
+            }
+            flushedSequence = jdbcTemplate.query("SELECT flushed_seq FROM study_event_checkpoint WHERE journal_id = ?",
+                    rs -> rs.next() ? rs.getLong(1) : 0L, journal.id());
+            replayJournal(true);
+            recovered = true;
+            log.info("Study events ready for {} words", wordCounts.size());
+        } catch (DataAccessException | UncheckedIOException e) {
+            log.warn("Study event recovery failed; retrying on the next flush", e);
+        }
+    }
+
+    @EventListener(ContentImportedEvent.class)
+    public void reloadWordIds() {
+        RoaringBitmap loaded = new RoaringBitmap();
+        jdbcTemplate.query("SELECT id FROM word", (RowCallbackHandler) rs -> loaded.add((int) rs.getLong(1)));
+        synchronized (wordIdsLock) {
+            wordIds = loaded;
+        }
+    }
+
+    /**
+     * Keeps the accepted word ids in step with edits; a deleted word's counts go with it, as its
+     * rows do through the foreign key.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (!(event.entity() instanceof Word word) || word.getId() == null || event.type() == ChangeType.UPDATED) {
+            return;
+        }
+        synchronized (wordIdsLock) {
+            RoaringBitmap current = wordIds;
+            if (current != null) {
+                RoaringBitmap updated = current.copy();
+                if (event.type() == ChangeType.CREATED) {
+                    updated.add(word.getId().intValue());
+                } else {
+                    updated.remove(word.getId().intValue());
+                }
+                wordIds = updated;
+            }
+        }
+        if (event.type() == ChangeType.DELETED) {
+            wordCounts.remove(word.getId());
+        }
+    }
+
+    public synchronized void flush() {
+        if (!recovered) {
+            recover();
+            if (!recovered) {
+                return;
+            }
+        }
+        List<StudyEvent> drained = drain();
+        long first = -1;
+        if (!drained.isEmpty()) {
+            try {
+                first = journal.append(drained);
+            } catch (IOException e) {
+                log.error("Could not spill {} study events; writing them without a journal", drained.size(), e);
+            }
+        }
+        try {
+            if (flushedSequence < (first == -1 ? journal.lastSequence() : first - 1)) {
+                replayJournal(false);
+            } else if (first != -1) {
+                writeChunks(drained, first);
+            }
+            if (first == -1) {
+                writeChunks(drained, -1);
+            }
+        } catch (DataAccessException | UncheckedIOException e) {
+            log.warn("Study events stay spilled until the database is back ({} bytes on disk)", journal.bytes(), e);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Study event flush failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        ScheduledExecutorService stopping;
+        synchronized (this) {
+            stopping = flusher;
+            flusher = null;
+        }
+        if (stopping != null) {
+            stopping.shutdown();
+            try {
+                stopping.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            if (recovered) {
+                flush();
+            } else {
+                List<StudyEvent> drained = drain();
+                if (!drained.isEmpty()) {
+                    journal.append(drained);
+                }
+            }
+            journal.close();
+            quarantine.close();
+        }
+    }
+
+    private List<StudyEvent> drain() {
+        List<StudyEvent> drained = new ArrayList<>();
+        if (journal.bytes() < maxSpillBytes) {
+            buffer.drainTo(drained::add, buffer.capacity());
+        }
+        return drained;
+    }
+
+    /**
+     * Writes events that were just drained, without reading them back from the journal. Events
+     * that could not be journaled ({@code firstSequence} of -1) leave the checkpoint where it is.
+     */
+    private void writeChunks(List<StudyEvent> events, long firstSequence) {
+        for (int from = 0; from < events.size(); from += batchSize) {
+            List<StudyEvent> chunk = events.subList(from, Math.min(from + batchSize, events.size()));
+            writeOrQuarantine(chunk, firstSequence == -1 ? -1 : firstSequence + from, false);
+        }
+    }
+
+    private void replayJournal(boolean countInMemory) {
+        List<StudyEvent> chunk = new ArrayList<>(batchSize);
+        long[] first = {-1};
+        try {
+            journal.replay(flushedSequence, entry -> {
+                if (chunk.isEmpty()) {
+                    first[0] = entry.sequence();
+                }
+                chunk.add(entry.event());
+                if (chunk.size() >= batchSize) {
+                    writeOrQuarantine(chunk, first[0], countInMemory);
+                    chunk.clear();
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!chunk.isEmpty()) {
+            writeOrQuarantine(chunk, first[0], countInMemory);
+        }
+    }
+
+    /**
+     * Writes journal entries {@code firstSequence} onwards, or events that never made it into the
+     * journal when {@code firstSequence} is -1. If the batch fails while the database answers the
+     * probe, the failure is in the data: the events are retried one by one and those the database
+     * still rejects are quarantined, so one bad event cannot pin the checkpoint and fill the spill.
+     */
+    private void writeOrQuarantine(List<StudyEvent> events, long firstSequence, boolean countInMemory) {
+        try {
+            write(events, firstSequence == -1 ? flushedSequence : firstSequence + events.size() - 1, countInMemory);
+            return;
+        } catch (DataAccessException e) {
+            if (e instanceof TransientDataAccessException || !databaseReachable()) {
+                throw e;
+            }
+            log.warn("Database rejected {} study events; retrying them one by one", events.size(), e);
+        }
+        for (int i = 0; i < events.size(); i++) {
+            StudyEvent event = events.get(i);
+            long sequence = firstSequence == -1 ? flushedSequence : firstSequence + i;
+            try {
+                write(List.of(event), sequence, countInMemory);
+            } catch (DataAccessException e) {
+                if (e instanceof TransientDataAccessException || !databaseReachable()) {
+                    throw e;
+                }
+                quarantine(event, sequence, countInMemory, e);
+            }
+        }
+    }
+
+    private boolean databaseReachable() {
+        try {
+            jdbcTemplate.queryForObject(PROBE, Long.class);
+            return true;
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+
+    private void quarantine(StudyEvent event, long sequence, boolean countInMemory, DataAccessException cause) {
+        try {
+            quarantine.append(List.of(event));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        jdbcTemplate.update(UPSERT_CHECKPOINT, journal.id(), sequence);
+        flushedSequence = sequence;
+        try {
+            journal.checkpoint(sequence);
+        } catch (IOException e) {
+            log.warn("Could not delete flushed study event segments", e);
+        }
+        if (!countInMemory) {
+            // record() counts an event only after queueing it, so the flusher can get here first.
+            wordCounts.computeIfAbsent(event.wordId(), k -> new AtomicLongArray(TYPES)).decrementAndGet(event.type().ordinal());
+            addPending(List.of(event), -1);
+        }
+        quarantined.increment();
+        log.error("Quarantined study event {} that the database rejected on its own", event, cause);
+    }
+
+    private void write(List<StudyEvent> events, long throughSequence, boolean countInMemory) {
+        Map<Long, long[]> wordDeltas = new HashMap<>();
+        Map<String, long[]> learnerDeltas = new HashMap<>();
+        List<Object[]> rows = new ArrayList<>(events.size());
+        for (StudyEvent event : events) {
+            rows.add(new Object[]{event.learnerId(), event.type().name(), event.wordId(),
+                    event.sentenceId() == 0 ? null : event.sentenceId(), new Timestamp(event.occurredAtMillis())});
+            wordDeltas.computeIfAbsent(event.wordId(), k -> new long[TYPES])[event.type().ordinal()]++;
+            learnerDeltas.computeIfAbsent(event.learnerId(), k -> new long[TYPES])[event.type().ordinal()]++;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_EVENT, rows);
+            jdbcTemplate.batchUpdate(UPSERT_WORD_STAT, deltaRows(wordDeltas));
+            jdbcTemplate.batchUpdate(UPSERT_LEARNER_STAT, deltaRows(learnerDeltas));
+            jdbcTemplate.update(UPSERT_CHECKPOINT, journal.id(), throughSequence);
+        });
+        flushedSequence = throughSequence;
+        learnerTotals.invalidateAll(learnerDeltas.keySet());
+        if (countInMemory) {
+            events.forEach(this::count);
+        } else {
+            addPending(events, -1);
+        }
+        try {
+            journal.checkpoint(throughSequence);
+        } catch (IOException e) {
+            log.warn("Could not delete flushed study event segments", e);
+        }
+    }
+
+    private static <K> List<Object[]> deltaRows(Map<K, long[]> deltas) {
+        List<Object[]> rows = new ArrayList<>();
+        deltas.forEach((key, counts) -> {
+            for (StudyEventType type : StudyEventType.values()) {
+                if (counts[type.ordinal()] > 0) {
+                    rows.add(new Object[]{key, type.name(), counts[type.ordinal()]});
+                }
+            }
+        });
+        return rows;
+    }
+
+    private void count(StudyEvent event) {
+        wordCounts.computeIfAbsent(event.wordId(), k -> new AtomicLongArray(TYPES)).incrementAndGet(event.type().ordinal());
+    }
+
+    /**
+     * Adds {@code sign} times the events to the per-learner counts that are not in the database
+     * yet, dropping learners that reach zero so the map only holds learners with unflushed events.
+     */
+    private void addPending(List<StudyEvent> events, int sign) {
+        Map<String, long[]> deltas = new HashMap<>();
+        for (StudyEvent event : events) {
+            deltas.computeIfAbsent(event.learnerId(), k -> new long[TYPES])[event.type().ordinal()] += sign;
+        }
+        deltas.forEach((learnerId, delta) -> learnerPending.compute(learnerId, (k, pending) -> {
+            AtomicLongArray counts = pending == null ? new AtomicLongArray(TYPES) : pending;
+            boolean empty = true;
+            for (int i = 0; i < TYPES; i++) {
+                empty &= counts.addAndGet(i, delta[i]) == 0;
+            }
+            return empty ? null : counts;
+        }));
+    }
+
+    private long[] loadLearnerTotals(String learnerId) {
+        long[] totals = new long[TYPES];
+        jdbcTemplate.query("SELECT event_type, event_count FROM study_learner_stat WHERE learner_id = ?",
+                (RowCallbackHandler) rs -> totals[StudyEventType.valueOf(rs.getString(1)).ordinal()] = rs.getLong(2), learnerId);
+        return totals;
+    }
+
+    private static <K> void add(Map<K, AtomicLongArray> counts, K key, String type, long count) {
+        counts.computeIfAbsent(key, k -> new AtomicLongArray(TYPES)).addAndGet(StudyEventType.valueOf(type).ordinal(), count);
+    }
+
+    private static StudyStatsDto stats(AtomicLongArray counts) {
+        if (counts == null) {
+            return new StudyStatsDto(0, 0, 0, 0);
+        }
+        return new StudyStatsDto(counts.get(StudyEventType.WORD_VIEWED.ordinal()),
+                counts.get(StudyEventType.SENTENCE_PRACTICED.ordinal()),
+                counts.get(StudyEventType.ANSWER_CORRECT.ordinal()),
+                counts.get(StudyEventType.ANSWER_WRONG.ordinal()));
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.config.ImportProperties;
+import com.example.englishlearningbackend.config.SubtitleProperties;
+import com.example.englishlearningbackend.dto.ContentType;
+import com.example.englishlearningbackend.dto.SubtitleIngestResultDto;
+import com.example.englishlearningbackend.dto.VideoCueDto;
+import com.example.englishlearningbackend.dto.VideoMomentDto;
+import com.example.englishlearningbackend.index.AhoCorasick;
+import com.example.englishlearningbackend.index.CueIndex;
+import com.example.englishlearningbackend.repository.VideoCueRepository;
+import com.example.englishlearningbackend.repository.VideoCueWordRepository;
+import com.example.englishlearningbackend.repository.VideoRepository;
+import com.example.englishlearningbackend.repository.WordRepository;
+import com.example.englishlearningbackend.util.SubtitleReader;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Stores SRT/WebVTT subtitles cue by cue, linking each cue to the dictionary words it contains,
+ * and answers "what is on screen at t" from a per-video {@link CueIndex} kept in memory.
+ */
+@Slf4j
+@Service
+public class SubtitleService {
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private static final String UPSERT_VIDEO = "INSERT INTO video (youtube_id, title) VALUES (?, ?) " +
+            "ON DUPLICATE KEY UPDATE title = COALESCE(VALUES(title), title)";
+    private static final String DELETE_CUE_WORDS = "DELETE FROM video_cue_word WHERE video_id = ?";
+    private static final String COUNT_CUE_WORDS = "SELECT word_id, COUNT(*) FROM video_cue_word WHERE video_id = ? GROUP BY word_id";
+    private static final String DELETE_CUES = "DELETE FROM video_cue WHERE video_id = ?";
+    private static final String INSERT_CUE = "INSERT INTO video_cue (video_id, position, start_ms, end_ms, text) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERT_CUE_WORD = "INSERT INTO video_cue_word (video_id, cue_position, word_id) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final VocabularyTagger vocabularyTagger;
+    private final VideoRepository videoRepository;
+    private final VideoCueRepository videoCueRepository;
+    private final VideoCueWordRepository videoCueWordRepository;
+    private final WordRepository wordRepository;
+    private final KnownWordService knownWordService;
+    private final WordFrequencyService wordFrequencyService;
+    private final Cache<String, CueIndex> cueIndexes;
+    private final int batchSize;
+
+    public SubtitleService(JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           VocabularyTagger vocabularyTagger,
+                           VideoRepository videoRepository,
+                           VideoCueRepository videoCueRepository,
+                           VideoCueWordRepository videoCueWordRepository,
+                           WordRepository wordRepository,
+                           KnownWordService knownWordService,
+                           WordFrequencyService wordFrequencyService,
+                           ImportProperties importProperties,
+                           SubtitleProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.vocabularyTagger = vocabularyTagger;
+        this.videoRepository = videoRepository;
+        this.videoCueRepository = videoCueRepository;
+        this.videoCueWordRepository = videoCueWordRepository;
+        this.wordRepository = wordRepository;
+        this.knownWordService = knownWordService;
+        this.wordFrequencyService = wordFrequencyService;
+        this.batchSize = importProperties.batchSize();
+        this.cueIndexes = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Replaces the subtitles of a video. The file is read and tagged before a connection is taken,
+     * and a file without a single cue is rejected rather than wiping the current track. The cues
+     * are then written in one transaction so readers never see a half-loaded track. Only what a
+     * replacement track adds to the old one is counted towards word frequency.
+     */
+    public SubtitleIngestResultDto ingest(String youtubeId, String title, BufferedReader subtitles) {
+        if (youtubeId == null || youtubeId.isBlank()) {
+            throw new IllegalArgumentException("A video id is required");
+        }
+        long started = System.nanoTime();
+        VocabularyTagger.Automata current = vocabularyTagger.current();
+        List<SubtitleReader.Cue> cues = new ArrayList<>();
+        List<long[]> cueWords = new ArrayList<>();
+        new SubtitleReader(subtitles).forEachRemaining(cue -> {
+            cues.add(cue);
+            cueWords.add(current.findAll(cue.text()).stream().mapToLong(AhoCorasick.Match::id).distinct().toArray());
+        });
+        if (cues.isEmpty()) {
+            throw new IllegalArgumentException("The subtitle file has no cues");
+        }
+        List<Long> occurrences = new ArrayList<>();
+        Set<Long> wordIds = new HashSet<>();
+        for (long[] words : cueWords) {
+            for (long wordId : words) {
+                occurrences.add(wordId);
+                wordIds.add(wordId);
+            }
+        }
+
+        long[] counts = new long[2];
+        Map<Long, Long> replaced = new HashMap<>();
+        long savedVideoId = Objects.requireNonNull(transactionTemplate.execute(status -> {
+            jdbcTemplate.update(UPSERT_VIDEO, youtubeId, title == null || title.isBlank() ? null : title.trim());
+            long videoId = videoRepository.findIdByYoutubeId(youtubeId).orElseThrow();
+            jdbcTemplate.query(COUNT_CUE_WORDS, (RowCallbackHandler) rs -> replaced.put(rs.getLong(1), rs.getLong(2)), videoId);
+            jdbcTemplate.update(DELETE_CUE_WORDS, videoId);
+            jdbcTemplate.update(DELETE_CUES, videoId);
+
+            List<Object[]> cueArgs = new ArrayList<>(batchSize);
+            List<Object[]> wordArgs = new ArrayList<>(batchSize);
+            for (int position = 0; position < cues.size(); position++) {
+                SubtitleReader.Cue cue = cues.get(position);
+                cueArgs.add(new Object[]{videoId, position, cue.startMillis(), cue.endMillis(), cue.text()});
+                for (long wordId : cueWords.get(position)) {
+                    wordArgs.add(new Object[]{videoId, position, wordId});
+                }
+                if (cueArgs.size() >= batchSize) {
+                    flush(cueArgs, wordArgs, counts);
+                }
+            }
+            flush(cueArgs, wordArgs, counts);
+            knownWordService.saveContentWords(ContentType.VIDEO, videoId, wordIds);
+            return videoId;
+        }));
+        cueIndexes.invalidate(youtubeId);
+        knownWordService.invalidateContent(ContentType.VIDEO, savedVideoId);
+        wordFrequencyService.record(newOccurrences(occurrences, replaced));
+        SubtitleIngestResultDto result = new SubtitleIngestResultDto(youtubeId, counts[0], counts[1],
+                (System.nanoTime() - started) / 1_000_000);
+        log.info("Subtitle ingest finished: {}", result);
+        return result;
+    }
+
+    private void flush(List<Object[]> cueArgs, List<Object[]> wordArgs, long[] counts) {
+        jdbcTemplate.batchUpdate(INSERT_CUE, cueArgs);
+        jdbcTemplate.batchUpdate(INSERT_CUE_WORD, wordArgs);
+        counts[0] += cueArgs.size();
+        counts[1] += wordArgs.size();
+        cueArgs.clear();
+        wordArgs.clear();
+    }
+
+    /**
+     * The occurrences of a new track beyond those of the track it replaced, per word, since the
+     * frequency counts already hold the replaced track and cannot be decremented.
+     */
+    private static List<Long> newOccurrences(List<Long> occurrences, Map<Long, Long> replaced) {
+        if (replaced.isEmpty()) {
+            return occurrences;
+        }
+        List<Long> added = new ArrayList<>();
+        for (Long wordId : occurrences) {
+            if (replaced.merge(wordId, -1L, Long::sum) < 0) {
+                added.add(wordId);
+            }
+        }
+        return added;
+    }
+
+    /**
+     * Cues on screen at {@code millis}, or empty when the video is unknown. Unknown videos are not
+     * cached so a later upload is picked up immediately.
+     */
+    public Optional<List<VideoCueDto>> activeCues(String youtubeId, long millis) {
+        CueIndex index = cueIndexes.get(youtubeId, this::loadIndex);
+        return index == null ? Optional.empty() : Optional.of(index.activeAt(millis));
+    }
+
+    private CueIndex loadIndex(String youtubeId) {
+        return videoRepository.findIdByYoutubeId(youtubeId)
+                .map(videoId -> new CueIndex(videoCueRepository.findCuesByVideoId(videoId)))
+                .orElse(null);
+    }
+
+    /**
+     * Subtitle lines across all videos that contain {@code word}, or empty when the word is unknown.
+     */
+    @Transactional(readOnly = true)
+    public Optional<List<VideoMomentDto>> moments(String word, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        return wordRepository.findSummaryByWord(Objects.requireNonNullElse(word, "").trim())
+                .map(summary -> videoCueWordRepository.findMoments(summary.id(), PageRequest.ofSize(size)));
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.config.SyncProperties;
+import com.example.englishlearningbackend.dto.MeaningChangeDto;
+import com.example.englishlearningbackend.dto.SentenceChangeDto;
+import com.example.englishlearningbackend.dto.SyncResponseDto;
+import com.example.englishlearningbackend.dto.TombstoneDto;
+import com.example.englishlearningbackend.dto.WordChangeDto;
+import com.example.englishlearningbackend.limiter.DatabaseLimited;
+import com.example.englishlearningbackend.repository.MeaningRepository;
+import com.example.englishlearningbackend.repository.SentenceRepository;
+import com.example.englishlearningbackend.repository.SyncTombstoneRepository;
+import com.example.englishlearningbackend.repository.WordRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Delta sync over the (updated_at, id) indexes. Each table is paged independently with its own
+ * keyset cursor; the opaque token carries all of them. Rows younger than the safety lag are held
+ * back so a transaction that commits late with an earlier timestamp is not skipped.
+ */
+@Service
+public class SyncService {
+    public static final int DEFAULT_LIMIT = 500;
+    public static final int MAX_LIMIT = 5000;
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final WordRepository wordRepository;
+    private final MeaningRepository meaningRepository;
+    private final SentenceRepository sentenceRepository;
+    private final SyncTombstoneRepository syncTombstoneRepository;
+    private final SyncProperties properties;
+
+    public SyncService(WordRepository wordRepository,
+                       MeaningRepository meaningRepository,
+                       SentenceRepository sentenceRepository,
+                       SyncTombstoneRepository syncTombstoneRepository,
+                       SyncProperties properties) {
+        this.wordRepository = wordRepository;
+        this.meaningRepository = meaningRepository;
+        this.sentenceRepository = sentenceRepository;
+        this.syncTombstoneRepository = syncTombstoneRepository;
+        this.properties = properties;
+    }
+
+    /**
+     * Returns the changes after {@code since}, or empty when the token predates the tombstone
+     * retention window and the client has to start over with a full sync.
+     *
+     * <p>Deliberately not read-only, so it runs on the primary: the cursor moves past the last row
+     * returned, and a replica behind by more than {@code safety-lag} would let it skip rows that
+     * committed late and have not replayed yet.
+     */
+    @DatabaseLimited
+    @Transactional
+    public Optional<SyncResponseDto> changesSince(String since, int limit) {
+        LocalDateTime now = wordRepository.findDatabaseTime();
+        Token token = since == null || since.isBlank() ? Token.initial(now) : Token.decode(since);
+        if (token.issuedAt().isBefore(now.minus(properties.tombstoneRetention())) && !token.isInitial()) {
+            return Optional.empty();
+        }
+        LocalDateTime until = now.minus(properties.safetyLag());
+        Pageable page = PageRequest.ofSize(Math.max(1, Math.min(limit, MAX_LIMIT)));
+
+        List<WordChangeDto> words = wordRepository.findChanges(token.wordAt(), token.wordId(), until, page);
+        List<MeaningChangeDto> meanings = meaningRepository.findChanges(token.meaningAt(), token.meaningId(), until, page);
+        List<SentenceChangeDto> sentences = sentenceRepository.findChanges(token.sentenceAt(), token.sentenceId(), until, page);
+        List<TombstoneDto> tombstones = syncTombstoneRepository.findChanges(token.tombstoneId(), until, page);
+
+        Token next = new Token(now,
+                words.isEmpty() ? token.wordAt() : words.get(words.size() - 1).updatedAt(),
+                words.isEmpty() ? token.wordId() : words.get(words.size() - 1).id(),
+                meanings.isEmpty() ? token.meaningAt() : meanings.get(meanings.size() - 1).updatedAt(),
+                meanings.isEmpty() ? token.meaningId() : meanings.get(meanings.size() - 1).id(),
+                sentences.isEmpty() ? token.sentenceAt() : sentences.get(sentences.size() - 1).updatedAt(),
+                sentences.isEmpty() ? token.sentenceId() : sentences.get(sentences.size() - 1).id(),
+                tombstones.isEmpty() ? token.tombstoneId() : tombstones.get(tombstones.size() - 1).id());
+        boolean hasMore = words.size() == page.getPageSize() || meanings.size() == page.getPageSize()
+                || sentences.size() == page.getPageSize() || tombstones.size() == page.getPageSize();
+        return Optional.of(new SyncResponseDto(words, meanings, sentences, tombstones, next.encode(), hasMore));
+    }
+
+    @Scheduled(cron = "${sync.tombstone-purge-cron:0 30 3 * * *}")
+    @Transactional
+    public void purgeTombstones() {
+        syncTombstoneRepository.deleteOlderThan(wordRepository.findDatabaseTime().minus(properties.tombstoneRetention()));
+    }
+
+    private record Token(LocalDateTime issuedAt,
+                         LocalDateTime wordAt, long wordId,
+                         LocalDateTime meaningAt, long meaningId,
+                         LocalDateTime sentenceAt, long sentenceId,
+                         long tombstoneId) {
+        private static final String VERSION = "v1";
+
+        static Token initial(LocalDateTime now) {
+            return new Token(now, EPOCH, 0, EPOCH, 0, EPOCH, 0, 0);
+        }
+
+        boolean isInitial() {
+            return wordAt.equals(EPOCH) && meaningAt.equals(EPOCH) && sentenceAt.equals(EPOCH) && tombstoneId == 0;
+        }
+
+        String encode() {
+            String raw = String.join("|", VERSION, issuedAt.toString(), wordAt.toString(), Long.toString(wordId),
+                    meaningAt.toString(), Long.toString(meaningId), sentenceAt.toString(), Long.toString(sentenceId),
+                    Long.toString(tombstoneId));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Token decode(String token) {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 9 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException("Unsupported sync token");
+            }
+            try {
+                return new Token(LocalDateTime.parse(parts[1]),
+                        LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]),
+                        LocalDateTime.parse(parts[4]), Long.parseLong(parts[5]),
+                        LocalDateTime.parse(parts[6]), Long.parseLong(parts[7]),
+                        Long.parseLong(parts[8]));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Malformed sync token", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.config.VocabularyTaggerProperties;
+import com.example.englishlearningbackend.dto.WordSummaryDto;
+import com.example.englishlearningbackend.entity.Word;
+import com.example.englishlearningbackend.event.ContentChangedEvent;
+import com.example.englishlearningbackend.event.ContentImportedEvent;
+import com.example.englishlearningbackend.index.AhoCorasick;
+import com.example.englishlearningbackend.index.PhrasalVerbMatcher;
+import com.example.englishlearningbackend.repository.WordRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Holds the automata used to tag free text: Aho-Corasick over every dictionary entry as written,
+ * plus a {@link PhrasalVerbMatcher} that also finds inflected and separated phrasal verbs. Both are
+ * rebuilt at startup and after imports, and refreshed on a schedule after single-word edits.
+ */
+@Slf4j
+@Component
+public class VocabularyTagger {
+    private final WordRepository wordRepository;
+    private final int phrasalVerbMaxGap;
+    private volatile Automata automata;
+    private volatile boolean stale;
+
+    /**
+     * One consistent generation of both automata; callers tagging many texts should take it once.
+     */
+    public record Automata(AhoCorasick words, PhrasalVerbMatcher phrasalVerbs) {
+
+        /**
+         * Matches of both automata ordered by start offset, longest first; a phrasal verb written in
+         * its base form is found by both and reported once.
+         */
+        public List<AhoCorasick.Match> findAll(CharSequence text) {
+            List<AhoCorasick.Match> matches = new ArrayList<>(words.findAll(text));
+            matches.addAll(phrasalVerbs.findAll(text));
+            return matches.stream()
+                    .sorted(Comparator.comparingInt(AhoCorasick.Match::start)
+                            .thenComparing(Comparator.comparingInt(AhoCorasick.Match::end).reversed())
+                            .thenComparingLong(AhoCorasick.Match::id))
+                    .distinct()
+                    .toList();
+        }
+    }
+
+    public VocabularyTagger(WordRepository wordRepository, VocabularyTaggerProperties properties) {
+        this.wordRepository = wordRepository;
+        this.phrasalVerbMaxGap = properties.phrasalVerbMaxGap();
+        this.automata = new Automata(AhoCorasick.builder().build(), PhrasalVerbMatcher.builder(phrasalVerbMaxGap).build());
+    }
+
+    public Automata current() {
+        return automata;
+    }
+
+    @EventListener({ApplicationReadyEvent.class, ContentImportedEvent.class})
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        stale = false;
+        long started = System.nanoTime();
+        AhoCorasick.Builder builder = AhoCorasick.builder();
+        PhrasalVerbMatcher.Builder phrasalVerbs = PhrasalVerbMatcher.builder(phrasalVerbMaxGap);
+        try (Stream<WordSummaryDto> words = wordRepository.streamSummariesAfter(0)) {
+            words.forEach(w -> {
+                builder.add(w.id(), w.word());
+                if (w.phrasalVerb()) {
+                    phrasalVerbs.add(w.id(), w.word());
+                }
+            });
+        }
+        automata = new Automata(builder.build(), phrasalVerbs.build());
+        log.info("Built vocabulary tagger over {} words and {} phrasal verbs in {} ms", automata.words().size(),
+                automata.phrasalVerbs().size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (event.entity() instanceof Word) {
+            stale = true;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${vocabulary.tagger.refresh-interval:1m}")
+    @Transactional(readOnly = true)
+    public void refreshIfStale() {
+        if (stale) {
+            rebuild();
+        }
+    }
+}
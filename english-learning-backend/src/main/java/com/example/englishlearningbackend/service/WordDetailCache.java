@@ -0,0 +1,168 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.config.WordCacheProperties;
+import com.example.englishlearningbackend.dto.WordDetailDto;
+import com.example.englishlearningbackend.entity.Meaning;
+import com.example.englishlearningbackend.entity.Sentence;
+import com.example.englishlearningbackend.entity.Word;
+import com.example.englishlearningbackend.event.ContentChangedEvent;
+import com.example.englishlearningbackend.event.ContentImportedEvent;
+import com.example.englishlearningbackend.util.WordNormalizer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+@Component
+public class WordDetailCache {
+    private final Cache<String, Optional<WordDetailDto>> cache;
+    private final Map<Long, String> keysById = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> spellingsByKey = new ConcurrentHashMap<>();
+
+    public WordDetailCache(WordCacheProperties properties) {
+        long ttlNanos = properties.ttl().toNanos();
+        long negativeTtlNanos = properties.negativeTtl().toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfter(new Expiry<String, Optional<WordDetailDto>>() {
+                    @Override
+                    public long expireAfterCreate(String key, Optional<WordDetailDto> value, long currentTime) {
+                        return value.isPresent() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Optional<WordDetailDto> value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Optional<WordDetailDto> value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .evictionListener((String key, Optional<WordDetailDto> value, RemovalCause cause) -> {
+                    value.ifPresent(d -> keysById.remove(d.id(), key));
+                    if (value.isEmpty()) {
+                        forgetSpelling(key);
+                    }
+                })
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Entries are keyed by the normalized word, but the loader gets the word as requested, since the
+     * lookup behind it is only as case-insensitive as the column collation. A cached miss therefore
+     * only answers the spelling it was loaded for; another spelling is looked up once and its own
+     * miss cached under that spelling, which no normalized key can equal.
+     */
+    public Optional<WordDetailDto> get(String word, Function<String, Optional<WordDetailDto>> loader) {
+        String key = WordNormalizer.normalize(word);
+        boolean[] loaded = {false};
+        Optional<WordDetailDto> detail = cache.get(key, k -> {
+            loaded[0] = true;
+            return track(k, loader.apply(word));
+        });
+        if (detail.isPresent() || key.equals(word)) {
+            return detail;
+        }
+        if (!loaded[0]) {
+            Optional<WordDetailDto> cachedMiss = cache.getIfPresent(word);
+            if (cachedMiss != null) {
+                return cachedMiss;
+            }
+            detail = loader.apply(word);
+            if (detail.isPresent()) {
+                put(detail.get());
+                return detail;
+            }
+        }
+        spellingsByKey.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(word);
+        cache.put(word, detail);
+        return detail;
+    }
+
+    public void put(WordDetailDto detail) {
+        String key = WordNormalizer.normalize(detail.word());
+        cache.asMap().compute(key, (k, v) -> track(k, Optional.of(detail)));
+    }
+
+    private Optional<WordDetailDto> track(String key, Optional<WordDetailDto> detail) {
+        detail.ifPresent(d -> keysById.put(d.id(), key));
+        return detail;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        Word word = null;
+        if (event.entity() instanceof Word w) {
+            word = w;
+        } else if (event.entity() instanceof Meaning m) {
+            word = m.getWord();
+        } else if (event.entity() instanceof Sentence s) {
+            word = s.getWord();
+        }
+        if (word != null) {
+            invalidate(word.getWord());
+            invalidateById(word.getId());
+        }
+    }
+
+    public void invalidate(String word) {
+        if (word != null) {
+            remove(WordNormalizer.normalize(word));
+        }
+    }
+
+    public void invalidateById(Long wordId) {
+        if (wordId != null) {
+            String key = keysById.remove(wordId);
+            if (key != null) {
+                remove(key);
+            }
+        }
+    }
+
+    private void remove(String key) {
+        Optional<WordDetailDto> removed = cache.asMap().remove(key);
+        if (removed != null) {
+            removed.ifPresent(d -> keysById.remove(d.id(), key));
+        }
+        Set<String> spellings = spellingsByKey.remove(key);
+        if (spellings != null) {
+            spellings.forEach(cache.asMap()::remove);
+        }
+    }
+
+    private void forgetSpelling(String spelling) {
+        spellingsByKey.computeIfPresent(WordNormalizer.normalize(spelling), (k, spellings) -> {
+            spellings.remove(spelling);
+            return spellings.isEmpty() ? null : spellings;
+        });
+    }
+
+    @EventListener(ContentImportedEvent.class)
+    public void invalidateAll() {
+        cache.invalidateAll();
+        keysById.clear();
+        spellingsByKey.clear();
+    }
+
+    public Cache<String, Optional<WordDetailDto>> getNativeCache() {
+        return cache;
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
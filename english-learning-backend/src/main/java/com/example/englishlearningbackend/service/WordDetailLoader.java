@@ -0,0 +1,77 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.dto.MeaningDto;
+import com.example.englishlearningbackend.dto.SentenceDto;
+import com.example.englishlearningbackend.dto.WordDetailDto;
+import com.example.englishlearningbackend.dto.WordSummaryDto;
+import com.example.englishlearningbackend.limiter.DatabaseLimited;
+import com.example.englishlearningbackend.repository.MeaningRepository;
+import com.example.englishlearningbackend.repository.SentenceRepository;
+import com.example.englishlearningbackend.repository.WordRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Builds word details from one query per table instead of fetch-joining both collections, so the
+ * row count is words + meanings + sentences rather than meanings x sentences per word.
+ */
+@Component
+public class WordDetailLoader {
+    private final WordRepository wordRepository;
+    private final MeaningRepository meaningRepository;
+    private final SentenceRepository sentenceRepository;
+
+    public WordDetailLoader(WordRepository wordRepository,
+                            MeaningRepository meaningRepository,
+                            SentenceRepository sentenceRepository) {
+        this.wordRepository = wordRepository;
+        this.meaningRepository = meaningRepository;
+        this.sentenceRepository = sentenceRepository;
+    }
+
+    @DatabaseLimited
+    @Transactional(readOnly = true)
+    public Optional<WordDetailDto> load(String word) {
+        return wordRepository.findSummaryByWord(word)
+                .map(summary -> assemble(List.of(summary)).get(summary.id()));
+    }
+
+    @DatabaseLimited
+    @Transactional(readOnly = true)
+    public Map<Long, WordDetailDto> loadAll(Collection<Long> wordIds) {
+        if (wordIds.isEmpty()) {
+            return Map.of();
+        }
+        return assemble(wordRepository.findSummariesByIds(wordIds));
+    }
+
+    private Map<Long, WordDetailDto> assemble(List<WordSummaryDto> words) {
+        if (words.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = words.stream().map(WordSummaryDto::id).toList();
+        Map<Long, List<MeaningDto>> meanings = new HashMap<>();
+        meaningRepository.findRowsByWordIds(ids).forEach(m -> meanings
+                .computeIfAbsent(m.wordId(), k -> new ArrayList<>())
+                .add(new MeaningDto(m.id(), m.meaning())));
+        Map<Long, List<SentenceDto>> sentences = new HashMap<>();
+        sentenceRepository.findRowsByWordIds(ids).forEach(s -> sentences
+                .computeIfAbsent(s.wordId(), k -> new ArrayList<>())
+                .add(new SentenceDto(s.id(), s.sentence(), s.translatedSentence())));
+        Map<Long, WordDetailDto> details = new LinkedHashMap<>();
+        for (WordSummaryDto word : words) {
+            details.put(word.id(), new WordDetailDto(word.id(), word.word(), word.phrasalVerb(),
+                    List.copyOf(meanings.getOrDefault(word.id(), List.of())),
+                    List.copyOf(sentences.getOrDefault(word.id(), List.of()))));
+        }
+        return details;
+    }
+}
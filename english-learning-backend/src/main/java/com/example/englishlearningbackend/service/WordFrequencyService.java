@@ -0,0 +1,291 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.config.WordFrequencyProperties;
+import com.example.englishlearningbackend.dto.WordFrequencyDto;
+import com.example.englishlearningbackend.dto.WordPageDto;
+import com.example.englishlearningbackend.dto.WordSummaryDto;
+import com.example.englishlearningbackend.event.FrequencyRanksUpdatedEvent;
+import com.example.englishlearningbackend.index.CountMinSketch;
+import com.example.englishlearningbackend.index.SpaceSaving;
+import com.example.englishlearningbackend.limiter.DatabaseLimited;
+import com.example.englishlearningbackend.repository.WordRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Corpus frequency of every word, counted as news articles, subtitles and example sentences are
+ * ingested. Occurrences feed a {@link CountMinSketch} and a {@link SpaceSaving} top-k tracker, so
+ * memory stays fixed however long the stream runs. A periodic snapshot stores both in the database
+ * and recomputes {@code word_frequency.frequency_rank}: 1 is the most frequent word. Words with an
+ * estimate of zero are left unranked; since the sketch only overcounts, a word never seen can
+ * still pick up a small estimate from hash collisions (at most about {@code e * total / width}
+ * with high probability) and be ranked near the bottom.
+ */
+@Slf4j
+@Service
+public class WordFrequencyService {
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 1000;
+
+    private static final String SELECT_SKETCH = "SELECT sketch FROM word_frequency_sketch WHERE id = 1";
+    private static final String UPSERT_SKETCH = "INSERT INTO word_frequency_sketch (id, sketch, total) VALUES (1, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE sketch = VALUES(sketch), total = VALUES(total)";
+    private static final String UPSERT_RANK = "INSERT INTO word_frequency (word_id, frequency, frequency_rank) VALUES (?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE frequency = VALUES(frequency), frequency_rank = VALUES(frequency_rank)";
+    private static final String DELETE_RANK = "DELETE FROM word_frequency WHERE word_id = ?";
+    private static final String SELECT_RANKED_PAGE = "SELECT w.id, w.word, w.is_phrasal_verb, f.frequency_rank " +
+            "FROM word_frequency f JOIN word w ON w.id = f.word_id WHERE f.frequency_rank > ? ORDER BY f.frequency_rank LIMIT ?";
+    private static final String SELECT_UNRANKED_PAGE = "SELECT w.id, w.word, w.is_phrasal_verb " +
+            "FROM word w LEFT JOIN word_frequency f ON f.word_id = w.id WHERE f.word_id IS NULL AND w.id > ? ORDER BY w.id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final WordRepository wordRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WordFrequencyProperties properties;
+    private final Object snapshotLock = new Object();
+    private CountMinSketch sketch;
+    private SpaceSaving heavyHitters;
+    private boolean dirty;
+    private volatile Map<Long, Integer> ranks = Map.of();
+    private Map<Long, Long> rankedFrequencies = Map.of();
+
+    public WordFrequencyService(JdbcTemplate jdbcTemplate,
+                                TransactionTemplate transactionTemplate,
+                                WordRepository wordRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                WordFrequencyProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.wordRepository = wordRepository;
+        this.eventPublisher = eventPublisher;
+        this.properties = properties;
+        this.sketch = new CountMinSketch(properties.sketchWidth(), properties.sketchDepth());
+        this.heavyHitters = new SpaceSaving(properties.topK());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<byte[]> stored = jdbcTemplate.query(SELECT_SKETCH, (rs, n) -> rs.getBytes(1));
+        if (!stored.isEmpty()) {
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(stored.getFirst()))) {
+                CountMinSketch storedSketch = CountMinSketch.readFrom(in);
+                SpaceSaving storedHeavyHitters = SpaceSaving.readFrom(in);
+                if (storedSketch.width() != properties.sketchWidth() || storedSketch.depth() != properties.sketchDepth()) {
+                    log.warn("Discarding stored word frequency sketch of {}x{}; configured {}x{}", storedSketch.width(),
+                            storedSketch.depth(), properties.sketchWidth(), properties.sketchDepth());
+                } else {
+                    if (storedHeavyHitters.capacity() != properties.topK()) {
+                        log.warn("Resizing stored top {} words to the configured top {}", storedHeavyHitters.capacity(),
+                                properties.topK());
+                        storedHeavyHitters = storedHeavyHitters.resized(properties.topK());
+                    }
+                    synchronized (this) {
+                        sketch = storedSketch;
+                        heavyHitters = storedHeavyHitters;
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                log.warn("Discarding unreadable word frequency sketch", e);
+            }
+        }
+        Map<Long, Integer> loadedRanks = new HashMap<>();
+        Map<Long, Long> loadedFrequencies = new HashMap<>();
+        jdbcTemplate.query("SELECT word_id, frequency, frequency_rank FROM word_frequency", (RowCallbackHandler) rs -> {
+            loadedFrequencies.put(rs.getLong(1), rs.getLong(2));
+            loadedRanks.put(rs.getLong(1), rs.getInt(3));
+        });
+        synchronized (snapshotLock) {
+            rankedFrequencies = loadedFrequencies;
+            ranks = loadedRanks;
+        }
+        eventPublisher.publishEvent(new FrequencyRanksUpdatedEvent(loadedRanks.size()));
+    }
+
+    /**
+     * Counts one occurrence per element; repeat an id to count it more than once.
+     */
+    public void record(Collection<Long> wordIds) {
+        if (wordIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> counts = new HashMap<>();
+        wordIds.forEach(id -> counts.merge(id, 1L, Long::sum));
+        synchronized (this) {
+            counts.forEach((id, count) -> {
+                sketch.add(id, count);
+                heavyHitters.add(id, count);
+            });
+            dirty = true;
+        }
+    }
+
+    /**
+     * The rank of the word by corpus frequency, or {@link Integer#MAX_VALUE} when it is unranked.
+     */
+    public int rank(long wordId) {
+        return ranks.getOrDefault(wordId, Integer.MAX_VALUE);
+    }
+
+    /**
+     * The most frequent words tracked since the counts began, with the possible overcount of each.
+     */
+    @DatabaseLimited
+    @Transactional(readOnly = true)
+    public List<WordFrequencyDto> frequent(int limit) {
+        List<SpaceSaving.Counter> top;
+        synchronized (this) {
+            top = heavyHitters.top(Math.max(1, Math.min(limit, MAX_LIMIT)));
+        }
+        if (top.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, String> words = new HashMap<>();
+        wordRepository.findSummariesByIds(top.stream().map(SpaceSaving.Counter::item).toList())
+                .forEach(w -> words.put(w.id(), w.word()));
+        Map<Long, Integer> currentRanks = ranks;
+        return top.stream()
+                .filter(c -> words.containsKey(c.item()))
+                .map(c -> new WordFrequencyDto(c.item(), words.get(c.item()), c.count(), c.error(), currentRanks.get(c.item())))
+                .toList();
+    }
+
+    /**
+     * A page of words, most frequent first, followed by the unranked words in id order. {@code after}
+     * is the rank of the last word of the previous page, or minus its id once the pages have reached
+     * the unranked words. Words counted since the last snapshot move up after the next one.
+     */
+    @DatabaseLimited
+    @Transactional(readOnly = true)
+    public WordPageDto getWords(long after, int pageSize) {
+        List<WordSummaryDto> items = new ArrayList<>(pageSize);
+        if (after >= 0) {
+            long[] lastRank = {after};
+            jdbcTemplate.query(SELECT_RANKED_PAGE, (RowCallbackHandler) rs -> {
+                items.add(new WordSummaryDto(rs.getLong(1), rs.getString(2), rs.getBoolean(3)));
+                lastRank[0] = rs.getInt(4);
+            }, after, pageSize);
+            if (items.size() == pageSize) {
+                return new WordPageDto(items, lastRank[0]);
+            }
+        }
+        long[] lastId = {after < 0 ? -after : 0};
+        jdbcTemplate.query(SELECT_UNRANKED_PAGE, (RowCallbackHandler) rs -> {
+            items.add(new WordSummaryDto(rs.getLong(1), rs.getString(2), rs.getBoolean(3)));
+            lastId[0] = rs.getLong(1);
+        }, lastId[0], pageSize - items.size());
+        return new WordPageDto(items, items.size() < pageSize ? null : -lastId[0]);
+    }
+
+    @Scheduled(fixedDelayString = "${word-frequency.snapshot-interval:5m}",
+            initialDelayString = "${word-frequency.snapshot-interval:5m}")
+    @PreDestroy
+    public void snapshot() {
+        synchronized (snapshotLock) {
+            try {
+                List<Long> wordIds = jdbcTemplate.queryForList("SELECT id FROM word", Long.class);
+                byte[] bytes;
+                long total;
+                List<long[]> frequencies = new ArrayList<>();
+                synchronized (this) {
+                    if (!dirty) {
+                        return;
+                    }
+                    bytes = serialize();
+                    total = sketch.total();
+                    for (long wordId : wordIds) {
+                        long frequency = estimate(wordId);
+                        if (frequency > 0) {
+                            frequencies.add(new long[]{wordId, frequency});
+                        }
+                    }
+                    dirty = false;
+                }
+                try {
+                    store(bytes, total, frequencies);
+                } catch (RuntimeException e) {
+                    synchronized (this) {
+                        dirty = true;
+                    }
+                    throw e;
+                }
+            } catch (DataAccessException e) {
+                log.warn("Could not snapshot word frequencies", e);
+            }
+        }
+    }
+
+    private void store(byte[] bytes, long total, List<long[]> frequencies) {
+        frequencies.sort((a, b) -> a[1] != b[1] ? Long.compare(b[1], a[1]) : Long.compare(a[0], b[0]));
+        Map<Long, Integer> newRanks = new HashMap<>();
+        Map<Long, Long> newFrequencies = new HashMap<>();
+        List<Object[]> upserts = new ArrayList<>();
+        for (int i = 0; i < frequencies.size(); i++) {
+            long wordId = frequencies.get(i)[0];
+            long frequency = frequencies.get(i)[1];
+            int rank = i + 1;
+            newRanks.put(wordId, rank);
+            newFrequencies.put(wordId, frequency);
+            if (!Objects.equals(ranks.get(wordId), rank) || !Objects.equals(rankedFrequencies.get(wordId), frequency)) {
+                upserts.add(new Object[]{wordId, frequency, rank});
+            }
+        }
+        List<Object[]> deletes = ranks.keySet().stream()
+                .filter(id -> !newRanks.containsKey(id))
+                .map(id -> new Object[]{id})
+                .toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(UPSERT_SKETCH, bytes, total);
+            jdbcTemplate.batchUpdate(DELETE_RANK, deletes);
+            jdbcTemplate.batchUpdate(UPSERT_RANK, upserts);
+        });
+        rankedFrequencies = newFrequencies;
+        ranks = newRanks;
+        log.info("Ranked {} words by frequency over {} occurrences ({} rows changed)", newRanks.size(), total,
+                upserts.size() + deletes.size());
+        eventPublisher.publishEvent(new FrequencyRanksUpdatedEvent(newRanks.size()));
+    }
+
+    /**
+     * Both summaries only ever overcount, so the smaller of the two is the tighter estimate.
+     */
+    private long estimate(long wordId) {
+        long estimate = sketch.estimate(wordId);
+        long tracked = heavyHitters.count(wordId);
+        return tracked < 0 ? estimate : Math.min(estimate, tracked);
+    }
+
+    private byte[] serialize() {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(sketch.width() * sketch.depth() * 8 + 64);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            sketch.writeTo(out);
+            heavyHitters.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.dto.WordMatchDto;
+import com.example.englishlearningbackend.dto.WordSummaryDto;
+import com.example.englishlearningbackend.index.AhoCorasick;
+import com.example.englishlearningbackend.limiter.DatabaseLimited;
+import com.example.englishlearningbackend.repository.WordRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class WordMatchService {
+    public static final int MAX_TEXT_LENGTH = 20_000;
+
+    private final VocabularyTagger vocabularyTagger;
+    private final WordRepository wordRepository;
+
+    public WordMatchService(VocabularyTagger vocabularyTagger, WordRepository wordRepository) {
+        this.vocabularyTagger = vocabularyTagger;
+        this.wordRepository = wordRepository;
+    }
+
+    /**
+     * Every dictionary word and phrasal verb found in {@code text}, including inflected and
+     * separated phrasal verbs such as "swung by" or "drop it by", ordered by position.
+     */
+    @DatabaseLimited
+    @Transactional(readOnly = true)
+    public List<WordMatchDto> match(String text) {
+        if (text == null || text.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException("Text must be at most " + MAX_TEXT_LENGTH + " characters");
+        }
+        List<AhoCorasick.Match> matches = vocabularyTagger.current().findAll(text);
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, WordSummaryDto> words = wordRepository.findSummariesByIds(
+                        matches.stream().map(AhoCorasick.Match::id).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(WordSummaryDto::id, Function.identity()));
+        return matches.stream()
+                .filter(m -> words.containsKey(m.id()))
+                .map(m -> {
+                    WordSummaryDto word = words.get(m.id());
+                    return new WordMatchDto(word.id(), word.word(), word.phrasalVerb(), m.start(), m.end(),
+                            text.substring(m.start(), m.end()));
+                })
+                .toList();
+    }
+}
@@ -1,25 +1,75 @@
 package com.example.englishlearningbackend.service;
 
-import com.example.englishlearningbackend.entity.Word;
+import com.example.englishlearningbackend.dto.WordDetailDto;
+import com.example.englishlearningbackend.dto.WordPageDto;
+import com.example.englishlearningbackend.dto.WordSort;
+import com.example.englishlearningbackend.dto.WordSummaryDto;
+import com.example.englishlearningbackend.limiter.DatabaseLimited;
 import com.example.englishlearningbackend.repository.WordRepository;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 public class WordService {
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+
     private final WordRepository wordRepository;
+    private final WordDetailLoader wordDetailLoader;
+    private final WordDetailCache wordDetailCache;
+    private final WordSuggestService wordSuggestService;
+    private final WordFrequencyService wordFrequencyService;
 
-    public WordService(WordRepository wordRepository) {
+    public WordService(WordRepository wordRepository,
+                       WordDetailLoader wordDetailLoader,
+                       WordDetailCache wordDetailCache,
+                       WordSuggestService wordSuggestService,
+                       WordFrequencyService wordFrequencyService) {
         this.wordRepository = wordRepository;
+        this.wordDetailLoader = wordDetailLoader;
+        this.wordDetailCache = wordDetailCache;
+        this.wordSuggestService = wordSuggestService;
+        this.wordFrequencyService = wordFrequencyService;
+    }
+
+    @DatabaseLimited
+    @Transactional(readOnly = true)
+    public WordPageDto getWords(long after, int limit) {
+        return getWords(after, limit, WordSort.ID);
+    }
+
+    /**
+     * A page of words in id order, or by frequency rank where {@code after} is the cursor of
+     * {@link WordFrequencyService#getWords(long, int)} rather than an id.
+     */
+    @DatabaseLimited
+    @Transactional(readOnly = true)
+    public WordPageDto getWords(long after, int limit, WordSort sort) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        if (sort == WordSort.FREQUENCY) {
+            return wordFrequencyService.getWords(after, pageSize);
+        }
+        List<WordSummaryDto> items = wordRepository.findSummariesAfter(after, PageRequest.ofSize(pageSize));
+        Long nextCursor = items.size() < pageSize ? null : items.get(items.size() - 1).id();
+        return new WordPageDto(items, nextCursor);
     }
 
-    public List<Word> getAllWords() {
-        return wordRepository.findAll();
+    @Transactional(readOnly = true)
+    public void streamWords(long after, Consumer<WordSummaryDto> consumer) {
+        try (Stream<WordSummaryDto> words = wordRepository.streamSummariesAfter(after)) {
+            words.forEach(consumer);
+        }
     }
 
-    public Optional<Word> getWordWithDetails(String word) {
-        return Optional.ofNullable(wordRepository.findWordWithDetails(word));
+    public Optional<WordDetailDto> getWordWithDetails(String word) {
+        Optional<WordDetailDto> detail = wordDetailCache.get(word, wordDetailLoader::load);
+        detail.ifPresent(d -> wordSuggestService.recordHit(d.word()));
+        return detail;
     }
 }
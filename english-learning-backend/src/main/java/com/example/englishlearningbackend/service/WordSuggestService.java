@@ -0,0 +1,68 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.dto.WordSuggestionDto;
+import com.example.englishlearningbackend.dto.WordSummaryDto;
+import com.example.englishlearningbackend.entity.Word;
+import com.example.englishlearningbackend.event.ChangeType;
+import com.example.englishlearningbackend.event.ContentChangedEvent;
+import com.example.englishlearningbackend.event.ContentImportedEvent;
+import com.example.englishlearningbackend.event.FrequencyRanksUpdatedEvent;
+import com.example.englishlearningbackend.index.WordPrefixIndex;
+import com.example.englishlearningbackend.repository.WordRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class WordSuggestService {
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+
+    private final WordRepository wordRepository;
+    private final WordFrequencyService wordFrequencyService;
+    private final WordPrefixIndex index = new WordPrefixIndex();
+
+    public WordSuggestService(WordRepository wordRepository, WordFrequencyService wordFrequencyService) {
+        this.wordRepository = wordRepository;
+        this.wordFrequencyService = wordFrequencyService;
+    }
+
+    @EventListener(FrequencyRanksUpdatedEvent.class)
+    public void onFrequencyRanksUpdated() {
+        index.setFrequencyRanks(wordFrequencyService::rank);
+    }
+
+    @EventListener({ApplicationReadyEvent.class, ContentImportedEvent.class})
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        try (Stream<WordSummaryDto> words = wordRepository.streamSummariesAfter(0)) {
+            index.rebuild(words.toList());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContentChanged(ContentChangedEvent event) {
+        if (!(event.entity() instanceof Word word) || word.getId() == null) {
+            return;
+        }
+        if (event.type() != ChangeType.CREATED) {
+            index.removeById(word.getId());
+        }
+        if (event.type() != ChangeType.DELETED) {
+            index.add(word.getId(), word.getWord());
+        }
+    }
+
+    public List<WordSuggestionDto> suggest(String prefix, int limit) {
+        return index.suggest(prefix, Math.min(limit, MAX_LIMIT));
+    }
+
+    public void recordHit(String word) {
+        index.recordHit(word);
+    }
+}
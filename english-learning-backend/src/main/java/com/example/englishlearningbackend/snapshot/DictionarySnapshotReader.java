@@ -0,0 +1,113 @@
+package com.example.englishlearningbackend.snapshot;
+
+import com.example.englishlearningbackend.dto.MeaningDto;
+import com.example.englishlearningbackend.dto.SentenceDto;
+import com.example.englishlearningbackend.dto.WordDetailDto;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Memory-mapped reader for dictionary snapshots.
+ *
+ * <pre>
+ * header   : "ELDS" | u8 format version | i64 snapshot version | i64 word count | i64 string table offset
+ * words    : per word, ordered by id: varint id delta | varint word string | u8 phrasal verb
+ *            | varint meaning count, (varint id | varint string)*
+ *            | varint sentence count, (varint id | varint string | varint translation string + 1, 0 = none)*
+ * strings  : varint count, (varint UTF-8 length | bytes)*
+ * </pre>
+ */
+public class DictionarySnapshotReader {
+    static final byte[] MAGIC = {'E', 'L', 'D', 'S'};
+    static final byte FORMAT_VERSION = 1;
+    static final int COUNTS_OFFSET = MAGIC.length + 1 + Long.BYTES;
+    static final int HEADER_SIZE = COUNTS_OFFSET + 2 * Long.BYTES;
+
+    private final MappedByteBuffer buffer;
+    private final long version;
+    private final long wordCount;
+    private final long stringTableOffset;
+
+    private DictionarySnapshotReader(MappedByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        byte[] magic = new byte[MAGIC.length];
+        buffer.get(0, magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a dictionary snapshot");
+        }
+        if (buffer.get(MAGIC.length) != FORMAT_VERSION) {
+            throw new IOException("Unsupported dictionary snapshot format " + buffer.get(MAGIC.length));
+        }
+        this.version = buffer.getLong(MAGIC.length + 1);
+        this.wordCount = buffer.getLong(COUNTS_OFFSET);
+        this.stringTableOffset = buffer.getLong(COUNTS_OFFSET + Long.BYTES);
+    }
+
+    public static DictionarySnapshotReader open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return new DictionarySnapshotReader(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public long wordCount() {
+        return wordCount;
+    }
+
+    public void forEach(Consumer<WordDetailDto> consumer) {
+        ByteBuffer in = buffer.duplicate();
+        in.position((int) stringTableOffset);
+        String[] strings = new String[(int) readVarLong(in)];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = new byte[(int) readVarLong(in)];
+            in.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        in.position(HEADER_SIZE);
+        long id = 0;
+        for (long w = 0; w < wordCount; w++) {
+            id += readVarLong(in);
+            String word = strings[(int) readVarLong(in)];
+            boolean phrasalVerb = in.get() != 0;
+            int meaningCount = (int) readVarLong(in);
+            List<MeaningDto> meanings = new ArrayList<>(meaningCount);
+            for (int i = 0; i < meaningCount; i++) {
+                meanings.add(new MeaningDto(readVarLong(in), strings[(int) readVarLong(in)]));
+            }
+            int sentenceCount = (int) readVarLong(in);
+            List<SentenceDto> sentences = new ArrayList<>(sentenceCount);
+            for (int i = 0; i < sentenceCount; i++) {
+                long sentenceId = readVarLong(in);
+                String sentence = strings[(int) readVarLong(in)];
+                long translated = readVarLong(in);
+                sentences.add(new SentenceDto(sentenceId, sentence, translated == 0 ? null : strings[(int) translated - 1]));
+            }
+            consumer.accept(new WordDetailDto(id, word, phrasalVerb, List.copyOf(meanings), List.copyOf(sentences)));
+        }
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.englishlearningbackend.snapshot;
+
+import com.example.englishlearningbackend.dto.MeaningDto;
+import com.example.englishlearningbackend.dto.SentenceDto;
+import com.example.englishlearningbackend.dto.WordDetailDto;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the dictionary snapshot format described in {@link DictionarySnapshotReader}. Records are
+ * streamed as they arrive; the deduplicated string table is appended at the end and its offset is
+ * patched into the fixed-size header when the writer is closed.
+ */
+public class DictionarySnapshotWriter implements Closeable {
+    private final Path file;
+    private final OutputStream out;
+    private final Map<String, Integer> stringIds = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+    private long position;
+    private long wordCount;
+    private long previousId;
+
+    public DictionarySnapshotWriter(Path file, long version) throws IOException {
+        this.file = file;
+        this.out = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024);
+        ByteBuffer header = ByteBuffer.allocate(DictionarySnapshotReader.HEADER_SIZE);
+        header.put(DictionarySnapshotReader.MAGIC);
+        header.put(DictionarySnapshotReader.FORMAT_VERSION);
+        header.putLong(version);
+        write(header.array());
+    }
+
+    public long wordCount() {
+        return wordCount;
+    }
+
+    public void write(WordDetailDto word) throws IOException {
+        writeVarLong(word.id() - previousId);
+        previousId = word.id();
+        writeVarLong(intern(word.word()));
+        writeByte(word.phrasalVerb() ? 1 : 0);
+        writeVarLong(word.meanings().size());
+        for (MeaningDto meaning : word.meanings()) {
+            writeVarLong(meaning.id());
+            writeVarLong(intern(meaning.meaning()));
+        }
+        writeVarLong(word.sentences().size());
+        for (SentenceDto sentence : word.sentences()) {
+            writeVarLong(sentence.id());
+            writeVarLong(intern(sentence.sentence()));
+            writeVarLong(sentence.translatedSentence() == null ? 0 : intern(sentence.translatedSentence()) + 1L);
+        }
+        wordCount++;
+    }
+
+    @Override
+    public void close() throws IOException {
+        long stringTableOffset = position;
+        writeVarLong(strings.size());
+        for (String s : strings) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length);
+            write(bytes);
+        }
+        out.close();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer patch = ByteBuffer.allocate(16);
+            patch.putLong(wordCount).putLong(stringTableOffset).flip();
+            channel.write(patch, DictionarySnapshotReader.COUNTS_OFFSET);
+        }
+    }
+
+    private int intern(String s) {
+        return stringIds.computeIfAbsent(s, k -> {
+            strings.add(k);
+            return strings.size() - 1;
+        });
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        writeByte((int) value);
+    }
+
+    private void writeByte(int b) throws IOException {
+        out.write(b);
+        position++;
+    }
+
+    private void write(byte[] bytes) throws IOException {
+        out.write(bytes);
+        position += bytes.length;
+    }
+}
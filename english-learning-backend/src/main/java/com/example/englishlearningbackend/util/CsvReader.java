@@ -0,0 +1,86 @@
+package com.example.englishlearningbackend.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming RFC 4180 reader: quoted fields may contain separators, doubled quotes and line breaks.
+ */
+public class CsvReader implements Iterator<List<String>> {
+    private final BufferedReader reader;
+    private List<String> next;
+    private boolean done;
+
+    public CsvReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            next = readRow();
+        }
+        return next != null;
+    }
+
+    @Override
+    public List<String> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<String> row = next;
+        next = null;
+        return row;
+    }
+
+    private List<String> readRow() {
+        try {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean any = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                any = true;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int peek = reader.read();
+                        if (peek == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (peek != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            if (!any) {
+                done = true;
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.englishlearningbackend.util;
+
+import com.example.englishlearningbackend.dto.MeaningDto;
+import com.example.englishlearningbackend.dto.SentenceDto;
+import com.example.englishlearningbackend.dto.WordDetailDto;
+import com.example.englishlearningbackend.dto.WordPageDto;
+import com.example.englishlearningbackend.dto.WordSummaryDto;
+
+import java.util.Objects;
+
+/**
+ * Weak entity tags derived from response content. Strings cache their hash codes, so tagging a
+ * cached DTO costs a pass over its fields rather than a serialization or a database round trip.
+ * The tags are weak because one tag covers the JSON, CBOR and Smile encodings of the same content,
+ * gzipped or not; Tomcat also declines to compress a response that carries a strong tag.
+ */
+public final class ETags {
+    private static final long SEED = 0x6a09e667f3bcc908L;
+
+    private ETags() {
+    }
+
+    public static String of(WordDetailDto detail) {
+        long h = mix(SEED, detail.id());
+        h = mix(h, detail.word().hashCode());
+        h = mix(h, detail.phrasalVerb() ? 1 : 0);
+        h = mix(h, detail.meanings().size());
+        for (MeaningDto meaning : detail.meanings()) {
+            h = mix(h, meaning.id());
+            h = mix(h, meaning.meaning().hashCode());
+        }
+        h = mix(h, detail.sentences().size());
+        for (SentenceDto sentence : detail.sentences()) {
+            h = mix(h, sentence.id());
+            h = mix(h, sentence.sentence().hashCode());
+            h = mix(h, Objects.hashCode(sentence.translatedSentence()));
+        }
+        return format(h);
+    }
+
+    public static String of(WordPageDto page) {
+        long h = mix(SEED, page.items().size());
+        for (WordSummaryDto item : page.items()) {
+            h = mix(h, item.id());
+            h = mix(h, item.word().hashCode());
+            h = mix(h, item.phrasalVerb() ? 1 : 0);
+        }
+        h = mix(h, Objects.hashCode(page.nextCursor()));
+        return format(h);
+    }
+
+    private static long mix(long h, long value) {
+        h = (h ^ value) * 0x9e3779b97f4a7c15L;
+        return h ^ (h >>> 29);
+    }
+
+    private static String format(long h) {
+        return "W/\"" + Long.toHexString(h) + "\"";
+    }
+}
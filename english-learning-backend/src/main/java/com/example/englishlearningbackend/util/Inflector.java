@@ -0,0 +1,140 @@
+package com.example.englishlearningbackend.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Inflected forms of English verbs: an irregular past/participle table plus the regular spelling
+ * rules for -s, -ed and -ing (consonant doubling, silent e, consonant + y).
+ *
+ * <p>The doubling rule only recognises one-syllable verbs; longer verbs double their final
+ * consonant only when the last syllable is stressed, which spelling alone cannot tell, so those are
+ * listed in {@link #STRESS_FINAL}.
+ */
+public final class Inflector {
+    private static final Pattern DOUBLING = Pattern.compile("^(?:qu|[^aeiou])*[aeiou][^aeiouwxy]$");
+    private static final Pattern CONSONANT_Y = Pattern.compile(".*[^aeiou]y$");
+    private static final Pattern SIBILANT = Pattern.compile(".*(?:s|x|z|ch|sh|o)$");
+
+    private static final Set<String> STRESS_FINAL = Set.of(
+            "abet", "acquit", "admit", "allot", "annul", "commit", "compel", "concur", "confer", "control",
+            "defer", "deter", "embed", "emit", "equip", "excel", "expel", "extol", "impel", "incur", "infer",
+            "omit", "occur", "patrol", "permit", "prefer", "propel", "rebel", "recur", "refer", "regret",
+            "remit", "repel", "submit", "transfer", "transmit", "unplug");
+
+    private static final String[] IRREGULAR = {
+            "arise arose arisen", "awake awoke awoken", "be was/were been", "bear bore borne/born",
+            "beat beat beaten", "become became become", "begin began begun", "bend bent bent",
+            "bet bet bet", "bid bid bid", "bind bound bound", "bite bit bitten", "bleed bled bled",
+            "blow blew blown", "break broke broken", "breed bred bred", "bring brought brought",
+            "build built built", "burn burnt/burned burnt/burned", "burst burst burst", "buy bought bought",
+            "cast cast cast", "catch caught caught", "choose chose chosen", "cling clung clung",
+            "come came come", "cost cost cost", "creep crept crept", "cut cut cut", "deal dealt dealt",
+            "dig dug dug", "dive dove/dived dived", "do did done", "draw drew drawn",
+            "dream dreamt/dreamed dreamt/dreamed", "drink drank drunk", "drive drove driven",
+            "eat ate eaten", "fall fell fallen", "feed fed fed", "feel felt felt", "fight fought fought",
+            "find found found", "flee fled fled", "fling flung flung", "fly flew flown",
+            "forget forgot forgotten", "forgive forgave forgiven", "freeze froze frozen",
+            "get got got/gotten", "give gave given", "go went gone", "grind ground ground",
+            "grow grew grown", "hang hung/hanged hung/hanged", "have had had", "hear heard heard",
+            "hide hid hidden", "hit hit hit", "hold held held", "hurt hurt hurt", "keep kept kept",
+            "kneel knelt knelt", "know knew known", "lay laid laid", "lead led led",
+            "lean leant/leaned leant/leaned", "leap leapt/leaped leapt/leaped", "learn learnt/learned learnt/learned",
+            "leave left left", "lend lent lent", "let let let", "lie lay/lied lain/lied", "light lit/lighted lit/lighted",
+            "lose lost lost", "make made made", "mean meant meant", "meet met met", "pay paid paid",
+            "prove proved proven/proved", "put put put", "quit quit quit", "read read read", "rid rid rid",
+            "ride rode ridden", "ring rang rung", "rise rose risen", "run ran run", "say said said",
+            "see saw seen", "seek sought sought", "sell sold sold", "send sent sent", "set set set",
+            "sew sewed sewn/sewed", "shake shook shaken", "shed shed shed", "shine shone shone",
+            "shoot shot shot", "show showed shown/showed", "shrink shrank shrunk", "shut shut shut",
+            "sing sang sung", "sink sank sunk", "sit sat sat", "sleep slept slept", "slide slid slid",
+            "sling slung slung", "slink slunk slunk", "slit slit slit", "smell smelt/smelled smelt/smelled",
+            "speak spoke spoken", "speed sped sped", "spell spelt/spelled spelt/spelled", "spend spent spent",
+            "spill spilt/spilled spilt/spilled", "spin spun spun", "spit spat spat", "split split split",
+            "spoil spoilt/spoiled spoilt/spoiled", "spread spread spread", "spring sprang sprung",
+            "stand stood stood", "steal stole stolen", "stick stuck stuck", "sting stung stung",
+            "stink stank stunk", "stride strode stridden", "strike struck struck", "string strung strung",
+            "strive strove striven", "swear swore sworn", "sweep swept swept", "swell swelled swollen",
+            "swim swam swum", "swing swung swung", "take took taken", "teach taught taught",
+            "tear tore torn", "tell told told", "think thought thought", "throw threw thrown",
+            "thrust thrust thrust", "tread trod trodden", "wake woke woken", "wear wore worn",
+            "weave wove woven", "weep wept wept", "win won won", "wind wound wound",
+            "wring wrung wrung", "write wrote written"
+    };
+    private static final Map<String, String[]> IRREGULAR_FORMS = new HashMap<>();
+
+    static {
+        for (String row : IRREGULAR) {
+            String[] parts = row.split(" ");
+            IRREGULAR_FORMS.put(parts[0], (parts[1] + "/" + parts[2]).split("/"));
+        }
+    }
+
+    private Inflector() {
+    }
+
+    /**
+     * The base form followed by its third-person, past, past participle and -ing forms, without
+     * duplicates. Anything that is not a single lowercase word is returned unchanged.
+     */
+    public static Set<String> verbForms(String verb) {
+        Set<String> forms = new LinkedHashSet<>();
+        forms.add(verb);
+        if (verb.isEmpty() || !verb.chars().allMatch(c -> c >= 'a' && c <= 'z')) {
+            return Collections.unmodifiableSet(forms);
+        }
+        switch (verb) {
+            case "be" -> Collections.addAll(forms, "am", "is", "are", "being");
+            case "have" -> Collections.addAll(forms, "has", "having");
+            default -> {
+                forms.add(thirdPerson(verb));
+                forms.add(gerund(verb));
+            }
+        }
+        String[] irregular = IRREGULAR_FORMS.get(verb);
+        if (irregular != null) {
+            Collections.addAll(forms, irregular);
+        } else {
+            forms.add(past(verb));
+        }
+        return Collections.unmodifiableSet(forms);
+    }
+
+    static String thirdPerson(String verb) {
+        if (CONSONANT_Y.matcher(verb).matches()) {
+            return verb.substring(0, verb.length() - 1) + "ies";
+        }
+        return SIBILANT.matcher(verb).matches() ? verb + "es" : verb + "s";
+    }
+
+    static String past(String verb) {
+        if (verb.endsWith("e")) {
+            return verb + "d";
+        }
+        if (CONSONANT_Y.matcher(verb).matches()) {
+            return verb.substring(0, verb.length() - 1) + "ied";
+        }
+        return stem(verb) + "ed";
+    }
+
+    static String gerund(String verb) {
+        if (verb.endsWith("ie")) {
+            return verb.substring(0, verb.length() - 2) + "ying";
+        }
+        if (verb.endsWith("e") && verb.length() > 2 && !verb.endsWith("ee") && !verb.endsWith("ye") && !verb.endsWith("oe")) {
+            return verb.substring(0, verb.length() - 1) + "ing";
+        }
+        return stem(verb) + "ing";
+    }
+
+    private static String stem(String verb) {
+        if (DOUBLING.matcher(verb).matches() || STRESS_FINAL.contains(verb)) {
+            return verb + verb.charAt(verb.length() - 1);
+        }
+        return verb.endsWith("ic") ? verb + "k" : verb;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.englishlearningbackend.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Rule-based English sentence boundaries for news text: a sentence ends at {@code .}, {@code !} or
+ * {@code ?} (plus closing quotes or brackets) followed by whitespace and an upper-case letter, digit
+ * or opening quote, or at a blank line. Periods after common abbreviations and single initials do
+ * not end a sentence.
+ */
+public final class SentenceSplitter {
+    private static final Set<String> ABBREVIATIONS = Set.of(
+            "mr", "mrs", "ms", "dr", "prof", "sr", "jr", "st", "mt", "gen", "gov", "sen", "rep", "rev", "lt", "col",
+            "sgt", "capt", "vs", "etc", "inc", "corp", "co", "ltd", "no", "vol", "approx", "dept", "est",
+            "jan", "feb", "mar", "apr", "jun", "jul", "aug", "sep", "sept", "oct", "nov", "dec",
+            "e.g", "i.e", "u.s", "u.k", "u.n", "a.m", "p.m");
+
+    private SentenceSplitter() {
+    }
+
+    public record Span(int start, int end) {
+    }
+
+    public static List<Span> split(CharSequence text) {
+        List<Span> spans = new ArrayList<>();
+        int length = text.length();
+        int start = 0;
+        int i = 0;
+        while (i < length) {
+            char ch = text.charAt(i);
+            if (ch == '\n' && isBlankLineAt(text, i)) {
+                add(text, spans, start, i);
+                start = i + 1;
+            } else if (ch == '.' || ch == '!' || ch == '?') {
+                int end = i + 1;
+                while (end < length && isTerminal(text.charAt(end))) {
+                    end++;
+                }
+                if (endsSentence(text, i, end)) {
+                    add(text, spans, start, end);
+                    start = end;
+                }
+                i = end;
+                continue;
+            }
+            i++;
+        }
+        add(text, spans, start, length);
+        return spans;
+    }
+
+    private static boolean endsSentence(CharSequence text, int mark, int end) {
+        int next = end;
+        while (next < text.length() && Character.isWhitespace(text.charAt(next))) {
+            next++;
+        }
+        if (next == text.length()) {
+            return true;
+        }
+        if (next == end) {
+            return false;
+        }
+        char following = text.charAt(next);
+        if (!Character.isUpperCase(following) && !Character.isDigit(following)
+                && following != '"' && following != '“' && following != '\'' && following != '(') {
+            return false;
+        }
+        return text.charAt(mark) != '.' || !isAbbreviation(text, mark);
+    }
+
+    private static boolean isAbbreviation(CharSequence text, int period) {
+        int from = period;
+        while (from > 0 && (Character.isLetter(text.charAt(from - 1)) || text.charAt(from - 1) == '.')) {
+            from--;
+        }
+        String token = text.subSequence(from, period).toString();
+        if (token.length() == 1 && Character.isUpperCase(token.charAt(0))) {
+            return true;
+        }
+        return ABBREVIATIONS.contains(token.toLowerCase(Locale.ROOT));
+    }
+
+    private static boolean isTerminal(char ch) {
+        return ch == '.' || ch == '!' || ch == '?' || ch == '"' || ch == '\'' || ch == ')' || ch == ']'
+                || ch == '”' || ch == '’';
+    }
+
+    private static boolean isBlankLineAt(CharSequence text, int newline) {
+        for (int j = newline + 1; j < text.length(); j++) {
+            char ch = text.charAt(j);
+            if (ch == '\n') {
+                return true;
+            }
+            if (!Character.isWhitespace(ch)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static void add(CharSequence text, List<Span> spans, int start, int end) {
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        if (start < end) {
+            spans.add(new Span(start, end));
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.englishlearningbackend.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Streaming SRT and WebVTT reader: one cue is read at a time, so files are never held in memory
+ * as a whole. Cue numbers and identifiers, the WEBVTT header, NOTE/STYLE/REGION blocks and VTT
+ * cue settings are skipped; markup such as {@code <i>} or inline timestamps is stripped from text.
+ */
+public class SubtitleReader implements Iterator<SubtitleReader.Cue> {
+    private static final Pattern TIMING = Pattern.compile(
+            "^\\s*((?:\\d+:)?\\d{1,2}:\\d{2}[.,]\\d{1,3})\\s*-->\\s*((?:\\d+:)?\\d{1,2}:\\d{2}[.,]\\d{1,3})");
+    private static final Pattern MARKUP = Pattern.compile("<[^>]*>|\\{\\\\[^}]*}");
+
+    private final BufferedReader reader;
+    private Cue next;
+    private boolean done;
+
+    public record Cue(long startMillis, long endMillis, String text) {
+    }
+
+    public SubtitleReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !done) {
+            next = readCue();
+            done = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public Cue next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Cue cue = next;
+        next = null;
+        return cue;
+    }
+
+    private Cue readCue() {
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher timing = TIMING.matcher(stripBom(line));
+                if (!timing.find()) {
+                    if (line.startsWith("NOTE") || line.startsWith("STYLE") || line.startsWith("REGION")) {
+                        skipBlock();
+                    }
+                    continue;
+                }
+                long start = parseMillis(timing.group(1));
+                long end = parseMillis(timing.group(2));
+                StringBuilder text = new StringBuilder();
+                while ((line = reader.readLine()) != null && !line.isBlank()) {
+                    String stripped = MARKUP.matcher(line).replaceAll("").strip();
+                    if (!stripped.isEmpty()) {
+                        text.append(text.isEmpty() ? "" : " ").append(stripped);
+                    }
+                }
+                if (!text.isEmpty() && end > start) {
+                    return new Cue(start, end, text.toString());
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void skipBlock() throws IOException {
+        String line = reader.readLine();
+        while (line != null && !line.isBlank()) {
+            line = reader.readLine();
+        }
+    }
+
+    private static String stripBom(String line) {
+        return !line.isEmpty() && line.charAt(0) == '\uFEFF' ? line.substring(1) : line;
+    }
+
+    static long parseMillis(String timestamp) {
+        String[] parts = timestamp.replace(',', '.').split(":");
+        long hours = parts.length == 3 ? Long.parseLong(parts[0]) : 0;
+        long minutes = Long.parseLong(parts[parts.length - 2]);
+        String[] seconds = parts[parts.length - 1].split("\\.");
+        String fraction = (seconds[1] + "00").substring(0, 3);
+        return ((hours * 60 + minutes) * 60 + Long.parseLong(seconds[0])) * 1000 + Long.parseLong(fraction);
+    }
+}
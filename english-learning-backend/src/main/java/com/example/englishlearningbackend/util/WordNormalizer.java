@@ -0,0 +1,15 @@
+package com.example.englishlearningbackend.util;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+public final class WordNormalizer {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private WordNormalizer() {
+    }
+
+    public static String normalize(String word) {
+        return WHITESPACE.matcher(word.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.englishlearningbackend.writebehind;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue for many producers and a single consumer. Producers claim a run of slots
+ * with one CAS on the tail and publish each slot by writing its sequence number, so a batch is
+ * accepted whole or not at all and a full buffer is reported instead of blocking the caller.
+ */
+public class MpscRingBuffer<E> {
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    public MpscRingBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.published = new AtomicLongArray(size);
+        this.mask = size - 1;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Enqueues all of {@code items}, or none of them when they do not fit.
+     */
+    public boolean offerAll(List<? extends E> items) {
+        int n = items.size();
+        if (n > capacity()) {
+            return false;
+        }
+        long claimed;
+        do {
+            claimed = tail.get();
+            if (claimed + n - head > capacity()) {
+                return false;
+            }
+        } while (!tail.compareAndSet(claimed, claimed + n));
+        for (int i = 0; i < n; i++) {
+            long sequence = claimed + i;
+            int slot = (int) sequence & mask;
+            slots.set(slot, items.get(i));
+            published.set(slot, sequence + 1);
+        }
+        return true;
+    }
+
+    /**
+     * Hands up to {@code max} elements to {@code sink} in the order their slots were claimed. Stops
+     * early at a slot that has been claimed but not yet published. Only one thread may drain.
+     */
+    public int drainTo(Consumer<? super E> sink, int max) {
+        long h = head;
+        int drained = 0;
+        while (drained < max) {
+            int slot = (int) h & mask;
+            if (published.get(slot) != h + 1) {
+                break;
+            }
+            E element = slots.get(slot);
+            slots.set(slot, null);
+            sink.accept(element);
+            drained++;
+            h++;
+        }
+        head = h;
+        return drained;
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.englishlearningbackend.writebehind;
+
+import com.example.englishlearningbackend.dto.StudyEventType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of study events, split into segment files named after the sequence number of
+ * their first record. Each record is length-prefixed and checksummed, and every append is forced to
+ * disk before it returns. Segments whose records have all reached the database are deleted; the
+ * newest segment is always kept so the sequence survives a restart. A record torn by a crash fails
+ * its checksum and is cut off when the journal is reopened.
+ */
+@Slf4j
+public class SpillJournal implements Closeable {
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String ID_FILE = "journal.id";
+    private static final int MAX_RECORD_BYTES = 64 * 1024;
+    private static final int FRAME_BYTES = 8;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final String id;
+    private final TreeMap<Long, Path> segments = new TreeMap<>();
+    private FileChannel out;
+    private long nextSequence;
+    private long bytes;
+
+    public record Entry(long sequence, StudyEvent event) {
+    }
+
+    private SpillJournal(Path directory, long segmentBytes, String id) {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.id = id;
+    }
+
+    public static SpillJournal open(Path directory, long segmentBytes) throws IOException {
+        Files.createDirectories(directory);
+        SpillJournal journal = new SpillJournal(directory, segmentBytes, readOrCreateId(directory));
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(f -> f.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .forEach(f -> journal.segments.put(firstSequence(f), f));
+        }
+        for (Path segment : journal.segments.values()) {
+            journal.bytes += Files.size(segment);
+        }
+        if (journal.segments.isEmpty()) {
+            journal.startSegment(1);
+        } else {
+            journal.recoverTail();
+        }
+        return journal;
+    }
+
+    /**
+     * Identifies this journal in the database checkpoint, so a wiped spill directory starts over
+     * instead of skipping sequence numbers that an earlier journal already used.
+     */
+    public String id() {
+        return id;
+    }
+
+    public long bytes() {
+        return bytes;
+    }
+
+    public long lastSequence() {
+        return nextSequence - 1;
+    }
+
+    /**
+     * Writes {@code events} with consecutive sequence numbers, starting at the returned value, and
+     * forces them to disk.
+     */
+    public long append(List<StudyEvent> events) throws IOException {
+        if (out.size() >= segmentBytes) {
+            out.close();
+            startSegment(nextSequence);
+        }
+        long first = nextSequence;
+        long size = out.size();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(events.size() * 64);
+        DataOutputStream data = new DataOutputStream(buffer);
+        for (StudyEvent event : events) {
+            writeRecord(data, nextSequence++, event);
+        }
+        ByteBuffer bytesToWrite = ByteBuffer.wrap(buffer.toByteArray());
+        try {
+            while (bytesToWrite.hasRemaining()) {
+                out.write(bytesToWrite);
+            }
+            out.force(false);
+        } catch (IOException e) {
+            nextSequence = first;
+            out.truncate(size);
+            throw e;
+        }
+        bytes += bytesToWrite.limit();
+        return first;
+    }
+
+    /**
+     * Streams every record with a sequence number above {@code afterSequence}, oldest first.
+     */
+    public void replay(long afterSequence, Consumer<Entry> consumer) throws IOException {
+        Long from = segments.floorKey(afterSequence + 1);
+        List<Path> toRead = new ArrayList<>((from == null ? segments : segments.tailMap(from, true)).values());
+        for (Path segment : toRead) {
+            if (!Files.exists(segment)) {
+                continue;
+            }
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(segment)))) {
+                byte[] payload;
+                while ((payload = readFrame(in)) != null) {
+                    Entry entry = decode(payload);
+                    if (entry.sequence() > afterSequence) {
+                        consumer.accept(entry);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Deletes the segments whose records are all at or below {@code sequence}.
+     */
+    public void checkpoint(long sequence) throws IOException {
+        while (segments.size() > 1) {
+            Map.Entry<Long, Path> oldest = segments.firstEntry();
+            if (segments.higherKey(oldest.getKey()) - 1 > sequence) {
+                return;
+            }
+            long size = Files.size(oldest.getValue());
+            Files.deleteIfExists(oldest.getValue());
+            segments.pollFirstEntry();
+            bytes -= size;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private void startSegment(long firstSequence) throws IOException {
+        Path segment = directory.resolve(String.format("%020d%s", firstSequence, SEGMENT_SUFFIX));
+        out = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        segments.put(firstSequence, segment);
+        nextSequence = firstSequence;
+    }
+
+    private void recoverTail() throws IOException {
+        Map.Entry<Long, Path> last = segments.lastEntry();
+        long validBytes = 0;
+        long sequence = last.getKey();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(last.getValue())))) {
+            byte[] payload;
+            while ((payload = readFrame(in)) != null) {
+                validBytes += FRAME_BYTES + payload.length;
+                sequence = decode(payload).sequence() + 1;
+            }
+        }
+        long size = Files.size(last.getValue());
+        out = FileChannel.open(last.getValue(), StandardOpenOption.WRITE);
+        if (validBytes < size) {
+            log.warn("Truncating {} torn bytes from study event journal {}", size - validBytes, last.getValue());
+            out.truncate(validBytes);
+            bytes -= size - validBytes;
+        }
+        out.position(validBytes);
+        nextSequence = sequence;
+    }
+
+    private static void writeRecord(DataOutputStream out, long sequence, StudyEvent event) throws IOException {
+        byte[] payload = payload(sequence, event);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        out.writeInt(payload.length);
+        out.write(payload);
+        out.writeInt((int) crc.getValue());
+    }
+
+    private static byte[] payload(long sequence, StudyEvent event) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(48);
+        DataOutputStream out = new DataOutputStream(buffer);
+        out.writeLong(sequence);
+        out.writeLong(event.occurredAtMillis());
+        out.writeLong(event.wordId());
+        out.writeLong(event.sentenceId());
+        out.writeByte(event.type().ordinal());
+        out.writeUTF(event.learnerId());
+        return buffer.toByteArray();
+    }
+
+    /**
+     * The payload of the next intact record, or null at the end of the segment or at the first torn
+     * record.
+     */
+    private static byte[] readFrame(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            if (length <= 0 || length > MAX_RECORD_BYTES) {
+                return null;
+            }
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            return in.readInt() == (int) crc.getValue() ? payload : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private static Entry decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        long sequence = in.readLong();
+        long occurredAt = in.readLong();
+        long wordId = in.readLong();
+        long sentenceId = in.readLong();
+        StudyEventType type = StudyEventType.values()[in.readByte()];
+        String learnerId = in.readUTF();
+        return new Entry(sequence, new StudyEvent(learnerId, type, wordId, sentenceId, occurredAt));
+    }
+
+    private static String readOrCreateId(Path directory) throws IOException {
+        Path file = directory.resolve(ID_FILE);
+        if (Files.exists(file)) {
+            return Files.readString(file).trim();
+        }
+        String id = UUID.randomUUID().toString();
+        Path tmp = directory.resolve(ID_FILE + ".tmp");
+        Files.writeString(tmp, id);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return id;
+    }
+
+    private static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
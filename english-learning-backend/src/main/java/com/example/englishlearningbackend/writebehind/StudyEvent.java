@@ -0,0 +1,9 @@
+package com.example.englishlearningbackend.writebehind;
+
+import com.example.englishlearningbackend.dto.StudyEventType;
+
+/**
+ * One accepted study event. {@code sentenceId} is 0 when the event is not about a sentence.
+ */
+public record StudyEvent(String learnerId, StudyEventType type, long wordId, long sentenceId, long occurredAtMillis) {
+}
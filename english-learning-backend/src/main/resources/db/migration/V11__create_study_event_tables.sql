@@ -0,0 +1,29 @@
+CREATE TABLE study_event (
+                             id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                             learner_id VARCHAR(64) NOT NULL,
+                             event_type VARCHAR(32) NOT NULL,
+                             word_id BIGINT NOT NULL,
+                             sentence_id BIGINT NULL,
+                             occurred_at TIMESTAMP(3) NOT NULL,
+                             INDEX idx_study_event_learner_occurred (learner_id, occurred_at),
+                             INDEX idx_study_event_word (word_id)
+);
+
+CREATE TABLE study_word_stat (
+                                 word_id BIGINT NOT NULL,
+                                 event_type VARCHAR(32) NOT NULL,
+                                 event_count BIGINT NOT NULL,
+                                 PRIMARY KEY (word_id, event_type)
+);
+
+CREATE TABLE study_learner_stat (
+                                    learner_id VARCHAR(64) NOT NULL,
+                                    event_type VARCHAR(32) NOT NULL,
+                                    event_count BIGINT NOT NULL,
+                                    PRIMARY KEY (learner_id, event_type)
+);
+
+CREATE TABLE study_event_checkpoint (
+                                        journal_id VARCHAR(64) PRIMARY KEY,
+                                        flushed_seq BIGINT NOT NULL
+);
@@ -0,0 +1,13 @@
+-- Word sets are serialized RoaringBitmap blobs over word.id.
+CREATE TABLE learner_known_word_set (
+                                        learner_id VARCHAR(64) PRIMARY KEY,
+                                        bitmap MEDIUMBLOB NOT NULL,
+                                        updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+CREATE TABLE content_word_set (
+                                  content_type VARCHAR(16) NOT NULL,
+                                  content_id BIGINT NOT NULL,
+                                  bitmap MEDIUMBLOB NOT NULL,
+                                  PRIMARY KEY (content_type, content_id)
+);
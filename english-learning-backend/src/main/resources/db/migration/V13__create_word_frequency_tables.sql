@@ -0,0 +1,16 @@
+-- Streaming frequency summary over every ingested word occurrence; a single row, overwritten on each snapshot.
+CREATE TABLE word_frequency_sketch (
+                                       id TINYINT PRIMARY KEY,
+                                       sketch LONGBLOB NOT NULL,
+                                       total BIGINT NOT NULL,
+                                       updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+-- Kept apart from word so rank changes do not bump word.updated_at and flood the sync feed.
+CREATE TABLE word_frequency (
+                                word_id BIGINT PRIMARY KEY,
+                                frequency BIGINT NOT NULL,
+                                frequency_rank INT NOT NULL,
+                                INDEX idx_word_frequency_rank (frequency_rank),
+                                FOREIGN KEY (word_id) REFERENCES word(id) ON DELETE CASCADE
+);
@@ -0,0 +1,8 @@
+-- Events and word counts of words that no longer exist are removed before the keys are added.
+DELETE FROM study_event WHERE NOT EXISTS (SELECT 1 FROM word w WHERE w.id = study_event.word_id);
+DELETE FROM study_word_stat WHERE NOT EXISTS (SELECT 1 FROM word w WHERE w.id = study_word_stat.word_id);
+
+ALTER TABLE study_event
+    ADD CONSTRAINT fk_study_event_word FOREIGN KEY (word_id) REFERENCES word(id) ON DELETE CASCADE;
+ALTER TABLE study_word_stat
+    ADD CONSTRAINT fk_study_word_stat_word FOREIGN KEY (word_id) REFERENCES word(id) ON DELETE CASCADE;
@@ -0,0 +1,14 @@
+-- Removes repeated (word_id, sentence) rows, keeping the oldest of each, so the unique key can be added.
+-- The hash column is added and indexed first so the duplicates are found through the index
+-- instead of by comparing the TEXT column row by row.
+ALTER TABLE sentence
+    ADD COLUMN sentence_hash BINARY(32) AS (UNHEX(SHA2(sentence, 256))) STORED,
+    ADD INDEX idx_sentence_word_hash (word_id, sentence_hash);
+
+DELETE s1 FROM sentence s1
+    JOIN sentence s2 ON s1.word_id = s2.word_id AND s1.sentence_hash = s2.sentence_hash
+        AND s1.id > s2.id AND s1.sentence = s2.sentence;
+
+ALTER TABLE sentence
+    DROP INDEX idx_sentence_word_hash,
+    ADD UNIQUE KEY uk_sentence_word_hash (word_id, sentence_hash);
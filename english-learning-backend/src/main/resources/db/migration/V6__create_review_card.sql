@@ -0,0 +1,15 @@
+CREATE TABLE review_card (
+                             id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                             learner_id VARCHAR(64) NOT NULL,
+                             word_id BIGINT NOT NULL,
+                             repetitions INT NOT NULL DEFAULT 0,
+                             interval_days INT NOT NULL DEFAULT 0,
+                             ease_factor DOUBLE NOT NULL DEFAULT 2.5,
+                             due_at TIMESTAMP NOT NULL,
+                             last_reviewed_at TIMESTAMP NULL,
+                             created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                             updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+                             UNIQUE KEY uk_review_card_learner_word (learner_id, word_id),
+                             INDEX idx_review_card_learner_due (learner_id, due_at),
+                             FOREIGN KEY (word_id) REFERENCES word(id) ON DELETE CASCADE
+);
@@ -0,0 +1,26 @@
+CREATE INDEX idx_word_updated_at_id ON word (updated_at, id);
+CREATE INDEX idx_meaning_updated_at_id ON meaning (updated_at, id);
+CREATE INDEX idx_sentence_updated_at_id ON sentence (updated_at, id);
+
+CREATE TABLE sync_tombstone (
+                                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                entity_type VARCHAR(16) NOT NULL,
+                                entity_id BIGINT NOT NULL,
+                                deleted_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                                INDEX idx_sync_tombstone_deleted_at (deleted_at)
+);
+
+-- Cascaded foreign-key deletes do not fire triggers, so the word trigger records its children itself.
+CREATE TRIGGER trg_word_tombstone BEFORE DELETE ON word FOR EACH ROW
+    INSERT INTO sync_tombstone (entity_type, entity_id)
+    SELECT 'MEANING', id FROM meaning WHERE word_id = OLD.id
+    UNION ALL
+    SELECT 'SENTENCE', id FROM sentence WHERE word_id = OLD.id
+    UNION ALL
+    SELECT 'WORD', OLD.id;
+
+CREATE TRIGGER trg_meaning_tombstone AFTER DELETE ON meaning FOR EACH ROW
+    INSERT INTO sync_tombstone (entity_type, entity_id) VALUES ('MEANING', OLD.id);
+
+CREATE TRIGGER trg_sentence_tombstone AFTER DELETE ON sentence FOR EACH ROW
+    INSERT INTO sync_tombstone (entity_type, entity_id) VALUES ('SENTENCE', OLD.id);
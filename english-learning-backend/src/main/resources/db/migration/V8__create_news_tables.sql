@@ -0,0 +1,34 @@
+CREATE TABLE news_article (
+                              id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                              title VARCHAR(255) NOT NULL,
+                              source VARCHAR(100),
+                              published_at TIMESTAMP NULL,
+                              body MEDIUMTEXT NOT NULL,
+                              created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                              INDEX idx_news_article_published_at (published_at)
+);
+
+CREATE TABLE news_sentence (
+                               id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                               article_id BIGINT NOT NULL,
+                               position INT NOT NULL,
+                               start_offset INT NOT NULL,
+                               end_offset INT NOT NULL,
+                               sentence TEXT NOT NULL,
+                               UNIQUE KEY uk_news_sentence_article_position (article_id, position),
+                               FOREIGN KEY (article_id) REFERENCES news_article(id) ON DELETE CASCADE
+);
+
+-- Offsets index into news_article.body; sentence_position joins to news_sentence without needing its generated id.
+CREATE TABLE news_word_occurrence (
+                                      id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                      article_id BIGINT NOT NULL,
+                                      sentence_position INT NOT NULL,
+                                      word_id BIGINT NOT NULL,
+                                      start_offset INT NOT NULL,
+                                      end_offset INT NOT NULL,
+                                      INDEX idx_news_word_occurrence_article (article_id, sentence_position),
+                                      INDEX idx_news_word_occurrence_word (word_id, article_id),
+                                      FOREIGN KEY (article_id) REFERENCES news_article(id) ON DELETE CASCADE,
+                                      FOREIGN KEY (word_id) REFERENCES word(id) ON DELETE CASCADE
+);
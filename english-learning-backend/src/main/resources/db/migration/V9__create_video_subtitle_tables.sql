@@ -0,0 +1,29 @@
+CREATE TABLE video (
+                       id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                       youtube_id VARCHAR(32) NOT NULL UNIQUE,
+                       title VARCHAR(255),
+                       created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+                       updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+);
+
+CREATE TABLE video_cue (
+                           id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                           video_id BIGINT NOT NULL,
+                           position INT NOT NULL,
+                           start_ms BIGINT NOT NULL,
+                           end_ms BIGINT NOT NULL,
+                           text TEXT NOT NULL,
+                           UNIQUE KEY uk_video_cue_video_position (video_id, position),
+                           FOREIGN KEY (video_id) REFERENCES video(id) ON DELETE CASCADE
+);
+
+CREATE TABLE video_cue_word (
+                                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                video_id BIGINT NOT NULL,
+                                cue_position INT NOT NULL,
+                                word_id BIGINT NOT NULL,
+                                UNIQUE KEY uk_video_cue_word (video_id, cue_position, word_id),
+                                INDEX idx_video_cue_word_word (word_id, video_id, cue_position),
+                                FOREIGN KEY (video_id) REFERENCES video(id) ON DELETE CASCADE,
+                                FOREIGN KEY (word_id) REFERENCES word(id) ON DELETE CASCADE
+);
@@ -0,0 +1,114 @@
+package com.example.englishlearningbackend.controller;
+
+import com.example.englishlearningbackend.config.HttpCacheProperties;
+import com.example.englishlearningbackend.dto.MeaningDto;
+import com.example.englishlearningbackend.dto.SentenceDto;
+import com.example.englishlearningbackend.dto.WordDetailDto;
+import com.example.englishlearningbackend.metrics.LookupMissCounter;
+import com.example.englishlearningbackend.service.FuzzyWordService;
+import com.example.englishlearningbackend.service.WordMatchService;
+import com.example.englishlearningbackend.service.WordService;
+import com.example.englishlearningbackend.service.WordSuggestService;
+import com.example.englishlearningbackend.config.BinaryContentConfig;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(WordController.class)
+@EnableConfigurationProperties(HttpCacheProperties.class)
+@Import(BinaryContentConfig.class)
+class WordControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private WordService wordService;
+
+    @MockitoBean
+    private WordSuggestService wordSuggestService;
+
+    @MockitoBean
+    private FuzzyWordService fuzzyWordService;
+
+    @MockitoBean
+    private WordMatchService wordMatchService;
+
+    @MockitoBean
+    private LookupMissCounter lookupMissCounter;
+
+    @Test
+    void answersMatchingIfNoneMatchWithNotModified() throws Exception {
+        WordDetailDto detail = new WordDetailDto(1L, "Stop by", true,
+                List.of(new MeaningDto(1L, "(~에) 잠시 들르다")),
+                List.of(new SentenceDto(1L, "Can you stop by the store?", "가게에 들러줄래요?")));
+        given(wordService.getWordWithDetails("Stop by")).willReturn(Optional.of(detail));
+
+        String etag = mockMvc.perform(get("/words/{word}", "Stop by"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=300, public"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/words/{word}", "Stop by").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        given(wordService.getWordWithDetails("Stop by")).willReturn(Optional.of(new WordDetailDto(1L, "Stop by", true,
+                detail.meanings(), List.of())));
+        mockMvc.perform(get("/words/{word}", "Stop by").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void countsMissesByReason() throws Exception {
+        given(wordService.getWordWithDetails("stop bye")).willReturn(Optional.empty());
+        given(fuzzyWordService.findClosest("stop bye", FuzzyWordService.DEFAULT_MAX_DISTANCE, FuzzyWordService.DEFAULT_LIMIT))
+                .willReturn(List.of());
+
+        mockMvc.perform(get("/words/{word}", "stop bye")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/words/{word}", "stop bye").param("fuzzy", "true")).andExpect(status().isNotFound());
+
+        then(lookupMissCounter).should().increment("word", "unknown_word");
+        then(lookupMissCounter).should().increment("word", "no_fuzzy_match");
+    }
+
+    @Test
+    void negotiatesBinaryEncodingsByAccept() throws Exception {
+        WordDetailDto detail = new WordDetailDto(1L, "Stop by", true,
+                List.of(new MeaningDto(1L, "(~에) 잠시 들르다")),
+                List.of(new SentenceDto(1L, "Can you stop by the store?", "가게에 들러줄래요?")));
+        given(wordService.getWordWithDetails("Stop by")).willReturn(Optional.of(detail));
+
+        byte[] cbor = mockMvc.perform(get("/words/{word}", "Stop by").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse().getContentAsByteArray();
+        byte[] smile = mockMvc.perform(get("/words/{word}", "Stop by").accept(WordController.APPLICATION_SMILE_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(WordController.APPLICATION_SMILE_VALUE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        assertThat(new CBORMapper().readValue(cbor, WordDetailDto.class)).isEqualTo(detail);
+        assertThat(new SmileMapper().readValue(smile, WordDetailDto.class)).isEqualTo(detail);
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.englishlearningbackend.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AhoCorasickTest {
+
+    @Test
+    void findsOverlappingWordsAndPhrasesOnWordBoundaries() {
+        AhoCorasick automaton = AhoCorasick.builder()
+                .add(1, "Drop by")
+                .add(2, "drop")
+                .add(3, "by")
+                .add(4, "Come across")
+                .add(5, "cross")
+                .build();
+        String text = "She said she would DROP\n  By later; we came across nothing, but across the road a crossing.";
+
+        List<AhoCorasick.Match> matches = automaton.findAll(text);
+
+        assertThat(matches).extracting(AhoCorasick.Match::id).containsExactly(2L, 1L, 3L);
+        AhoCorasick.Match phrase = matches.get(1);
+        assertThat(text.substring(phrase.start(), phrase.end())).isEqualTo("DROP\n  By");
+        assertThat(automaton.size()).isEqualTo(5);
+    }
+
+    @Test
+    void followsFailureLinksAcrossPartialMatches() {
+        AhoCorasick automaton = AhoCorasick.builder()
+                .add(1, "he")
+                .add(2, "she")
+                .add(3, "his")
+                .add(4, "hers")
+                .add(5, "ushers")
+                .build();
+
+        assertThat(automaton.findAll("ushers").stream().map(AhoCorasick.Match::id)).containsExactly(5L);
+        assertThat(automaton.findAll("he hers she his his")).extracting(AhoCorasick.Match::id)
+                .containsExactly(1L, 4L, 2L, 3L, 3L);
+        assertThat(AhoCorasick.builder().build().findAll("anything")).isEmpty();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.englishlearningbackend.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BkTreeTest {
+
+    @Test
+    void findsWordsWithinEditDistance() {
+        BkTree tree = new BkTree();
+        tree.add(1, "Stop by");
+        tree.add(2, "Swing by");
+        tree.add(3, "Drop by");
+        tree.add(4, "Drop in");
+        tree.add(5, "Come across");
+
+        assertThat(tree.search("swign by", 2, 5)).extracting(BkTree.Match::id).containsExactly(2L);
+        assertThat(tree.search("drop bi", 1, 5)).extracting(BkTree.Match::word).containsExactly("Drop by");
+        assertThat(tree.search("drop by", 2, 5)).extracting(BkTree.Match::distance).containsExactly(0, 2, 2);
+        assertThat(tree.search("xyz", 2, 5)).isEmpty();
+    }
+
+    @Test
+    void removedAndRenamedWordsAreNotReturned() {
+        BkTree tree = new BkTree();
+        tree.add(1, "Stop by");
+        tree.add(2, "Swing by");
+        tree.remove(2);
+        tree.add(1, "Stop over");
+
+        assertThat(tree.search("swing by", 2, 5)).isEmpty();
+        assertThat(tree.search("stop ovr", 1, 5)).extracting(BkTree.Match::id).containsExactly(1L);
+        assertThat(tree.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.englishlearningbackend.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountMinSketchTest {
+
+    @Test
+    void neverUndercountsAndStaysWithinTheErrorBound() {
+        CountMinSketch sketch = new CountMinSketch(1024, 4);
+        long[] exact = new long[20000];
+        Random random = new Random(42);
+        for (int i = 0; i < 200000; i++) {
+            int item = (int) Math.min(exact.length - 1, Math.abs(random.nextGaussian()) * 2000);
+            exact[item]++;
+            sketch.add(item, 1);
+        }
+
+        long bound = (long) (Math.E / 1024 * sketch.total());
+        int outside = 0;
+        for (int item = 0; item < exact.length; item++) {
+            long estimate = sketch.estimate(item);
+            assertThat(estimate).isGreaterThanOrEqualTo(exact[item]);
+            if (estimate - exact[item] > bound) {
+                outside++;
+            }
+        }
+        assertThat(sketch.total()).isEqualTo(200000);
+        assertThat(outside).isLessThan(exact.length / 50);
+    }
+
+    @Test
+    void survivesSerialization() throws IOException {
+        CountMinSketch sketch = new CountMinSketch(256, 3);
+        sketch.add(7, 5);
+        sketch.add(11, 2);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        sketch.writeTo(new DataOutputStream(buffer));
+
+        CountMinSketch copy = CountMinSketch.readFrom(new DataInputStream(new ByteArrayInputStream(buffer.toByteArray())));
+
+        assertThat(copy.estimate(7)).isEqualTo(5);
+        assertThat(copy.estimate(11)).isEqualTo(2);
+        assertThat(copy.total()).isEqualTo(7);
+        assertThat(copy.width()).isEqualTo(256);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.englishlearningbackend.index;
+
+import com.example.englishlearningbackend.dto.VideoCueDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CueIndexTest {
+    private final CueIndex index = new CueIndex(List.of(
+            new VideoCueDto(2, 4000, 6000, "c"),
+            new VideoCueDto(0, 0, 10_000, "long"),
+            new VideoCueDto(1, 1000, 2000, "a")));
+
+    @Test
+    void returnsOverlappingCuesInStartOrder() {
+        assertThat(index.activeAt(1500)).extracting(VideoCueDto::position).containsExactly(0, 1);
+        assertThat(index.activeAt(5000)).extracting(VideoCueDto::position).containsExactly(0, 2);
+    }
+
+    @Test
+    void startIsInclusiveAndEndExclusive() {
+        assertThat(index.activeAt(2000)).extracting(VideoCueDto::position).containsExactly(0);
+        assertThat(index.activeAt(4000)).extracting(VideoCueDto::position).containsExactly(0, 2);
+        assertThat(index.activeAt(10_000)).isEmpty();
+        assertThat(index.activeAt(-1)).isEmpty();
+    }
+}
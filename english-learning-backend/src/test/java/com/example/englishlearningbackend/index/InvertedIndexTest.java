@@ -0,0 +1,54 @@
+package com.example.englishlearningbackend.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    @Test
+    void intersectsPostingsAndRanksByBm25() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, "Can you stop by the store and buy some milk?");
+        index.put(2, "I'll swing by the store, the store near the bakery.");
+        index.put(3, "Feel free to drop by the office anytime.");
+
+        assertThat(index.search("store", 10)).extracting(InvertedIndex.Hit::key).containsExactly(2L, 1L);
+        assertThat(index.search("stop store", 10)).extracting(InvertedIndex.Hit::key).containsExactly(1L);
+        assertThat(index.search("store office", 10)).isEmpty();
+    }
+
+    @Test
+    void matchesKoreanByBigrams() {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, "가게에 들러서 우유 좀 사올래요?");
+        index.put(2, "도움이 필요하면 언제든지 사무실에 들러주세요");
+
+        assertThat(index.search("들러", 10)).extracting(InvertedIndex.Hit::key).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("사무실", 10)).extracting(InvertedIndex.Hit::key).containsExactly(2L);
+    }
+
+    @Test
+    void updatesReplaceDocumentsAndSurvivePersistence() throws IOException {
+        InvertedIndex index = new InvertedIndex();
+        index.put(1, "stop by the store");
+        index.put(2, "swing by the bakery");
+        index.put(1, "stop by the office");
+        index.remove(2);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        InvertedIndex restored = InvertedIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(restored.size()).isEqualTo(1);
+        assertThat(restored.search("store", 10)).isEmpty();
+        assertThat(restored.search("office", 10)).extracting(InvertedIndex.Hit::key).containsExactly(1L);
+        assertThat(restored.search("bakery", 10)).isEmpty();
+    }
+}
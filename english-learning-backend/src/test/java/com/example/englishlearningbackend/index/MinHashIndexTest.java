@@ -0,0 +1,54 @@
+package com.example.englishlearningbackend.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MinHashIndexTest {
+
+    @Test
+    void findsNearDuplicatesButNotUnrelatedSentences() {
+        MinHashIndex index = new MinHashIndex();
+        index.put(1, "She gave up smoking after the doctor warned her.");
+        index.put(2, "She gave up smoking after her doctor warned her!");
+        index.put(3, "The meeting was called off because of the storm.");
+        index.put(4, "He looked up the word in his dictionary.");
+
+        assertThat(index.similar(1, 5, 0.5).orElseThrow())
+                .extracting(MinHashIndex.Match::key).containsExactly(2L);
+        assertThat(index.similar(MinHashIndex.signature("the meeting was called off because of the storm"), 5, 0.9))
+                .extracting(MinHashIndex.Match::key).containsExactly(3L);
+        assertThat(index.similar(99, 5, 0.5)).isEmpty();
+        assertThat(index.signatureOf(3)).isEqualTo(MinHashIndex.signature("The meeting was called off because of the storm."));
+        assertThat(index.signatureOf(99)).isNull();
+    }
+
+    @Test
+    void estimatesJaccardSimilarity() {
+        char[] a = MinHashIndex.signature("Could you pick me up at the station tomorrow morning?");
+        char[] b = MinHashIndex.signature("Could you pick me up at the airport tomorrow evening?");
+
+        assertThat(MinHashIndex.similarity(a, a)).isEqualTo(1.0);
+        assertThat(MinHashIndex.similarity(a, b)).isBetween(0.3, 0.8);
+        assertThat(MinHashIndex.signature("?!")).isNull();
+    }
+
+    @Test
+    void removedAndReplacedSentencesAreNotReturned() {
+        MinHashIndex index = new MinHashIndex();
+        for (int i = 0; i < 5000; i++) {
+            index.put(i, "Sentence number " + i + " is about topic " + (i * 7919 % 1000));
+        }
+        index.put(10, "I ran into an old friend at the market.");
+        index.put(11, "I ran into an old friend at the market today.");
+        for (int i = 1000; i < 5000; i++) {
+            index.remove(i);
+        }
+
+        assertThat(index.size()).isEqualTo(1000);
+        assertThat(index.similar(10, 5, 0.6).orElseThrow())
+                .extracting(MinHashIndex.Match::key).containsExactly(11L);
+        index.remove(11);
+        assertThat(index.similar(10, 5, 0.6).orElseThrow()).isEmpty();
+    }
+}
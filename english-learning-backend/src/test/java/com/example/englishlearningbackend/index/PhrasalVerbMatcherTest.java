@@ -0,0 +1,32 @@
+package com.example.englishlearningbackend.index;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PhrasalVerbMatcherTest {
+    private final PhrasalVerbMatcher matcher = PhrasalVerbMatcher.builder(3)
+            .add(1, "Stop by")
+            .add(2, "Swing by")
+            .add(3, "Drop by")
+            .add(4, "look forward to")
+            .add(5, "stop")
+            .build();
+
+    @Test
+    void matchesInflectedVerbs() {
+        String text = "She stopped by, then swung by again. He's stopping BY now and looks forward to it.";
+
+        assertThat(matcher.findAll(text).stream().map(m -> m.id() + ":" + text.substring(m.start(), m.end())))
+                .containsExactly("1:stopped by", "2:swung by", "1:stopping BY", "4:looks forward to");
+        assertThat(matcher.size()).isEqualTo(4);
+    }
+
+    @Test
+    void allowsBoundedObjectGapBeforeTheParticle() {
+        String text = "Drop it by later. Drop the old red car by. Drop this, by the way. Drop off to by.";
+
+        assertThat(matcher.findAll(text).stream().map(m -> text.substring(m.start(), m.end())))
+                .containsExactly("Drop it by");
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.englishlearningbackend.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuizPoolTest {
+
+    private final QuizPool pool = QuizPool.builder()
+            .word(1, "Stop by", true)
+            .word(2, "Swing by", true)
+            .word(3, "Drop by", true)
+            .word(4, "Store", false)
+            .word(5, "Bakery", false)
+            .meaning(4, "가게")
+            .meaning(1, "잠시 들르다")
+            .meaning(2, "들르다")
+            .meaning(1, "방문하다")
+            .meaning(3, "잠깐 들르다")
+            .meaning(5, "빵집")
+            .sentence(4, 40)
+            .sentence(1, 10)
+            .build();
+
+    @Test
+    void drawsPromptsFromTheRequestedGroup() {
+        Random random = new Random(7);
+        for (int i = 0; i < 50; i++) {
+            assertThat(pool.word(pool.randomWord(true, random))).endsWith(" by");
+            assertThat(pool.wordId(pool.randomWord(false, random))).isIn(4L, 5L);
+            assertThat(pool.sentenceId(pool.randomSentence(false, random))).isEqualTo(40L);
+        }
+    }
+
+    @Test
+    void limitsPromptsToFrequentWords() {
+        QuizPool ranked = QuizPool.builder()
+                .word(1, "Stop by", true, 3)
+                .word(2, "Swing by", true)
+                .word(4, "Store", false, 1)
+                .word(5, "Bakery", false, 2)
+                .meaning(1, "잠시 들르다")
+                .meaning(2, "들르다")
+                .meaning(4, "가게")
+                .meaning(5, "빵집")
+                .sentence(5, 50)
+                .sentence(2, 20)
+                .build();
+        Random random = new Random(7);
+        for (int i = 0; i < 50; i++) {
+            assertThat(ranked.wordId(ranked.randomWord(null, 1, random))).isEqualTo(4L);
+            assertThat(ranked.wordId(ranked.randomWord(null, 3, random))).isIn(1L, 4L, 5L);
+            assertThat(ranked.sentenceId(ranked.randomSentence(null, 2, random))).isEqualTo(50L);
+        }
+        assertThat(ranked.randomWord(true, 2, random)).isEqualTo(-1);
+    }
+
+    @Test
+    void distractorsExcludeTheWordsOwnMeanings() {
+        Random random = new Random(7);
+        int stopBy = 0;
+        for (int i = 0; i < 50; i++) {
+            List<String> distractors = pool.distractorMeanings(stopBy, 2, random);
+            assertThat(distractors).hasSize(2).doesNotHaveDuplicates()
+                    .doesNotContain("잠시 들르다", "방문하다")
+                    .isSubsetOf("들르다", "잠깐 들르다");
+        }
+        assertThat(pool.distractorMeanings(stopBy, 3, random)).hasSize(3);
+        assertThat(pool.distractorWords(stopBy, 2, random)).containsExactlyInAnyOrder("Swing by", "Drop by");
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.englishlearningbackend.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RoaringBitmapTest {
+
+    @Test
+    void matchesBitSetAcrossSparseAndDenseContainers() {
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            BitSet expectedA = new BitSet();
+            BitSet expectedB = new BitSet();
+            RoaringBitmap a = fill(random, expectedA);
+            RoaringBitmap b = fill(random, expectedB);
+
+            BitSet and = (BitSet) expectedA.clone();
+            and.and(expectedB);
+            BitSet andNot = (BitSet) expectedA.clone();
+            andNot.andNot(expectedB);
+            BitSet or = (BitSet) expectedA.clone();
+            or.or(expectedB);
+
+            assertThat(RoaringBitmap.and(a, b).toArray(Integer.MAX_VALUE)).isEqualTo(and.stream().toArray());
+            assertThat(RoaringBitmap.andCardinality(a, b)).isEqualTo(and.cardinality());
+            assertThat(RoaringBitmap.andNot(a, b).toArray(Integer.MAX_VALUE)).isEqualTo(andNot.stream().toArray());
+            assertThat(RoaringBitmap.or(a, b).toArray(Integer.MAX_VALUE)).isEqualTo(or.stream().toArray());
+            assertThat(a.cardinality()).isEqualTo(expectedA.cardinality());
+        }
+    }
+
+    @Test
+    void removingShrinksDenseContainersBackToArrays() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int i = 0; i < 10000; i++) {
+            bitmap.add(i);
+        }
+        for (int i = 0; i < 10000; i += 2) {
+            bitmap.remove(i);
+        }
+        bitmap.remove(123_456);
+
+        assertThat(bitmap.cardinality()).isEqualTo(5000);
+        assertThat(bitmap.contains(1)).isTrue();
+        assertThat(bitmap.contains(2)).isFalse();
+        assertThat(bitmap.toArray(3)).containsExactly(1, 3, 5);
+    }
+
+    @Test
+    void survivesSerialization() {
+        RoaringBitmap bitmap = fill(new Random(7), new BitSet());
+        bitmap.add(Integer.MAX_VALUE);
+
+        RoaringBitmap copy = RoaringBitmap.fromBytes(bitmap.toBytes());
+
+        assertThat(copy.toArray(Integer.MAX_VALUE)).isEqualTo(bitmap.toArray(Integer.MAX_VALUE));
+        assertThat(RoaringBitmap.fromBytes(new RoaringBitmap().toBytes()).isEmpty()).isTrue();
+    }
+
+    /**
+     * Mixes a dense chunk, a sparse chunk and scattered values so both container kinds meet.
+     */
+    private static RoaringBitmap fill(Random random, BitSet expected) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int i = 0; i < 6000; i++) {
+            add(bitmap, expected, random.nextInt(1 << 16));
+        }
+        for (int i = 0; i < 300; i++) {
+            add(bitmap, expected, (1 << 16) + random.nextInt(1 << 16));
+        }
+        for (int i = 0; i < 200; i++) {
+            add(bitmap, expected, random.nextInt(1 << 22));
+        }
+        return bitmap;
+    }
+
+    private static void add(RoaringBitmap bitmap, BitSet expected, int value) {
+        bitmap.add(value);
+        expected.set(value);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.englishlearningbackend.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpaceSavingTest {
+
+    @Test
+    void keepsHeavyHittersAmongManyRareItems() {
+        SpaceSaving tracker = new SpaceSaving(10);
+        Random random = new Random(42);
+        for (int i = 0; i < 100000; i++) {
+            if (i % 4 == 0) {
+                tracker.add(1, 1);
+            } else if (i % 4 == 1) {
+                tracker.add(2, 1);
+            } else if (i % 8 == 2) {
+                tracker.add(3, 1);
+            } else {
+                tracker.add(100 + random.nextInt(100000), 1);
+            }
+        }
+
+        assertThat(tracker.top(3)).extracting(SpaceSaving.Counter::item).containsExactly(1L, 2L, 3L);
+        SpaceSaving.Counter first = tracker.top(1).getFirst();
+        assertThat(first.count()).isGreaterThanOrEqualTo(25000);
+        assertThat(first.count() - first.error()).isLessThanOrEqualTo(25000);
+        assertThat(tracker.top(100)).hasSize(10);
+    }
+
+    @Test
+    void survivesSerialization() throws IOException {
+        SpaceSaving tracker = new SpaceSaving(2);
+        tracker.add(1, 5);
+        tracker.add(2, 3);
+        tracker.add(3, 1);
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        tracker.writeTo(new DataOutputStream(buffer));
+
+        SpaceSaving copy = SpaceSaving.readFrom(new DataInputStream(new ByteArrayInputStream(buffer.toByteArray())));
+        copy.add(3, 10);
+
+        assertThat(copy.top(2)).containsExactly(new SpaceSaving.Counter(3, 14, 3), new SpaceSaving.Counter(1, 5, 0));
+        assertThat(copy.count(2)).isEqualTo(-1);
+    }
+
+    @Test
+    void keepsTheLargestCountersWhenResized() {
+        SpaceSaving tracker = new SpaceSaving(3);
+        tracker.add(1, 5);
+        tracker.add(2, 3);
+        tracker.add(3, 1);
+        tracker.add(4, 3);
+
+        SpaceSaving smaller = tracker.resized(2);
+        assertThat(smaller.capacity()).isEqualTo(2);
+        assertThat(smaller.top(2)).containsExactly(new SpaceSaving.Counter(1, 5, 0), new SpaceSaving.Counter(4, 4, 1));
+        smaller.add(5, 1);
+        assertThat(smaller.count(5)).isEqualTo(5);
+
+        SpaceSaving larger = tracker.resized(5);
+        larger.add(6, 1);
+        assertThat(larger.top(5)).hasSize(4).contains(new SpaceSaving.Counter(6, 1, 0));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.englishlearningbackend.index;
+
+import com.example.englishlearningbackend.dto.WordSuggestionDto;
+import com.example.englishlearningbackend.dto.WordSummaryDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WordPrefixIndexTest {
+
+    @Test
+    void suggestsPhrasalVerbsByPrefixRankedByPopularity() {
+        WordPrefixIndex index = new WordPrefixIndex();
+        index.rebuild(List.of(
+                new WordSummaryDto(1L, "Stop by", true),
+                new WordSummaryDto(2L, "Swing by", true),
+                new WordSummaryDto(3L, "Stop over", true),
+                new WordSummaryDto(4L, "Store", false)));
+        index.recordHit("stop over");
+        index.recordHit("Stop  Over");
+
+        List<WordSuggestionDto> suggestions = index.suggest("st", 10);
+
+        assertThat(suggestions).extracting(WordSuggestionDto::word)
+                .containsExactly("Stop over", "Store", "Stop by");
+        assertThat(index.suggest("stop b", 10)).extracting(WordSuggestionDto::id).containsExactly(1L);
+        assertThat(index.suggest("st", 1)).hasSize(1);
+    }
+
+    @Test
+    void incrementalUpdatesKeepPopularity() {
+        WordPrefixIndex index = new WordPrefixIndex();
+        index.rebuild(List.of(new WordSummaryDto(1L, "Drop by", true)));
+        index.recordHit("drop by");
+
+        index.add(2L, "Drop in");
+        index.add(3L, "Come by");
+        index.removeById(3L);
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.suggest("drop", 10))
+                .containsExactly(new WordSuggestionDto(1L, "Drop by", 1), new WordSuggestionDto(2L, "Drop in", 0));
+        assertThat(index.suggest("come", 10)).isEmpty();
+    }
+
+    @Test
+    void topSuggestionsMatchAFullSortOfTheRange() {
+        Random random = new Random(42);
+        List<WordSummaryDto> words = new ArrayList<>();
+        for (int i = 1; i <= 3000; i++) {
+            words.add(new WordSummaryDto((long) i, "w" + Integer.toString(i, 5), false));
+        }
+        WordPrefixIndex index = new WordPrefixIndex();
+        index.rebuild(words);
+        index.setFrequencyRanks(id -> id % 7 == 0 ? (int) (id % 100) : Integer.MAX_VALUE);
+        long[] hits = new long[words.size() + 1];
+        for (int i = 0; i < 20000; i++) {
+            int id = 1 + (int) Math.abs(random.nextGaussian() * 400) % words.size();
+            hits[id]++;
+            index.recordHit(words.get(id - 1).word());
+        }
+
+        for (String prefix : List.of("w", "w1", "w23", "w4044")) {
+            List<WordSummaryDto> expected = words.stream()
+                    .filter(w -> w.word().startsWith(prefix))
+                    .sorted(Comparator.<WordSummaryDto>comparingLong(w -> -hits[w.id().intValue()])
+                            .thenComparingLong(w -> w.id() % 7 == 0 ? w.id() % 100 : Integer.MAX_VALUE)
+                            .thenComparingInt(w -> w.word().length())
+                            .thenComparing(WordSummaryDto::word))
+                    .limit(10)
+                    .toList();
+            assertThat(index.suggest(prefix, 10)).extracting(WordSuggestionDto::id)
+                    .containsExactlyElementsOf(expected.stream().map(WordSummaryDto::id).toList());
+        }
+    }
+}
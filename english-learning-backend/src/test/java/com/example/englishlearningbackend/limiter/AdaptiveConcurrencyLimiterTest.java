@@ -0,0 +1,79 @@
+package com.example.englishlearningbackend.limiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdaptiveConcurrencyLimiter limiter(int initial, int maxQueue) {
+        return new AdaptiveConcurrencyLimiter(initial, 1, 10, maxQueue, Duration.ofMillis(100), 0.5, clock::get);
+    }
+
+    @Test
+    void shedsWhenLimitAndQueueAreFull() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 0);
+        limiter.acquire(Duration.ZERO);
+        limiter.acquire(Duration.ZERO);
+
+        assertThatThrownBy(() -> limiter.acquire(Duration.ofSeconds(1))).isInstanceOf(LimitExceededException.class);
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void queuedCallerTimesOutWithoutTakingAPermit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1);
+        limiter.acquire(Duration.ZERO);
+
+        assertThatThrownBy(() -> limiter.acquire(Duration.ofMillis(20))).isInstanceOf(LimitExceededException.class);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getWaiting()).isZero();
+    }
+
+    @Test
+    void queuedCallerProceedsWhenAPermitIsReleased() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(1, 1);
+        long start = limiter.acquire(Duration.ZERO);
+
+        Thread waiter = Thread.ofVirtual().start(() -> {
+            try {
+                limiter.release(limiter.acquire(Duration.ofSeconds(5)), false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        while (limiter.getWaiting() == 0) {
+            Thread.onSpinWait();
+        }
+        limiter.release(start, false);
+        waiter.join(5000);
+
+        assertThat(waiter.isAlive()).isFalse();
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void backsOffOnSlowCallsAndGrowsOnFastSaturatedCalls() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = limiter(4, 0);
+
+        long start = limiter.acquire(Duration.ZERO);
+        clock.addAndGet(Duration.ofMillis(500).toNanos());
+        limiter.release(start, false);
+        assertThat(limiter.getLimit()).isEqualTo(2);
+
+        start = limiter.acquire(Duration.ZERO);
+        limiter.release(start, true);
+        assertThat(limiter.getLimit()).isEqualTo(1);
+
+        for (int i = 0; i < 3; i++) {
+            limiter.release(limiter.acquire(Duration.ZERO), false);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.englishlearningbackend.limiter;
+
+import com.example.englishlearningbackend.config.DatabaseLimiterConfig;
+import com.example.englishlearningbackend.config.DatabaseLimiterProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimitingInterceptorTest {
+
+    @Test
+    void admitsCallsBeforeTheirTransactionTakesAConnection() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(TestConfig.class)) {
+            AdaptiveConcurrencyLimiter limiter = context.getBean(AdaptiveConcurrencyLimiter.class);
+            RecordingTransactionManager transactions = context.getBean(RecordingTransactionManager.class);
+            LimitedService service = context.getBean(LimitedService.class);
+
+            service.read();
+            assertThat(transactions.inFlightAtBegin).containsExactly(1);
+            assertThat(service.inFlight()).containsExactly(1);
+
+            context.getBean(OuterService.class).readInside();
+            assertThat(service.inFlight()).containsExactly(1, 0);
+            assertThat(limiter.getInFlight()).isZero();
+        }
+    }
+
+    @Test
+    void poolTimeoutsFromTheTransactionCountAsOverload() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(TestConfig.class)) {
+            AdaptiveConcurrencyLimiter limiter = context.getBean(AdaptiveConcurrencyLimiter.class);
+            context.getBean(RecordingTransactionManager.class).failBegin = true;
+            int before = limiter.getLimit();
+
+            assertThatThrownBy(() -> context.getBean(LimitedService.class).read())
+                    .isInstanceOf(CannotCreateTransactionException.class);
+
+            assertThat(limiter.getLimit()).isLessThan(before);
+        }
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import(DatabaseLimiterConfig.class)
+    static class TestConfig {
+
+        @Bean
+        DatabaseLimiterProperties databaseLimiterProperties() {
+            return new DatabaseLimiterProperties(true, 8, 2, 20, 10, Duration.ofMillis(100), Duration.ofSeconds(10), 0.5);
+        }
+
+        @Bean
+        RecordingTransactionManager transactionManager(ObjectProvider<AdaptiveConcurrencyLimiter> limiter) {
+            return new RecordingTransactionManager(limiter);
+        }
+
+        @Bean
+        LimitedService limitedService(AdaptiveConcurrencyLimiter limiter) {
+            return new LimitedService(limiter);
+        }
+
+        @Bean
+        OuterService outerService(LimitedService limitedService) {
+            return new OuterService(limitedService);
+        }
+    }
+
+    static class LimitedService {
+        private final AdaptiveConcurrencyLimiter limiter;
+        private final List<Integer> inFlight = new ArrayList<>();
+
+        LimitedService(AdaptiveConcurrencyLimiter limiter) {
+            this.limiter = limiter;
+        }
+
+        @DatabaseLimited
+        @Transactional(readOnly = true)
+        public void read() {
+            inFlight.add(limiter.getInFlight());
+        }
+
+        public List<Integer> inFlight() {
+            return inFlight;
+        }
+    }
+
+    static class OuterService {
+        private final LimitedService limitedService;
+
+        OuterService(LimitedService limitedService) {
+            this.limitedService = limitedService;
+        }
+
+        @Transactional
+        public void readInside() {
+            limitedService.read();
+        }
+    }
+
+    static class RecordingTransactionManager extends AbstractPlatformTransactionManager implements PlatformTransactionManager {
+        private final ObjectProvider<AdaptiveConcurrencyLimiter> limiter;
+        final List<Integer> inFlightAtBegin = new ArrayList<>();
+        boolean failBegin;
+
+        RecordingTransactionManager(ObjectProvider<AdaptiveConcurrencyLimiter> limiter) {
+            this.limiter = limiter;
+        }
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            if (failBegin) {
+                throw new CannotCreateTransactionException("pool exhausted");
+            }
+            inFlightAtBegin.add(limiter.getObject().getInFlight());
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.englishlearningbackend.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RepositoryRowCountInterceptorTest {
+
+    interface Rows {
+        List<String> list();
+
+        Optional<String> missing();
+
+        Stream<String> stream();
+    }
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private Rows proxy() {
+        ProxyFactory factory = new ProxyFactory(new Rows() {
+            @Override
+            public List<String> list() {
+                return List.of("a", "b", "c");
+            }
+
+            @Override
+            public Optional<String> missing() {
+                return Optional.empty();
+            }
+
+            @Override
+            public Stream<String> stream() {
+                return Stream.of("a", "b");
+            }
+        });
+        factory.addInterface(Rows.class);
+        factory.addAdvice(new RepositoryRowCountInterceptor(() -> registry, "rows"));
+        return (Rows) factory.getProxy();
+    }
+
+    private DistributionSummary summary(String method) {
+        return registry.get(RepositoryRowCountInterceptor.METRIC_NAME)
+                .tags("repository", "rows", "method", method)
+                .summary();
+    }
+
+    @Test
+    void recordsRowsPerMethod() {
+        Rows rows = proxy();
+        rows.list();
+        rows.list();
+        rows.missing();
+
+        assertThat(summary("list").count()).isEqualTo(2);
+        assertThat(summary("list").totalAmount()).isEqualTo(6);
+        assertThat(summary("missing").totalAmount()).isZero();
+    }
+
+    @Test
+    void recordsStreamedRowsWhenClosed() {
+        try (Stream<String> stream = proxy().stream()) {
+            assertThat(stream.toList()).hasSize(2);
+        }
+
+        assertThat(summary("stream").count()).isEqualTo(1);
+        assertThat(summary("stream").totalAmount()).isEqualTo(2);
+    }
+}
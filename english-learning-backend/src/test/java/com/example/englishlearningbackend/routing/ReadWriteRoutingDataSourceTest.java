@@ -0,0 +1,167 @@
+package com.example.englishlearningbackend.routing;
+
+import com.example.englishlearningbackend.event.ChangeType;
+import com.example.englishlearningbackend.event.ContentChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Two in-memory H2 databases stand in for the primary and the replica; each knows its own name.
+ */
+class ReadWriteRoutingDataSourceTest {
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaLagMonitor monitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        replica = database("replica");
+        monitor = new ReplicaLagMonitor(primary, replica, Duration.ofSeconds(5), clock::get);
+        DataSource routing = new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replica, monitor, registry));
+        jdbcTemplate = new JdbcTemplate(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void routesReadOnlyTransactionsToAFreshReplica() {
+        replicate();
+        monitor.check();
+
+        assertThat(nameIn(readOnly)).isEqualTo("replica");
+        double writes = count("primary", "write");
+        assertThat(nameIn(readWrite)).isEqualTo("primary");
+        assertThat(name()).isEqualTo("primary");
+        assertThat(count("replica", "read")).isEqualTo(1);
+        assertThat(count("primary", "write")).isEqualTo(writes + 2);
+    }
+
+    @Test
+    void fallsBackToThePrimaryWhileTheReplicaLags() {
+        assertThat(nameIn(readOnly)).isEqualTo("primary");
+
+        replicate();
+        monitor.check();
+        assertThat(monitor.isReplicaUsable()).isTrue();
+
+        clock.addAndGet(6_000);
+        monitor.check();
+        assertThat(monitor.getLagMillis()).isEqualTo(6_000);
+        assertThat(nameIn(readOnly)).isEqualTo("primary");
+        assertThat(count("primary", "replica_lag")).isEqualTo(2);
+    }
+
+    @Test
+    void expiresTheReplicaWhenChecksStop() {
+        replicate();
+        monitor.check();
+
+        clock.addAndGet(5_001);
+        assertThat(monitor.isReplicaUsable()).isFalse();
+        assertThat(nameIn(readOnly)).isEqualTo("primary");
+    }
+
+    @Test
+    void keepsReadsOnThePrimaryAfterAnImportUntilTheReplicaCatchesUp() {
+        replicate();
+        monitor.check();
+
+        clock.incrementAndGet();
+        monitor.onContentImported();
+        assertThat(nameIn(readOnly)).isEqualTo("primary");
+        monitor.check();
+        assertThat(monitor.isReplicaUsable()).isFalse();
+
+        clock.incrementAndGet();
+        replicate();
+        monitor.check();
+        assertThat(nameIn(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    void fencesTheReplicaBeforeOtherListenersSeeACommittedEdit() {
+        replicate();
+        monitor.check();
+        clock.incrementAndGet();
+
+        List<Boolean> usableAfterCommit = new ArrayList<>();
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.registerBean(TransactionalEventListenerFactory.class);
+            context.registerBean(ReplicaLagMonitor.class, () -> monitor);
+            context.registerBean(EditListener.class, () -> new EditListener(monitor, usableAfterCommit));
+            context.refresh();
+            readWrite.executeWithoutResult(status -> {
+                context.publishEvent(new ContentChangedEvent(new Object(), ChangeType.UPDATED));
+                assertThat(monitor.isReplicaUsable()).isTrue();
+            });
+        }
+
+        assertThat(usableAfterCommit).containsExactly(false);
+    }
+
+    private String nameIn(TransactionTemplate transaction) {
+        return transaction.execute(status -> name());
+    }
+
+    private String name() {
+        return jdbcTemplate.queryForObject("SELECT name FROM server", String.class);
+    }
+
+    private void replicate() {
+        new JdbcTemplate(replica).update("UPDATE replica_heartbeat SET beat_millis = ? WHERE id = 1", clock.get());
+    }
+
+    private double count(String route, String reason) {
+        return registry.get(ReadWriteRoutingDataSource.METRIC_NAME).tag("route", route).tag("reason", reason).counter().count();
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing-" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE server (name VARCHAR(16))");
+        jdbc.update("INSERT INTO server (name) VALUES (?)", name);
+        jdbc.execute("CREATE TABLE replica_heartbeat (id TINYINT PRIMARY KEY, beat_millis BIGINT NOT NULL)");
+        jdbc.update("INSERT INTO replica_heartbeat (id, beat_millis) VALUES (1, 0)");
+        return dataSource;
+    }
+
+    static class EditListener {
+        private final ReplicaLagMonitor monitor;
+        private final List<Boolean> usable;
+
+        EditListener(ReplicaLagMonitor monitor, List<Boolean> usable) {
+            this.monitor = monitor;
+            this.usable = usable;
+        }
+
+        @TransactionalEventListener(fallbackExecution = true)
+        public void onContentChanged(ContentChangedEvent event) {
+            usable.add(monitor.isReplicaUsable());
+        }
+    }
+}
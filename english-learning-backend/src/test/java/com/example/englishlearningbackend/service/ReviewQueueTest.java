@@ -0,0 +1,75 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.config.ReviewProperties;
+import com.example.englishlearningbackend.dto.ReviewDueDto;
+import com.example.englishlearningbackend.entity.Word;
+import com.example.englishlearningbackend.event.ChangeType;
+import com.example.englishlearningbackend.event.ContentChangedEvent;
+import com.example.englishlearningbackend.event.ReviewScheduledEvent;
+import com.example.englishlearningbackend.repository.ReviewCardRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+class ReviewQueueTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    private final ReviewCardRepository repository = mock(ReviewCardRepository.class);
+    private final ReviewQueue queue = new ReviewQueue(repository, new ReviewProperties(100, Duration.ofMinutes(30)));
+
+    @Test
+    void returnsDueCardsOldestFirstUpToTheLimit() {
+        given(repository.findDueEntries("kim")).willReturn(List.of(
+                new ReviewDueDto(1L, 11L, NOW.plusDays(1)),
+                new ReviewDueDto(2L, 12L, NOW.minusDays(2)),
+                new ReviewDueDto(3L, 13L, NOW),
+                new ReviewDueDto(4L, 14L, NOW.minusDays(2))));
+
+        assertThat(queue.dueCardIds("kim", NOW, 10)).containsExactly(2L, 4L, 3L);
+        assertThat(queue.dueCardIds("kim", NOW, 2)).containsExactly(2L, 4L);
+        assertThat(queue.dueCardIds("kim", NOW.plusDays(1), 10)).containsExactly(2L, 4L, 3L, 1L);
+        then(repository).should(times(1)).findDueEntries("kim");
+    }
+
+    @Test
+    void gradesAndEnrolmentsMoveCardsInLoadedQueuesOnly() {
+        given(repository.findDueEntries("kim")).willReturn(List.of(
+                new ReviewDueDto(1L, 11L, NOW.minusDays(1)),
+                new ReviewDueDto(2L, 12L, NOW.minusHours(1))));
+        queue.dueCardIds("kim", NOW, 10);
+
+        queue.onReviewScheduled(new ReviewScheduledEvent("kim", 1L, 11L, NOW.plusDays(6)));
+        queue.onReviewScheduled(new ReviewScheduledEvent("kim", 5L, 15L, NOW));
+        queue.onReviewScheduled(new ReviewScheduledEvent("lee", 9L, 11L, NOW));
+
+        assertThat(queue.dueCardIds("kim", NOW, 10)).containsExactly(2L, 5L);
+        assertThat(queue.dueCardIds("kim", NOW.plusDays(6), 10)).containsExactly(2L, 5L, 1L);
+        given(repository.findDueEntries("lee")).willReturn(List.of());
+        assertThat(queue.dueCardIds("lee", NOW, 10)).isEmpty();
+    }
+
+    @Test
+    void dropsTheCardsOfADeletedWord() {
+        given(repository.findDueEntries("kim")).willReturn(List.of(
+                new ReviewDueDto(1L, 11L, NOW.minusDays(1)),
+                new ReviewDueDto(2L, 12L, NOW.minusHours(1))));
+        given(repository.findDueEntries("lee")).willReturn(List.of(new ReviewDueDto(9L, 11L, NOW)));
+        queue.dueCardIds("kim", NOW, 10);
+        queue.dueCardIds("lee", NOW, 10);
+
+        Word word = new Word();
+        word.setId(11L);
+        queue.onContentChanged(new ContentChangedEvent(word, ChangeType.DELETED));
+
+        assertThat(queue.dueCardIds("kim", NOW, 1)).containsExactly(2L);
+        assertThat(queue.dueCardIds("lee", NOW, 10)).isEmpty();
+    }
+}
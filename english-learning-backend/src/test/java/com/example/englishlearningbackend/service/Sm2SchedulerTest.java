@@ -0,0 +1,58 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.entity.ReviewCard;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class Sm2SchedulerTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 9, 0);
+
+    @Test
+    void growsIntervalsThroughTheRepetitionSequence() {
+        ReviewCard card = new ReviewCard();
+
+        Sm2Scheduler.grade(card, 5, NOW);
+        assertThat(card.getIntervalDays()).isEqualTo(1);
+        assertThat(card.getEaseFactor()).isCloseTo(2.6, within(1e-9));
+
+        Sm2Scheduler.grade(card, 5, NOW);
+        assertThat(card.getIntervalDays()).isEqualTo(6);
+        assertThat(card.getEaseFactor()).isCloseTo(2.7, within(1e-9));
+
+        Sm2Scheduler.grade(card, 4, NOW);
+        assertThat(card.getRepetitions()).isEqualTo(3);
+        assertThat(card.getIntervalDays()).isEqualTo(16);
+        assertThat(card.getEaseFactor()).isCloseTo(2.7, within(1e-9));
+        assertThat(card.getLastReviewedAt()).isEqualTo(NOW);
+        assertThat(card.getDueAt()).isEqualTo(NOW.plusDays(16));
+    }
+
+    @Test
+    void failedRecallRestartsTheSequenceAndLowersEase() {
+        ReviewCard card = new ReviewCard();
+        Sm2Scheduler.grade(card, 5, NOW);
+        Sm2Scheduler.grade(card, 5, NOW);
+
+        Sm2Scheduler.grade(card, 2, NOW);
+
+        assertThat(card.getRepetitions()).isZero();
+        assertThat(card.getIntervalDays()).isEqualTo(1);
+        assertThat(card.getEaseFactor()).isCloseTo(2.38, within(1e-9));
+        assertThat(card.getDueAt()).isEqualTo(NOW.plusDays(1));
+    }
+
+    @Test
+    void easeFactorNeverDropsBelowTheFloor() {
+        ReviewCard card = new ReviewCard();
+        for (int i = 0; i < 5; i++) {
+            Sm2Scheduler.grade(card, Sm2Scheduler.MIN_GRADE, NOW);
+        }
+
+        assertThat(card.getEaseFactor()).isEqualTo(1.3);
+        assertThat(card.getIntervalDays()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.config.StudyEventProperties;
+import com.example.englishlearningbackend.dto.StudyEventRequestDto;
+import com.example.englishlearningbackend.dto.StudyEventType;
+import com.example.englishlearningbackend.dto.StudyStatsDto;
+import com.example.englishlearningbackend.limiter.LimitExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StudyEventServiceTest {
+
+    @TempDir
+    Path spillPath;
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private StudyEventService service;
+
+    @BeforeEach
+    void setUp() throws SQLException, IOException {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE word (id BIGINT PRIMARY KEY)");
+        for (long id : new long[]{1, 2, 7, 8, 13}) {
+            jdbcTemplate.update("INSERT INTO word (id) VALUES (?)", id);
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V11__create_study_event_tables.sql"));
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V14__add_study_event_word_keys.sql"));
+        }
+        service = start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        service.close();
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void countsInMemoryAndWritesBatchesBehind() {
+        service.record("learner-1", List.of(event(StudyEventType.WORD_VIEWED, 7), event(StudyEventType.ANSWER_CORRECT, 7)));
+        service.record("learner-2", List.of(event(StudyEventType.ANSWER_WRONG, 7)));
+
+        assertThat(service.wordStats(7)).isEqualTo(new StudyStatsDto(1, 0, 1, 1));
+        assertThat(service.learnerStats("learner-1")).isEqualTo(new StudyStatsDto(1, 0, 1, 0));
+        assertThat(rows()).isZero();
+
+        service.flush();
+
+        assertThat(rows()).isEqualTo(3);
+        assertThat(service.getBuffered()).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(event_count) FROM study_word_stat WHERE word_id = 7", Long.class)).isEqualTo(3);
+    }
+
+    @Test
+    void rejectsWhenTheBufferIsFull() {
+        service.record("learner-1", Collections.nCopies(8, event(StudyEventType.WORD_VIEWED, 1)));
+
+        assertThatThrownBy(() -> service.record("learner-1", List.of(event(StudyEventType.WORD_VIEWED, 1))))
+                .isInstanceOf(LimitExceededException.class);
+        assertThat(service.getRejected()).isEqualTo(1);
+        assertThat(service.wordStats(1).wordViewed()).isEqualTo(8);
+    }
+
+    @Test
+    void spillsDuringAnOutageAndReplaysExactlyOnceAfterRestart() throws IOException {
+        service.record("learner-1", List.of(event(StudyEventType.WORD_VIEWED, 1)));
+        service.flush();
+
+        jdbcTemplate.execute("ALTER TABLE study_event RENAME TO study_event_offline");
+        service.record("learner-1", List.of(event(StudyEventType.WORD_VIEWED, 1), event(StudyEventType.SENTENCE_PRACTICED, 2)));
+        service.flush();
+        assertThat(service.getBuffered()).isZero();
+        assertThat(service.getSpillBytes()).isPositive();
+        service.close();
+
+        jdbcTemplate.execute("ALTER TABLE study_event_offline RENAME TO study_event");
+        service = start();
+
+        assertThat(rows()).isEqualTo(3);
+        assertThat(service.wordStats(1).wordViewed()).isEqualTo(2);
+        assertThat(service.learnerStats("learner-1")).isEqualTo(new StudyStatsDto(2, 1, 0, 0));
+
+        service.close();
+        service = start();
+        assertThat(rows()).isEqualTo(3);
+        assertThat(service.learnerStats("learner-1")).isEqualTo(new StudyStatsDto(2, 1, 0, 0));
+    }
+
+    @Test
+    void rejectsTimestampsOutsideTheColumnRange() {
+        assertThatIllegalArgumentException().isThrownBy(() -> service.record("learner-1",
+                List.of(new StudyEventRequestDto(StudyEventType.WORD_VIEWED, 1L, null, Instant.parse("2040-01-01T00:00:00Z")))));
+        assertThatIllegalArgumentException().isThrownBy(() -> service.record("learner-1",
+                List.of(new StudyEventRequestDto(StudyEventType.WORD_VIEWED, 1L, null, Instant.EPOCH))));
+        assertThat(service.getBuffered()).isZero();
+    }
+
+    @Test
+    void acceptsOnlyWordsOfTheDictionary() {
+        assertThatIllegalArgumentException().isThrownBy(() -> service.record("learner-1",
+                List.of(event(StudyEventType.WORD_VIEWED, 1), event(StudyEventType.WORD_VIEWED, 3))));
+        assertThatIllegalArgumentException().isThrownBy(() -> service.record("learner-1",
+                List.of(event(StudyEventType.WORD_VIEWED, Integer.MAX_VALUE + 1L))));
+        assertThat(service.getBuffered()).isZero();
+
+        jdbcTemplate.update("INSERT INTO word (id) VALUES (3)");
+        service.reloadWordIds();
+        service.record("learner-1", List.of(event(StudyEventType.WORD_VIEWED, 3)));
+        assertThat(service.wordStats(3).wordViewed()).isEqualTo(1);
+    }
+
+    @Test
+    void quarantinesEventsTheDatabaseKeepsRejecting() {
+        jdbcTemplate.execute("ALTER TABLE study_event ADD CONSTRAINT no_word_13 CHECK (word_id <> 13)");
+        service.record("learner-1", List.of(event(StudyEventType.WORD_VIEWED, 7), event(StudyEventType.WORD_VIEWED, 13),
+                event(StudyEventType.ANSWER_CORRECT, 8)));
+
+        service.flush();
+
+        assertThat(rows()).isEqualTo(2);
+        assertThat(service.getQuarantined()).isEqualTo(1);
+        assertThat(service.wordStats(13).wordViewed()).isZero();
+        assertThat(service.learnerStats("learner-1")).isEqualTo(new StudyStatsDto(1, 0, 1, 0));
+
+        service.record("learner-1", List.of(event(StudyEventType.WORD_VIEWED, 7)));
+        service.flush();
+        assertThat(rows()).isEqualTo(3);
+        assertThat(service.getSpillBytes()).isLessThan(DataSize.ofKilobytes(1).toBytes());
+    }
+
+    @Test
+    void keepsLearnerCountsRightWhenTheyAreEvicted() {
+        service.record("learner-1", List.of(event(StudyEventType.WORD_VIEWED, 1), event(StudyEventType.WORD_VIEWED, 2)));
+        service.record("learner-2", List.of(event(StudyEventType.ANSWER_WRONG, 1)));
+
+        assertThat(service.learnerStats("learner-1")).isEqualTo(new StudyStatsDto(2, 0, 0, 0));
+        service.flush();
+        assertThat(service.learnerStats("learner-2")).isEqualTo(new StudyStatsDto(0, 0, 0, 1));
+        service.record("learner-1", List.of(event(StudyEventType.SENTENCE_PRACTICED, 1)));
+        assertThat(service.learnerStats("learner-1")).isEqualTo(new StudyStatsDto(2, 1, 0, 0));
+        assertThat(service.learnerStats("learner-2")).isEqualTo(new StudyStatsDto(0, 0, 0, 1));
+    }
+
+    private StudyEventService start() throws IOException {
+        StudyEventService started = new StudyEventService(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                new StudyEventProperties(8, 2, Duration.ofMillis(200), spillPath, DataSize.ofKilobytes(1), DataSize.ofMegabytes(1), 1));
+        started.recover();
+        return started;
+    }
+
+    private int rows() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM study_event", Integer.class);
+    }
+
+    private static StudyEventRequestDto event(StudyEventType type, long wordId) {
+        return new StudyEventRequestDto(type, wordId, null, null);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.config.SyncProperties;
+import com.example.englishlearningbackend.dto.SyncResponseDto;
+import com.example.englishlearningbackend.dto.TombstoneDto;
+import com.example.englishlearningbackend.dto.WordChangeDto;
+import com.example.englishlearningbackend.repository.MeaningRepository;
+import com.example.englishlearningbackend.repository.SentenceRepository;
+import com.example.englishlearningbackend.repository.SyncTombstoneRepository;
+import com.example.englishlearningbackend.repository.WordRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:sync;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class SyncServiceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private WordRepository wordRepository;
+
+    @Autowired
+    private MeaningRepository meaningRepository;
+
+    @Autowired
+    private SentenceRepository sentenceRepository;
+
+    @Autowired
+    private SyncTombstoneRepository syncTombstoneRepository;
+
+    private SyncService syncService;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        syncService = new SyncService(wordRepository, meaningRepository, sentenceRepository, syncTombstoneRepository,
+                new SyncProperties(Duration.ofSeconds(5), Duration.ofDays(90)));
+        now = wordRepository.findDatabaseTime();
+    }
+
+    @Test
+    void pagesThroughChangesAndThenReturnsOnlyNewerOnes() {
+        insertWord("give up", now.minusHours(3));
+        insertWord("look after", now.minusHours(2));
+        insertWord("run into", now.minusHours(1));
+        insertWord("set off", now);
+
+        SyncResponseDto first = syncService.changesSince(null, 2).orElseThrow();
+        assertThat(first.words()).extracting(WordChangeDto::word).containsExactly("give up", "look after");
+        assertThat(first.hasMore()).isTrue();
+
+        SyncResponseDto second = syncService.changesSince(first.nextToken(), 2).orElseThrow();
+        assertThat(second.words()).extracting(WordChangeDto::word).containsExactly("run into");
+        assertThat(second.hasMore()).isFalse();
+
+        entityManager.createNativeQuery("UPDATE word SET is_phrasal_verb = TRUE, updated_at = ? WHERE word = 'give up'")
+                .setParameter(1, now.minusMinutes(10)).executeUpdate();
+        SyncResponseDto third = syncService.changesSince(second.nextToken(), 2).orElseThrow();
+        assertThat(third.words()).extracting(WordChangeDto::word).containsExactly("give up");
+        assertThat(third.tombstones()).isEmpty();
+    }
+
+    @Test
+    void reportsEachTombstoneOnce() {
+        insertTombstone("SENTENCE", 11L, now.minusHours(1));
+        insertTombstone("WORD", 3L, now.minusMinutes(30));
+
+        SyncResponseDto first = syncService.changesSince(null, 10).orElseThrow();
+        assertThat(first.tombstones()).extracting(TombstoneDto::type, TombstoneDto::entityId)
+                .containsExactly(tuple("SENTENCE", 11L), tuple("WORD", 3L));
+
+        insertTombstone("MEANING", 7L, now.minusMinutes(1));
+        SyncResponseDto second = syncService.changesSince(first.nextToken(), 10).orElseThrow();
+        assertThat(second.tombstones()).extracting(TombstoneDto::entityId).containsExactly(7L);
+        assertThat(second.words()).isEmpty();
+    }
+
+    @Test
+    void rejectsMalformedTokensAndExpiresTokensOlderThanTheRetention() {
+        String epoch = "1970-01-01T00:00";
+        assertThatIllegalArgumentException().isThrownBy(() -> syncService.changesSince(
+                token("v1", "yesterday", epoch, "0", epoch, "0", epoch, "0", "0"), 10));
+        assertThatIllegalArgumentException().isThrownBy(() -> syncService.changesSince(token("v0"), 10));
+
+        String issuedAt = now.minusDays(91).toString();
+        assertThat(syncService.changesSince(token("v1", issuedAt, issuedAt, "1", epoch, "0", epoch, "0", "0"), 10)).isEmpty();
+    }
+
+    private void insertWord(String word, LocalDateTime updatedAt) {
+        entityManager.createNativeQuery("INSERT INTO word (word, is_phrasal_verb, created_at, updated_at) VALUES (?, FALSE, ?, ?)")
+                .setParameter(1, word).setParameter(2, updatedAt).setParameter(3, updatedAt).executeUpdate();
+    }
+
+    private void insertTombstone(String type, long entityId, LocalDateTime deletedAt) {
+        entityManager.createNativeQuery("INSERT INTO sync_tombstone (entity_type, entity_id, deleted_at) VALUES (?, ?, ?)")
+                .setParameter(1, type).setParameter(2, entityId).setParameter(3, deletedAt).executeUpdate();
+    }
+
+    private static String token(String... parts) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join("|", parts).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.config.WordCacheProperties;
+import com.example.englishlearningbackend.dto.WordDetailDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WordDetailCacheTest {
+    private static final WordDetailDto STOP_BY = new WordDetailDto(7L, "Stop by", true, List.of(), List.of());
+
+    private final WordDetailCache cache = new WordDetailCache(new WordCacheProperties(100, Duration.ofHours(1), Duration.ofMinutes(1)));
+    private final List<String> loaded = new ArrayList<>();
+
+    @Test
+    void loadsTheRequestedSpellingAndSharesTheEntryAcrossCase() {
+        assertThat(cache.get("stop by", this::caseSensitiveLoad)).isEmpty();
+        assertThat(cache.get("Stop by", this::caseSensitiveLoad)).contains(STOP_BY);
+        assertThat(cache.get("STOP  BY", this::caseSensitiveLoad)).contains(STOP_BY);
+
+        assertThat(loaded).containsExactly("stop by", "Stop by");
+    }
+
+    @Test
+    void invalidatesByIdAfterTheWordIsRenamed() {
+        cache.get("Stop by", this::caseSensitiveLoad);
+        cache.invalidateById(STOP_BY.id());
+        cache.get("Stop by", this::caseSensitiveLoad);
+
+        assertThat(loaded).containsExactly("Stop by", "Stop by");
+        assertThat(cache.getNativeCache().estimatedSize()).isEqualTo(1);
+    }
+
+    @Test
+    void loadsEachMissingSpellingOnceUntilTheWordChanges() {
+        assertThat(cache.get("Drop by", this::caseSensitiveLoad)).isEmpty();
+        assertThat(cache.get("Drop by", this::caseSensitiveLoad)).isEmpty();
+        assertThat(cache.get("drop by", this::caseSensitiveLoad)).isEmpty();
+        assertThat(cache.get("DROP BY", this::caseSensitiveLoad)).isEmpty();
+        assertThat(cache.get("DROP BY", this::caseSensitiveLoad)).isEmpty();
+        assertThat(loaded).containsExactly("Drop by", "DROP BY");
+
+        cache.invalidate("drop by");
+        cache.get("DROP BY", this::caseSensitiveLoad);
+        cache.get("Drop by", this::caseSensitiveLoad);
+        assertThat(loaded).containsExactly("Drop by", "DROP BY", "DROP BY", "Drop by");
+    }
+
+    private Optional<WordDetailDto> caseSensitiveLoad(String word) {
+        loaded.add(word);
+        return word.equals(STOP_BY.word()) ? Optional.of(STOP_BY) : Optional.empty();
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.dto.WordDetailDto;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:word-detail;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(WordDetailLoader.class)
+class WordDetailLoaderTest {
+    private static final int MEANINGS = 20;
+    private static final int SENTENCES = 50;
+
+    @Autowired
+    private WordDetailLoader loader;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (String word : List.of("Stop by", "Swing by")) {
+            entityManager.createNativeQuery("INSERT INTO word (word, is_phrasal_verb) VALUES (?, TRUE)")
+                    .setParameter(1, word).executeUpdate();
+            Number id = (Number) entityManager.createNativeQuery("SELECT id FROM word WHERE word = ?")
+                    .setParameter(1, word).getSingleResult();
+            for (int i = 0; i < MEANINGS; i++) {
+                entityManager.createNativeQuery("INSERT INTO meaning (word_id, meaning) VALUES (?, ?)")
+                        .setParameter(1, id).setParameter(2, word + " meaning " + i).executeUpdate();
+            }
+            for (int i = 0; i < SENTENCES; i++) {
+                entityManager.createNativeQuery("INSERT INTO sentence (word_id, sentence, translated_sentence) VALUES (?, ?, ?)")
+                        .setParameter(1, id).setParameter(2, word + " sentence " + i).setParameter(3, "번역 " + i)
+                        .executeUpdate();
+            }
+        }
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void loadsDetailsWithoutCartesianProduct() {
+        WordDetailDto detail = loader.load("Stop by").orElseThrow();
+
+        assertThat(detail.meanings()).hasSize(MEANINGS);
+        assertThat(detail.sentences()).hasSize(SENTENCES);
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(3);
+        assertThat(rowsFetched()).isEqualTo(1 + MEANINGS + SENTENCES);
+
+        Number joinedRows = (Number) entityManager.createNativeQuery(
+                "SELECT COUNT(*) FROM word w LEFT JOIN meaning m ON m.word_id = w.id " +
+                        "LEFT JOIN sentence s ON s.word_id = w.id WHERE w.word = 'Stop by'").getSingleResult();
+        assertThat(joinedRows.longValue()).isEqualTo((long) MEANINGS * SENTENCES);
+    }
+
+    @Test
+    void batchLoadsSeveralWordsInThreeQueries() {
+        List<Long> ids = entityManager.createQuery("SELECT w.id FROM Word w", Long.class).getResultList();
+        statistics.clear();
+
+        Map<Long, WordDetailDto> details = loader.loadAll(ids);
+
+        assertThat(details).hasSize(2);
+        assertThat(details.values()).allSatisfy(d -> {
+            assertThat(d.meanings()).hasSize(MEANINGS);
+            assertThat(d.sentences()).hasSize(SENTENCES);
+        });
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(3);
+        assertThat(rowsFetched()).isEqualTo(2L * (1 + MEANINGS + SENTENCES));
+    }
+
+    private long rowsFetched() {
+        return Arrays.stream(statistics.getQueries())
+                .mapToLong(q -> statistics.getQueryStatistics(q).getExecutionRowCount())
+                .sum();
+    }
+}
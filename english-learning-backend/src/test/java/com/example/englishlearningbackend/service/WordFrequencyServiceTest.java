@@ -0,0 +1,117 @@
+package com.example.englishlearningbackend.service;
+
+import com.example.englishlearningbackend.config.WordFrequencyProperties;
+import com.example.englishlearningbackend.dto.WordPageDto;
+import com.example.englishlearningbackend.dto.WordSummaryDto;
+import com.example.englishlearningbackend.event.FrequencyRanksUpdatedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WordFrequencyServiceTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private final List<Object> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V1__init.sql"));
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/migration/V13__create_word_frequency_tables.sql"));
+        }
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        for (String word : List.of("take", "make", "give up", "rare")) {
+            jdbcTemplate.update("INSERT INTO word (word, is_phrasal_verb) VALUES (?, ?)", word, word.contains(" "));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    void ranksWordsByFrequencyAndRestoresCountsAfterRestart() {
+        WordFrequencyService service = start();
+        service.record(List.of(2L, 2L, 2L, 1L, 1L, 3L));
+        service.snapshot();
+
+        assertThat(service.rank(2)).isEqualTo(1);
+        assertThat(service.rank(1)).isEqualTo(2);
+        assertThat(service.rank(3)).isEqualTo(3);
+        assertThat(service.rank(4)).isEqualTo(Integer.MAX_VALUE);
+        WordPageDto page = service.getWords(0, 2);
+        assertThat(page.items()).extracting(WordSummaryDto::word).containsExactly("make", "take");
+        WordPageDto next = service.getWords(page.nextCursor(), 2);
+        assertThat(next.items()).extracting(WordSummaryDto::word).containsExactly("give up", "rare");
+        assertThat(service.getWords(next.nextCursor(), 2).items()).isEmpty();
+
+        WordFrequencyService restarted = start();
+        assertThat(restarted.rank(2)).isEqualTo(1);
+        restarted.record(List.of(3L, 3L, 3L));
+        restarted.snapshot();
+
+        assertThat(restarted.rank(3)).isEqualTo(1);
+        assertThat(restarted.rank(2)).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject("SELECT frequency FROM word_frequency WHERE word_id = 3", Long.class)).isEqualTo(4);
+        assertThat(events).hasAtLeastOneElementOfType(FrequencyRanksUpdatedEvent.class);
+    }
+
+    @Test
+    void listsUnrankedWordsAfterTheRankedOnes() {
+        WordFrequencyService service = start();
+        service.record(List.of(3L));
+        service.snapshot();
+
+        WordPageDto first = service.getWords(0, 2);
+        assertThat(first.items()).extracting(WordSummaryDto::word).containsExactly("give up", "take");
+        WordPageDto second = service.getWords(first.nextCursor(), 2);
+        assertThat(second.items()).extracting(WordSummaryDto::word).containsExactly("make", "rare");
+        assertThat(second.nextCursor()).isEqualTo(-4);
+        assertThat(service.getWords(second.nextCursor(), 2).items()).isEmpty();
+    }
+
+    @Test
+    void resizesTopWordsWhenTheirCapacityChanged() {
+        WordFrequencyService service = start();
+        service.record(List.of(2L, 2L, 1L));
+        service.snapshot();
+
+        WordFrequencyService resized = start(5);
+        assertThat(resized.rank(2)).isEqualTo(1);
+        resized.record(List.of(1L, 1L));
+        resized.snapshot();
+        assertThat(resized.rank(1)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT frequency FROM word_frequency WHERE word_id = 1", Long.class)).isEqualTo(3);
+    }
+
+    private WordFrequencyService start() {
+        return start(10);
+    }
+
+    private WordFrequencyService start(int topK) {
+        WordFrequencyService started = new WordFrequencyService(jdbcTemplate,
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                null,
+                events::add,
+                new WordFrequencyProperties(1024, 4, topK));
+        started.load();
+        return started;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.englishlearningbackend.snapshot;
+
+import com.example.englishlearningbackend.dto.MeaningDto;
+import com.example.englishlearningbackend.dto.SentenceDto;
+import com.example.englishlearningbackend.dto.WordDetailDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DictionarySnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripsWordsThroughMappedFile() throws IOException {
+        List<WordDetailDto> words = List.of(
+                new WordDetailDto(1L, "Stop by", true,
+                        List.of(new MeaningDto(10L, "(~에) 잠시 들르다")),
+                        List.of(new SentenceDto(100L, "Can you stop by the store?", "가게에 들러줄래요?"),
+                                new SentenceDto(101L, "Stop by anytime.", null))),
+                new WordDetailDto(300L, "Store", false, List.of(), List.of()),
+                new WordDetailDto(70_000L, "Swing by", true,
+                        List.of(new MeaningDto(11L, "(~에) 잠시 들르다")),
+                        List.of()));
+        Path file = dir.resolve("snapshot.bin");
+
+        try (DictionarySnapshotWriter writer = new DictionarySnapshotWriter(file, 42L)) {
+            for (WordDetailDto word : words) {
+                writer.write(word);
+            }
+        }
+        DictionarySnapshotReader reader = DictionarySnapshotReader.open(file);
+        List<WordDetailDto> read = new ArrayList<>();
+        reader.forEach(read::add);
+
+        assertThat(reader.version()).isEqualTo(42L);
+        assertThat(reader.wordCount()).isEqualTo(3);
+        assertThat(read).isEqualTo(words);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.englishlearningbackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvReaderTest {
+
+    @Test
+    void readsQuotedFieldsAcrossLines() {
+        String csv = "Stop by,true,(~에) 잠시 들르다,\"Can you stop by, \"\"please\"\"?\",가게에 들러\r\n" +
+                "Turn up,,,\"line one\nline two\",\n";
+        List<List<String>> rows = new ArrayList<>();
+        new CsvReader(new BufferedReader(new StringReader(csv))).forEachRemaining(rows::add);
+
+        assertThat(rows).containsExactly(
+                List.of("Stop by", "true", "(~에) 잠시 들르다", "Can you stop by, \"please\"?", "가게에 들러"),
+                List.of("Turn up", "", "", "line one\nline two", ""));
+    }
+}
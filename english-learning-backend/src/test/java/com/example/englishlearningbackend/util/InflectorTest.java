@@ -0,0 +1,34 @@
+package com.example.englishlearningbackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InflectorTest {
+
+    @Test
+    void appliesRegularSpellingRules() {
+        assertThat(Inflector.verbForms("stop")).containsExactly("stop", "stops", "stopping", "stopped");
+        assertThat(Inflector.verbForms("carry")).containsExactly("carry", "carries", "carrying", "carried");
+        assertThat(Inflector.verbForms("make")).contains("makes", "making", "made");
+        assertThat(Inflector.verbForms("look")).containsExactly("look", "looks", "looking", "looked");
+        assertThat(Inflector.verbForms("fix")).contains("fixes", "fixing", "fixed");
+    }
+
+    @Test
+    void doublesOnlyStressedFinalSyllables() {
+        assertThat(Inflector.verbForms("admit")).containsExactly("admit", "admits", "admitting", "admitted");
+        assertThat(Inflector.verbForms("refer")).contains("referring", "referred");
+        assertThat(Inflector.verbForms("control")).contains("controlling", "controlled");
+        assertThat(Inflector.verbForms("visit")).contains("visiting", "visited");
+        assertThat(Inflector.verbForms("offer")).contains("offering", "offered");
+    }
+
+    @Test
+    void usesIrregularTable() {
+        assertThat(Inflector.verbForms("swing")).containsExactly("swing", "swings", "swinging", "swung");
+        assertThat(Inflector.verbForms("go")).containsExactly("go", "goes", "going", "went", "gone");
+        assertThat(Inflector.verbForms("lie")).contains("lying", "lay", "lain", "lied");
+        assertThat(Inflector.verbForms("be")).contains("is", "was", "were", "been", "being");
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.englishlearningbackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SentenceSplitterTest {
+
+    @Test
+    void splitsOnTerminalPunctuationButNotAbbreviations() {
+        String text = "Mr. Biden arrived at 9 a.m. in the U.S. capital. \"Can you drop by?\" she asked!  "
+                + "Officials, e.g. J. Smith, declined.\n\nBREAKING headline without a period\nnext line";
+
+        assertThat(SentenceSplitter.split(text).stream().map(s -> text.substring(s.start(), s.end())))
+                .containsExactly(
+                        "Mr. Biden arrived at 9 a.m. in the U.S. capital.",
+                        "\"Can you drop by?\" she asked!",
+                        "Officials, e.g. J. Smith, declined.",
+                        "BREAKING headline without a period\nnext line");
+    }
+}
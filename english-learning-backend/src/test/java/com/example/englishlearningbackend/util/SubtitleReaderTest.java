@@ -0,0 +1,41 @@
+package com.example.englishlearningbackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubtitleReaderTest {
+
+    @Test
+    void readsSrtCues() {
+        String srt = "\uFEFF1\n00:00:01,000 --> 00:00:03,500\n<i>Can you drop by</i>\nlater?\n\n"
+                + "2\n00:00:04,000 --> 00:00:05,250\nSure.\n";
+
+        assertThat(read(srt)).containsExactly(
+                new SubtitleReader.Cue(1000, 3500, "Can you drop by later?"),
+                new SubtitleReader.Cue(4000, 5250, "Sure."));
+    }
+
+    @Test
+    void readsVttCuesAndSkipsHeaderNotesAndSettings() {
+        String vtt = "WEBVTT - sample\n\nNOTE this is a comment\n00:00:00.000 --> 00:00:01.000\n\n"
+                + "STYLE\n::cue { color: red }\n\n"
+                + "intro\n00:01.500 --> 00:02.750 align:start position:10%\n<v Anna>Look it up.\n\n"
+                + "01:00:00.1 --> 01:00:02.000\nBye\n";
+
+        assertThat(read(vtt)).containsExactly(
+                new SubtitleReader.Cue(1500, 2750, "Look it up."),
+                new SubtitleReader.Cue(3_600_100, 3_602_000, "Bye"));
+    }
+
+    private static List<SubtitleReader.Cue> read(String text) {
+        List<SubtitleReader.Cue> cues = new ArrayList<>();
+        new SubtitleReader(new BufferedReader(new StringReader(text))).forEachRemaining(cues::add);
+        return cues;
+    }
+}
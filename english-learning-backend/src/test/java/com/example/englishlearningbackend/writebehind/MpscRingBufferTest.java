@@ -0,0 +1,72 @@
+package com.example.englishlearningbackend.writebehind;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MpscRingBufferTest {
+
+    @Test
+    void acceptsBatchesWholeOrNotAtAll() {
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(6);
+        assertThat(buffer.capacity()).isEqualTo(8);
+
+        assertThat(buffer.offerAll(List.of(1, 2, 3, 4, 5))).isTrue();
+        assertThat(buffer.offerAll(List.of(6, 7, 8, 9))).isFalse();
+        assertThat(buffer.size()).isEqualTo(5);
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained::add, 2)).isEqualTo(2);
+        assertThat(buffer.offerAll(List.of(6, 7, 8, 9, 10))).isTrue();
+        buffer.drainTo(drained::add, Integer.MAX_VALUE);
+
+        assertThat(drained).containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void keepsEachProducersOrderUnderContention() throws Exception {
+        int producers = 4;
+        int batches = 20_000;
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(64);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean done = new AtomicBoolean();
+        List<Thread> threads = IntStream.range(0, producers).mapToObj(p -> Thread.ofPlatform().start(() -> {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            for (long i = 0; i < batches; i++) {
+                List<long[]> batch = List.of(new long[]{p, 2 * i}, new long[]{p, 2 * i + 1});
+                while (!buffer.offerAll(batch)) {
+                    Thread.onSpinWait();
+                }
+            }
+        })).toList();
+
+        long[] next = new long[producers];
+        start.countDown();
+        Thread consumer = Thread.ofPlatform().start(() -> {
+            while (!done.get() || buffer.size() > 0) {
+                buffer.drainTo(item -> {
+                    assertThat(item[1]).isEqualTo(next[(int) item[0]]);
+                    next[(int) item[0]]++;
+                }, 16);
+            }
+        });
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        done.set(true);
+        consumer.join();
+
+        assertThat(next).containsOnly(2L * batches);
+    }
+}
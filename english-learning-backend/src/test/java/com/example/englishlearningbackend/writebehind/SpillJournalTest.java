@@ -0,0 +1,92 @@
+package com.example.englishlearningbackend.writebehind;
+
+import com.example.englishlearningbackend.dto.StudyEventType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpillJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysRecordsAfterASequenceAcrossReopen() throws IOException {
+        String id;
+        try (SpillJournal journal = SpillJournal.open(directory, 1024)) {
+            id = journal.id();
+            assertThat(journal.append(events(1, 3))).isEqualTo(1);
+            assertThat(journal.append(events(4, 5))).isEqualTo(4);
+        }
+        try (SpillJournal journal = SpillJournal.open(directory, 1024)) {
+            assertThat(journal.id()).isEqualTo(id);
+            assertThat(journal.lastSequence()).isEqualTo(5);
+            assertThat(wordIds(journal, 2)).containsExactly(3L, 4L, 5L);
+        }
+    }
+
+    @Test
+    void cutsOffATornTail() throws IOException {
+        try (SpillJournal journal = SpillJournal.open(directory, 1024)) {
+            journal.append(events(1, 3));
+        }
+        Path segment = segments().getLast();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(Files.size(segment) - 3);
+        }
+
+        try (SpillJournal journal = SpillJournal.open(directory, 1024)) {
+            assertThat(journal.lastSequence()).isEqualTo(2);
+            journal.append(events(3, 3));
+            assertThat(wordIds(journal, 0)).containsExactly(1L, 2L, 3L);
+        }
+    }
+
+    @Test
+    void deletesSegmentsOnceEveryRecordIsCheckpointed() throws IOException {
+        try (SpillJournal journal = SpillJournal.open(directory, 100)) {
+            for (long i = 1; i <= 10; i += 2) {
+                journal.append(events(i, i + 1));
+            }
+            assertThat(segments()).hasSize(5);
+
+            journal.checkpoint(4);
+            assertThat(segments()).hasSize(3);
+            assertThat(wordIds(journal, 4)).containsExactly(5L, 6L, 7L, 8L, 9L, 10L);
+
+            journal.checkpoint(10);
+            assertThat(segments()).hasSize(1);
+            assertThat(journal.lastSequence()).isEqualTo(10);
+            assertThat(journal.bytes()).isEqualTo(Files.size(segments().getFirst()));
+        }
+    }
+
+    private static List<StudyEvent> events(long fromWord, long toWord) {
+        return LongStream.rangeClosed(fromWord, toWord)
+                .mapToObj(w -> new StudyEvent("learner-1", StudyEventType.WORD_VIEWED, w, 0, 1_700_000_000_000L + w))
+                .toList();
+    }
+
+    private static List<Long> wordIds(SpillJournal journal, long afterSequence) throws IOException {
+        List<Long> wordIds = new ArrayList<>();
+        journal.replay(afterSequence, entry -> wordIds.add(entry.event().wordId()));
+        return wordIds;
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(f -> f.toString().endsWith(".seg")).sorted().toList();
+        }
+    }
+}